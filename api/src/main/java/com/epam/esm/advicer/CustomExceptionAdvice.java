@@ -2,6 +2,10 @@ package com.epam.esm.advicer;
 
 import com.epam.esm.exception.CustomErrorCode;
 import com.epam.esm.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
@@ -20,17 +24,28 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class represent spring advice to catch exceptions and wrap them into custom ExceptionResponse.
  */
 @RestControllerAdvice
 public class CustomExceptionAdvice {
 
+    static final String ERROR_COUNTER = "esm.errors";
+    static final String CODE_TAG = "code";
+    static final String STATUS_TAG = "status";
+
     private ResourceBundleMessageSource messageSource;
+    private MeterRegistry registry;
+    private Map<Integer, Counter> errorCounters = new ConcurrentHashMap<>();
 
     @Autowired
-    public CustomExceptionAdvice(ResourceBundleMessageSource messageSource) {
+    public CustomExceptionAdvice(ResourceBundleMessageSource messageSource,
+                                 ObjectProvider<MeterRegistry> registryProvider) {
         this.messageSource = messageSource;
+        this.registry = registryProvider.getIfAvailable(() -> Metrics.globalRegistry);
     }
 
     /**
@@ -45,6 +60,7 @@ public class CustomExceptionAdvice {
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale()) + e.getMessage();
         HttpStatus httpStatus = e.getCustomErrorCode().getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -62,6 +78,7 @@ public class CustomExceptionAdvice {
                 null, LocaleContextHolder.getLocale())
                 + e.getMessage();
         HttpStatus httpStatus = CustomErrorCode.INTERNAL_SERVER_EXCEPTION.getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -79,6 +96,7 @@ public class CustomExceptionAdvice {
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale()) + e.getMethod() + ".";
         HttpStatus httpStatus = CustomErrorCode.METHOD_NOT_SUPPORTED.getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -96,6 +114,7 @@ public class CustomExceptionAdvice {
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale());
         HttpStatus httpStatus = CustomErrorCode.TYPE_MISMATCH.getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -113,6 +132,7 @@ public class CustomExceptionAdvice {
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale());
         HttpStatus httpStatus = CustomErrorCode.NOT_READABLE.getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -130,6 +150,7 @@ public class CustomExceptionAdvice {
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale());
         HttpStatus httpStatus = CustomErrorCode.UNSUPPORTED_MEDIA_TYPE.getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -147,6 +168,7 @@ public class CustomExceptionAdvice {
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale()) + e.getParameterName() + ".";
         HttpStatus httpStatus = CustomErrorCode.MISSING_PARAMETER.getHttpStatus();
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
@@ -168,7 +190,16 @@ public class CustomExceptionAdvice {
         }
         String message = messageSource.getMessage(String.valueOf(errorCode),
                 null, LocaleContextHolder.getLocale());
+        countError(errorCode, httpStatus);
         ExceptionResponse exceptionResponse = new ExceptionResponse(message, errorCode);
         return new ResponseEntity<>(exceptionResponse, httpStatus);
     }
+
+    private void countError(int errorCode, HttpStatus httpStatus) {
+        errorCounters.computeIfAbsent(errorCode, code -> Counter.builder(ERROR_COUNTER)
+                        .tag(CODE_TAG, String.valueOf(code))
+                        .tag(STATUS_TAG, String.valueOf(httpStatus.value()))
+                        .register(registry))
+                .increment();
+    }
 }
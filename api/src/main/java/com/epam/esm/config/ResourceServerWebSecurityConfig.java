@@ -2,7 +2,20 @@ package com.epam.esm.config;
 
 import com.epam.esm.advicer.ExceptionResponse;
 import com.epam.esm.exception.CustomErrorCode;
+import com.epam.esm.security.CachingJwtAuthenticationManager;
+import com.epam.esm.security.RateLimitFilter;
+import com.epam.esm.security.RefreshingJwkSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
@@ -11,8 +24,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 
@@ -20,6 +37,10 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Class represent security configuration.
@@ -30,6 +51,24 @@ public class ResourceServerWebSecurityConfig extends WebSecurityConfigurerAdapte
 
     private static final String PREFIX = "";
     private  static final String AUTHORITY_KEY = "authorities";
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private String jwkSetUri;
+    private long jwksMinRefetchMs;
+    private long tokenCacheSize;
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    public ResourceServerWebSecurityConfig(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${esm.jwt.jwks-min-refetch-ms:30000}") long jwksMinRefetchMs,
+            @Value("${esm.jwt.token-cache-size:10000}") long tokenCacheSize,
+            RateLimitFilter rateLimitFilter) {
+        this.jwkSetUri = jwkSetUri;
+        this.jwksMinRefetchMs = jwksMinRefetchMs;
+        this.tokenCacheSize = tokenCacheSize;
+        this.rateLimitFilter = rateLimitFilter;
+    }
 
     @Override
     public void configure(HttpSecurity http) throws Exception {
@@ -42,9 +81,49 @@ public class ResourceServerWebSecurityConfig extends WebSecurityConfigurerAdapte
                 .and()
                 .exceptionHandling().accessDeniedHandler(getAccessDeniedHandler())
                 .and()
+                // metrics reveal internals, only health is public
+                .authorizeRequests()
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAuthority(ADMIN_AUTHORITY)
+                .anyRequest().permitAll()
+                .and()
                 .oauth2ResourceServer()
                 .jwt()
-                .jwtAuthenticationConverter(getJwtAuthenticationConverter());
+                .authenticationManager(getJwtAuthenticationManager())
+                .and()
+                .and()
+                .addFilterAfter(rateLimitFilter, BearerTokenAuthenticationFilter.class);
+    }
+
+    /**
+     * Rate limit filter runs inside security filter chain only, after authentication.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public RefreshingJwkSource jwkSource() throws MalformedURLException {
+        return new RefreshingJwkSource(new URL(jwkSetUri), Duration.ofMillis(jwksMinRefetchMs));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder() throws MalformedURLException {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource()));
+        // claims are validated by NimbusJwtDecoder
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    private CachingJwtAuthenticationManager getJwtAuthenticationManager() throws MalformedURLException {
+        JwtAuthenticationProvider authenticationProvider = new JwtAuthenticationProvider(jwtDecoder());
+        authenticationProvider.setJwtAuthenticationConverter(getJwtAuthenticationConverter());
+        return new CachingJwtAuthenticationManager(authenticationProvider, tokenCacheSize, Clock.systemUTC());
     }
 
     private JwtAuthenticationConverter getJwtAuthenticationConverter() {
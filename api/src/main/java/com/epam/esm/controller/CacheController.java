@@ -0,0 +1,37 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.service.CacheService;
+import com.epam.esm.service.dto.CacheRegionDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Rest controller represent read operation on the second-level cache statistics
+ */
+@RestController
+@RequestMapping(value = "/caches")
+public class CacheController {
+
+    private CacheService service;
+
+    @Autowired
+    public CacheController(CacheService service) {
+        this.service = service;
+    }
+
+    /**
+     * Method to get hit/miss statistics of all second-level cache regions
+     *
+     * @return list of region statistics as CacheRegionDto
+     */
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @GetMapping
+    public List<CacheRegionDto> findAllRegionStatistics() {
+        return service.findAllRegionStatistics();
+    }
+}
@@ -1,10 +1,16 @@
 package com.epam.esm.controller;
 
 import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.enumeration.SortingType;
 import com.epam.esm.enumeration.UserRole;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.CertificateService;
+import com.epam.esm.service.VersionedQuery;
+import com.epam.esm.service.VersionedReadService;
 import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.PageDto;
+import com.epam.esm.util.ContinuationToken;
+import com.epam.esm.util.VersionTags;
 import com.epam.esm.util.impl.AdminCollectionLinkCreator;
 import com.epam.esm.util.impl.AdminSingleEntityLinkCreator;
 import com.epam.esm.util.impl.CommonCollectionLinkCreator;
@@ -29,10 +35,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Rest controller represent CRUD operation on the GiftCertificate
@@ -44,6 +52,7 @@ public class CertificateController {
     private static final String ROLE_CLAIM_KEY = "authorities";
 
     private CertificateService service;
+    private VersionedReadService readService;
     private AdminSingleEntityLinkCreator adminSingleEntityLinkCreator;
     private CommonSingleEntityLinkCreator commonSingleEntityLinkCreator;
     private AdminCollectionLinkCreator adminCollectionLinkCreator;
@@ -51,11 +60,13 @@ public class CertificateController {
 
     @Autowired
     public CertificateController(CertificateService service,
+                                 VersionedReadService readService,
                                  AdminSingleEntityLinkCreator adminSingleEntityLinkCreator,
                                  CommonSingleEntityLinkCreator commonSingleEntityLinkCreator,
                                  AdminCollectionLinkCreator adminCollectionLinkCreator,
                                  CommonCollectionLinkCreator commonCollectionLinkCreator) {
         this.service = service;
+        this.readService = readService;
         this.adminSingleEntityLinkCreator = adminSingleEntityLinkCreator;
         this.commonSingleEntityLinkCreator = commonSingleEntityLinkCreator;
         this.adminCollectionLinkCreator = adminCollectionLinkCreator;
@@ -67,14 +78,21 @@ public class CertificateController {
      *
      * @param jwt access token
      * @param id GiftCertificate id
+     * @param request web request with conditional headers
      * @return GiftCertificateDto
      * @throws CustomException - if GiftCertificate was not found or id has not valid value;
      */
     @GetMapping(value = "/{id}")
     public CertificateDto findCertificate(@AuthenticationPrincipal Jwt jwt,
-                                          @PathVariable("id") long id) throws CustomException {
-        CertificateDto certificate = service.findById(id);
-        List<Link> links = (jwt != null && ((JSONArray)jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name()))
+                                          @PathVariable("id") long id,
+                                          WebRequest request) throws CustomException {
+        boolean isAdmin = isAdmin(jwt);
+        Optional<CertificateDto> found = findIfModified(request, isAdmin, () -> service.findById(id));
+        if (found.isEmpty()) {
+            return null;
+        }
+        CertificateDto certificate = found.get();
+        List<Link> links = isAdmin
                 ? adminSingleEntityLinkCreator.createLinks(certificate)
                 : commonSingleEntityLinkCreator.createLinks(certificate);
         return certificate.add(links);
@@ -86,6 +104,7 @@ public class CertificateController {
      * @param jwt access token
      * @param page - page
      * @param size - page size
+     * @param request web request with conditional headers
      * @return CollectionModel consist of list of GiftCertificateDto or empty list if was not found anyone GiftCertificate
      * and links to previous and nex pages.
      * @throws CustomException - if page or size has not valid value;
@@ -94,16 +113,57 @@ public class CertificateController {
     public CollectionModel<CertificateDto> findAllCertificates(
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam(name = "page", defaultValue = "1", required = false) int page,
-            @RequestParam(name = "size", defaultValue = "10", required = false) int size)
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            WebRequest request)
             throws CustomException {
-        List<CertificateDto> certificates = service.findAll(page, size);
-        int lastPage = service.findAllLastPage(size);
-        List<Link> links = (jwt != null && ((JSONArray)jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name()))
+        boolean isAdmin = isAdmin(jwt);
+        Optional<PageDto<CertificateDto>> found = findIfModified(request, isAdmin,
+                () -> service.findAllPage(page, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        PageDto<CertificateDto> certificatesPage = found.get();
+        List<CertificateDto> certificates = certificatesPage.getContent();
+        int lastPage = certificatesPage.getLastPage();
+        List<Link> links = isAdmin
                 ? adminCollectionLinkCreator.createLinksCertificates(certificates, page, size, lastPage)
                 : commonCollectionLinkCreator.createLinksCertificates(certificates, page, size, lastPage);
         return CollectionModel.of(certificates, links);
     }
 
+    /**
+     * Method to get GiftCertificate list with tags as CertificateDto list with keyset (seek) pagination.
+     * Latency of such request does not depend on page depth.
+     *
+     * @param jwt    access token
+     * @param cursor continuation token from nextPage link or empty value for the first page
+     * @param size   - page size
+     * @param request web request with conditional headers
+     * @return CollectionModel consist of list of GiftCertificateDto or empty list if was not found anyone GiftCertificate
+     * and link to the next page.
+     * @throws CustomException - if cursor or size has not valid value;
+     */
+    @GetMapping(params = {"cursor", "!tags"})
+    public CollectionModel<CertificateDto> findAllCertificatesByCursor(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            WebRequest request)
+            throws CustomException {
+        boolean isAdmin = isAdmin(jwt);
+        Optional<List<CertificateDto>> found = findIfModified(request, isAdmin,
+                () -> service.findAllByCursor(cursor, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        List<CertificateDto> certificates = found.get();
+        String nextCursor = ContinuationToken.encodeNext(certificates, size, SortingType.DATE_ASC);
+        List<Link> links = isAdmin
+                ? adminCollectionLinkCreator.createLinksCertificates(certificates, cursor, nextCursor, size)
+                : commonCollectionLinkCreator.createLinksCertificates(certificates, cursor, nextCursor, size);
+        return CollectionModel.of(certificates, links);
+    }
+
     /**
      * Method to delete GiftCertificate by id
      *
@@ -166,6 +226,7 @@ public class CertificateController {
      * @param name   part of certificate name
      * @param description part of certificate description
      * @param sortBy sorting type.
+     * @param request web request with conditional headers
      * @return CollectionModel consist of GiftCertificateDto list or empty list if was not found anyone GiftCertificate
      * and links to previous and nex pages.
      * @throws CustomException if parameters map has not valid value;
@@ -178,12 +239,20 @@ public class CertificateController {
             @RequestParam(name = "tag", required = false) String tag,
             @RequestParam(name = "name", required = false) String name,
             @RequestParam(name = "description", required = false) String description,
-            @RequestParam(name = "sort_by", defaultValue = "date.asc", required = false) String sortBy
+            @RequestParam(name = "sort_by", defaultValue = "date.asc", required = false) String sortBy,
+            WebRequest request
     ) throws CustomException {
+        boolean isAdmin = isAdmin(jwt);
         Map<SearchParameterName, String> parameters = collectParamToMap(tag, name, description, sortBy);
-        List<CertificateDto> certificates = service.findAllByParameters(parameters, page, size);
-        int lastPage = service.findAllByParametersLastPage(parameters, size);
-        List<Link> links = (jwt != null && ((JSONArray)jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name()))
+        Optional<PageDto<CertificateDto>> found = findIfModified(request, isAdmin,
+                () -> service.findAllByParametersPage(parameters, page, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        PageDto<CertificateDto> certificatesPage = found.get();
+        List<CertificateDto> certificates = certificatesPage.getContent();
+        int lastPage = certificatesPage.getLastPage();
+        List<Link> links = isAdmin
                 ? adminCollectionLinkCreator.createLinksCertificates(certificates, tag, name, description,
                 sortBy, page, size, lastPage)
                 : commonCollectionLinkCreator.createLinksCertificates(certificates, tag, name, description,
@@ -191,11 +260,55 @@ public class CertificateController {
         return CollectionModel.of(certificates, links);
     }
 
+    /**
+     * Method to get GiftCertificate list with tags as GiftCertificateDto list by parameters
+     * with keyset (seek) pagination. Latency of such request does not depend on page depth.
+     *
+     * @param cursor      continuation token from nextPage link or empty value for the first page
+     * @param size        - page size
+     * @param tag         tag name
+     * @param name        part of certificate name
+     * @param description part of certificate description
+     * @param sortBy      sorting type.
+     * @param request web request with conditional headers
+     * @return CollectionModel consist of GiftCertificateDto list or empty list if was not found anyone GiftCertificate
+     * and link to the next page.
+     * @throws CustomException if parameters map or cursor has not valid value;
+     */
+    @GetMapping(value = "/search", params = "cursor")
+    public CollectionModel<CertificateDto> findAllCertificatesByParametersAndCursor(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            @RequestParam(name = "tag", required = false) String tag,
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "description", required = false) String description,
+            @RequestParam(name = "sort_by", defaultValue = "date.asc", required = false) String sortBy,
+            WebRequest request
+    ) throws CustomException {
+        boolean isAdmin = isAdmin(jwt);
+        Map<SearchParameterName, String> parameters = collectParamToMap(tag, name, description, sortBy);
+        Optional<List<CertificateDto>> found = findIfModified(request, isAdmin,
+                () -> service.findAllByParametersAndCursor(parameters, cursor, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        List<CertificateDto> certificates = found.get();
+        String nextCursor = ContinuationToken.encodeNext(certificates, size, SortingType.getSortingType(sortBy));
+        List<Link> links = isAdmin
+                ? adminCollectionLinkCreator.createLinksCertificates(certificates, tag, name, description,
+                sortBy, cursor, nextCursor, size)
+                : commonCollectionLinkCreator.createLinksCertificates(certificates, tag, name, description,
+                sortBy, cursor, nextCursor, size);
+        return CollectionModel.of(certificates, links);
+    }
+
     /**
      * Method to get pagination GiftCertificate list with tags as GiftCertificateDto list by tags.
      *
      * @param page - page
      * @param size - page size
+     * @param request web request with conditional headers
      * @return CollectionModel consist of list of GiftCertificateDto or empty list if was not found anyone GiftCertificate
      * and links to previous and nex pages.
      * @throws CustomException if the tag array has not valid value or page or size has not valid data;
@@ -205,16 +318,35 @@ public class CertificateController {
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam(name = "page", defaultValue = "1", required = false) int page,
             @RequestParam(name = "size", defaultValue = "10", required = false) int size,
-            @RequestParam(name = "tags") String[] tags)
+            @RequestParam(name = "tags") String[] tags,
+            WebRequest request)
             throws CustomException {
-        List<CertificateDto> certificates = service.findAllByTags(tags, page, size);
-        int lastPage = service.findAllByTagsLastPage(tags, size);
-        List<Link> links = (jwt != null && ((JSONArray)jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name()))
+        boolean isAdmin = isAdmin(jwt);
+        Optional<PageDto<CertificateDto>> found = findIfModified(request, isAdmin,
+                () -> service.findAllByTagsPage(tags, page, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        PageDto<CertificateDto> certificatesPage = found.get();
+        List<CertificateDto> certificates = certificatesPage.getContent();
+        int lastPage = certificatesPage.getLastPage();
+        List<Link> links = isAdmin
                 ? adminCollectionLinkCreator.createLinksCertificates(certificates, tags, page, size, lastPage)
                 : commonCollectionLinkCreator.createLinksCertificates(certificates, tags, page, size, lastPage);
         return CollectionModel.of(certificates, links);
     }
 
+    private boolean isAdmin(Jwt jwt) {
+        return jwt != null && ((JSONArray) jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name());
+    }
+
+    private <T> Optional<T> findIfModified(WebRequest request, boolean isAdmin, VersionedQuery<T> content)
+            throws CustomException {
+        String variant = isAdmin ? VersionTags.ADMIN : VersionTags.COMMON;
+        return readService.findIfModified(service::findCatalogVersion,
+                version -> request.checkNotModified(VersionTags.of(version, variant)), content);
+    }
+
     private Map<SearchParameterName, String> collectParamToMap(String tag, String name, String description, String sortBy) {
         Map<SearchParameterName, String> param = new HashMap<>();
         if (tag != null) param.put(SearchParameterName.TAG, tag);
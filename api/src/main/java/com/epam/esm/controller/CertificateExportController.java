@@ -0,0 +1,75 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.enumeration.ExportFormat;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.CertificateExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Semaphore;
+
+import static com.epam.esm.exception.CustomErrorCode.NOT_VALID_DATA;
+import static com.epam.esm.exception.CustomErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * Rest controller represent export of the whole GiftCertificates catalog
+ */
+@RestController
+@RequestMapping(value = "/certificates/export")
+public class CertificateExportController {
+
+    private static final String ATTACHMENT = "attachment; filename=certificates.";
+
+    private CertificateExportService service;
+    private Semaphore exports;
+
+    @Autowired
+    public CertificateExportController(CertificateExportService service,
+                                       @Value("${esm.export.max-concurrent:2}") int maxConcurrent) {
+        this.service = service;
+        this.exports = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Method to stream all active GiftCertificates as NDJSON or CSV.
+     * Response is written while GiftCertificates are read from database, without pagination.
+     * Export holds a database connection until the whole catalog is written,
+     * so quantity of concurrent exports of the application instance is limited.
+     *
+     * @param formatName output format: ndjson or csv
+     * @return response with streaming body
+     * @throws CustomException - if format has not valid value or too many exports are running;
+     */
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportCertificates(
+            @RequestParam(value = "format", defaultValue = "ndjson") String formatName) throws CustomException {
+        ExportFormat format = ExportFormat.getExportFormat(formatName)
+                .orElseThrow(() -> new CustomException("format=" + formatName, NOT_VALID_DATA));
+        if (!exports.tryAcquire()) {
+            throw new CustomException("export", TOO_MANY_REQUESTS);
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                service.exportAll(out, format);
+            } catch (CustomException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            } finally {
+                exports.release();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ATTACHMENT + format.getName())
+                .body(body);
+    }
+}
@@ -0,0 +1,79 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.enumeration.ImportFormat;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.CertificateImportService;
+import com.epam.esm.service.dto.ImportJobDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.Link;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+import static com.epam.esm.exception.CustomErrorCode.UNSUPPORTED_MEDIA_TYPE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Rest controller represent bulk import of the GiftCertificates
+ */
+@RestController
+@RequestMapping(value = "/certificates/imports")
+public class CertificateImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private CertificateImportService service;
+
+    @Autowired
+    public CertificateImportController(CertificateImportService service) {
+        this.service = service;
+    }
+
+    /**
+     * Method to start import of GiftCertificates from JSON array or CSV.
+     * Slot of import queue is reserved before request body is read, then the body (limited by esm.import.max-bytes)
+     * is copied to a temporary file and import runs in background.
+     *
+     * @param request http request with GiftCertificates in body
+     * @return accepted ResponseEntity with import job URI in Location header and its progress as ImportJobDto
+     * @throws CustomException - if content type is not supported, too many import jobs are queued
+     *                         or request body is too large;
+     * @throws IOException     - if request body can not be opened;
+     */
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<ImportJobDto> importCertificates(HttpServletRequest request)
+            throws CustomException, IOException {
+        String contentType = request.getContentType();
+        ImportFormat format = ImportFormat.getImportFormat(contentType)
+                .orElseThrow(() -> new CustomException("content type=" + contentType, UNSUPPORTED_MEDIA_TYPE));
+        ImportJobDto job = service.importCertificates(request.getInputStream(), format);
+        Link self = linkTo(methodOn(CertificateImportController.class).findImportJob(job.getId())).withSelfRel();
+        return ResponseEntity.accepted()
+                .location(self.toUri())
+                .body(job.add(self));
+    }
+
+    /**
+     * Method to get progress of import job
+     *
+     * @param id import job id
+     * @return progress of import job as ImportJobDto
+     * @throws CustomException - if id has not valid value or import job was not found;
+     */
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @GetMapping(value = "/{id}")
+    public ImportJobDto findImportJob(@PathVariable("id") Long id) throws CustomException {
+        ImportJobDto job = service.findJobById(id);
+        return job.add(linkTo(methodOn(CertificateImportController.class).findImportJob(id)).withSelfRel());
+    }
+}
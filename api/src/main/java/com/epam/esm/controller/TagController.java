@@ -3,7 +3,11 @@ package com.epam.esm.controller;
 import com.epam.esm.enumeration.UserRole;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.VersionedQuery;
+import com.epam.esm.service.VersionedReadService;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.util.VersionTags;
 import com.epam.esm.util.impl.AdminCollectionLinkCreator;
 import com.epam.esm.util.impl.AdminSingleEntityLinkCreator;
 import com.epam.esm.util.impl.CommonCollectionLinkCreator;
@@ -27,8 +31,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Rest controller represent CRD operation on the CustomTag
@@ -40,6 +46,7 @@ public class TagController {
     private static final String ROLE_CLAIM_KEY = "authorities";
 
     private TagService service;
+    private VersionedReadService readService;
     private AdminSingleEntityLinkCreator adminSingleEntityLinkCreator;
     private CommonSingleEntityLinkCreator commonSingleEntityLinkCreator;
     private AdminCollectionLinkCreator adminCollectionLinkCreator;
@@ -47,11 +54,13 @@ public class TagController {
 
     @Autowired
     public TagController(TagService service,
+                         VersionedReadService readService,
                          AdminSingleEntityLinkCreator adminSingleEntityLinkCreator,
                          CommonSingleEntityLinkCreator commonSingleEntityLinkCreator,
                          AdminCollectionLinkCreator adminCollectionLinkCreator,
                          CommonCollectionLinkCreator commonCollectionLinkCreator) {
         this.service = service;
+        this.readService = readService;
         this.adminSingleEntityLinkCreator = adminSingleEntityLinkCreator;
         this.commonSingleEntityLinkCreator = commonSingleEntityLinkCreator;
         this.adminCollectionLinkCreator = adminCollectionLinkCreator;
@@ -63,13 +72,19 @@ public class TagController {
      *
      * @param jwt access token
      * @param id CustomTag id
+     * @param request web request with conditional headers
      * @return CustomTag as TgDto
      * @throws CustomException - if CustomTag was not found or id has not valid value;
      */
     @GetMapping(value = "/{id}")
     public TagDto findTag(@AuthenticationPrincipal Jwt jwt,
-                          @PathVariable("id") long id) throws CustomException {
-        TagDto tag = service.findById(id);
+                          @PathVariable("id") long id,
+                          WebRequest request) throws CustomException {
+        Optional<TagDto> found = findIfModified(request, isAdmin(jwt), () -> service.findById(id));
+        if (found.isEmpty()) {
+            return null;
+        }
+        TagDto tag = found.get();
         List<Link> links = getSingleEntityLinksByRole(jwt, tag);
         return tag.add(links);
     }
@@ -80,6 +95,7 @@ public class TagController {
      * @param jwt access token
      * @param page - page
      * @param size - page size
+     * @param request web request with conditional headers
      * @return CollectionModel consist of list of CustomTag or empty list if was not found anyone CustomTag
      * and links to previous and nex pages.
      * @throws CustomException - if page or size has not valid value;
@@ -88,11 +104,18 @@ public class TagController {
     public CollectionModel<TagDto> findAllTags(
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam(name = "page", defaultValue = "1", required = false) int page,
-            @RequestParam(name = "size", defaultValue = "10", required = false) int size)
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            WebRequest request)
             throws CustomException {
-        List<TagDto> tags = service.findAll(page, size);
-        int lastPage = service.findAllLastPage(size);
-        List<Link> links = (jwt != null && ((JSONArray)jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name()))
+        boolean isAdmin = isAdmin(jwt);
+        Optional<PageDto<TagDto>> found = findIfModified(request, isAdmin, () -> service.findAllPage(page, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        PageDto<TagDto> tagsPage = found.get();
+        List<TagDto> tags = tagsPage.getContent();
+        int lastPage = tagsPage.getLastPage();
+        List<Link> links = isAdmin
                 ? adminCollectionLinkCreator.createLinks(tags, page, size, lastPage)
                 : commonCollectionLinkCreator.createLinks(tags, page, size, lastPage);
         return CollectionModel.of(tags, links);
@@ -143,9 +166,34 @@ public class TagController {
         return tag.add(links);
     }
 
+    /**
+     * Method to recompute tags usage statistics from all orders and get the most widely used tag
+     * of a user with the highest cost of all orders.
+     *
+     * @return TagDto as the most widely used tag
+     */
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @PostMapping(value = "/the-most-widely/recompute")
+    public TagDto recomputeTheMostWidelyTag() throws CustomException {
+        TagDto tag = service.recomputeTheMostWidelyTag();
+        List<Link> links = adminSingleEntityLinkCreator.createLinks(tag);
+        return tag.add(links);
+    }
+
     private List<Link> getSingleEntityLinksByRole(Jwt jwt, TagDto tag) throws CustomException {
-        return (jwt != null && ((JSONArray)jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name()))
+        return isAdmin(jwt)
                 ? adminSingleEntityLinkCreator.createLinks(tag)
                 : commonSingleEntityLinkCreator.createLinks(tag);
     }
+
+    private boolean isAdmin(Jwt jwt) {
+        return jwt != null && ((JSONArray) jwt.getClaim(ROLE_CLAIM_KEY)).get(0).equals(UserRole.ROLE_ADMIN.name());
+    }
+
+    private <T> Optional<T> findIfModified(WebRequest request, boolean isAdmin, VersionedQuery<T> content)
+            throws CustomException {
+        String variant = isAdmin ? VersionTags.ADMIN : VersionTags.COMMON;
+        return readService.findIfModified(service::findCatalogVersion,
+                version -> request.checkNotModified(VersionTags.of(version, variant)), content);
+    }
 }
@@ -4,9 +4,14 @@ import com.epam.esm.enumeration.UserRole;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.OrderService;
 import com.epam.esm.service.UserService;
+import com.epam.esm.service.VersionedQuery;
+import com.epam.esm.service.VersionedReadService;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
+import com.epam.esm.service.dto.OrderResultDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.UserDto;
+import com.epam.esm.util.VersionTags;
 import com.epam.esm.util.impl.AdminCollectionLinkCreator;
 import com.epam.esm.util.impl.AdminSingleEntityLinkCreator;
 import com.epam.esm.util.impl.UserCollectionLinkCreator;
@@ -27,8 +32,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Rest controller represent operation on User and their Orders
@@ -42,19 +49,21 @@ public class UserController {
 
     private UserService userService;
     private OrderService orderService;
+    private VersionedReadService readService;
     private UserSingleEntityLinkCreator userSingleEntityLinkCreator;
     private UserCollectionLinkCreator userCollectionLinkCreator;
     private AdminSingleEntityLinkCreator adminSingleEntityLinkCreator;
     private AdminCollectionLinkCreator adminCollectionLinkCreator;
 
     @Autowired
-    public UserController(UserService userService, OrderService orderService,
+    public UserController(UserService userService, OrderService orderService, VersionedReadService readService,
                           UserSingleEntityLinkCreator userSingleEntityLinkCreator,
                           UserCollectionLinkCreator userCollectionLinkCreator,
                           AdminSingleEntityLinkCreator adminSingleEntityLinkCreator,
                           AdminCollectionLinkCreator adminCollectionLinkCreator) {
         this.userService = userService;
         this.orderService = orderService;
+        this.readService = readService;
         this.userSingleEntityLinkCreator = userSingleEntityLinkCreator;
         this.userCollectionLinkCreator = userCollectionLinkCreator;
         this.adminSingleEntityLinkCreator = adminSingleEntityLinkCreator;
@@ -85,6 +94,7 @@ public class UserController {
      * @param jwt  access token
      * @param page page
      * @param size page size
+     * @param request web request with conditional headers
      * @return CollectionModel consist of list of OrderDto or empty list if was not found anyone Order
      * and links to previous and nex pages.
      * @throws CustomException - if id or page or size has not valid value;
@@ -94,11 +104,18 @@ public class UserController {
     public CollectionModel<OrderDto> findOrdersByCurrentUser(
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam(name = "page", defaultValue = "1", required = false) int page,
-            @RequestParam(name = "size", defaultValue = "10", required = false) int size)
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            WebRequest request)
             throws CustomException {
         Long userId = jwt.getClaim(USER_ID_CLAIM_KEY);
-        List<OrderDto> orders = orderService.findAllByUser(userId, page, size);
-        int lastPage = orderService.findAllByUserLastPage(userId, size);
+        Optional<PageDto<OrderDto>> found = findIfModified(request, userId, VersionTags.USER,
+                () -> orderService.findAllByUserPage(userId, page, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        PageDto<OrderDto> ordersPage = found.get();
+        List<OrderDto> orders = ordersPage.getContent();
+        int lastPage = ordersPage.getLastPage();
         List<Link> links = userCollectionLinkCreator.createLinks(orders, userId, page, size, lastPage);
         return CollectionModel.of(orders, links);
     }
@@ -109,6 +126,7 @@ public class UserController {
      * @param userId user id
      * @param page   page
      * @param size   page size
+     * @param request web request with conditional headers
      * @return CollectionModel consist of list of OrderDto or empty list if was not found anyone Order
      * and links to previous and nex pages.
      * @throws CustomException - if id or page or size has not valid value;
@@ -118,10 +136,17 @@ public class UserController {
     public CollectionModel<OrderDto> findOrdersByUser(
             @PathVariable("userId") Long userId,
             @RequestParam(name = "page", defaultValue = "1", required = false) int page,
-            @RequestParam(name = "size", defaultValue = "10", required = false) int size)
+            @RequestParam(name = "size", defaultValue = "10", required = false) int size,
+            WebRequest request)
             throws CustomException {
-        List<OrderDto> orders = orderService.findAllByUser(userId, page, size);
-        int lastPage = orderService.findAllByUserLastPage(userId, size);
+        Optional<PageDto<OrderDto>> found = findIfModified(request, userId, VersionTags.ADMIN,
+                () -> orderService.findAllByUserPage(userId, page, size));
+        if (found.isEmpty()) {
+            return null;
+        }
+        PageDto<OrderDto> ordersPage = found.get();
+        List<OrderDto> orders = ordersPage.getContent();
+        int lastPage = ordersPage.getLastPage();
         List<Link> links = adminCollectionLinkCreator.createLinks(orders, userId, page, size, lastPage);
         return CollectionModel.of(orders, links);
     }
@@ -131,15 +156,22 @@ public class UserController {
      *
      * @param jwt     access token
      * @param orderId Order id
+     * @param request web request with conditional headers
      * @return Order as OrderDto
      * @throws CustomException - if Order was not found or id or orderId has not valid value;
      */
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @GetMapping(value = "/me/orders/{orderId}")
     public OrderDto findOrderByCurrentUser(@AuthenticationPrincipal Jwt jwt,
-                                           @PathVariable("orderId") long orderId) throws CustomException {
+                                           @PathVariable("orderId") long orderId,
+                                           WebRequest request) throws CustomException {
         Long userId = jwt.getClaim(USER_ID_CLAIM_KEY);
-        OrderDto order = orderService.findByIdAndByUser(orderId, userId);
+        Optional<OrderDto> found = findIfModified(request, userId, VersionTags.USER,
+                () -> orderService.findByIdAndByUser(orderId, userId));
+        if (found.isEmpty()) {
+            return null;
+        }
+        OrderDto order = found.get();
         List<Link> links = userSingleEntityLinkCreator.createLinks(order, userId);
         return order.add(links);
     }
@@ -149,14 +181,21 @@ public class UserController {
      *
      * @param userId  user id
      * @param orderId Order id
+     * @param request web request with conditional headers
      * @return Order as OrderDto
      * @throws CustomException - if Order was not found or id or orderId has not valid value;
      */
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     @GetMapping(value = "/{userId}/orders/{orderId}")
     public OrderDto findOrderByUser(@PathVariable("userId") Long userId,
-                                    @PathVariable("orderId") long orderId) throws CustomException {
-        OrderDto order = orderService.findByIdAndByUser(orderId, userId);
+                                    @PathVariable("orderId") long orderId,
+                                    WebRequest request) throws CustomException {
+        Optional<OrderDto> found = findIfModified(request, userId, VersionTags.ADMIN,
+                () -> orderService.findByIdAndByUser(orderId, userId));
+        if (found.isEmpty()) {
+            return null;
+        }
+        OrderDto order = found.get();
         List<Link> links = adminSingleEntityLinkCreator.createLinks(order, userId);
         return order.add(links);
     }
@@ -179,4 +218,27 @@ public class UserController {
         List<Link> links = userSingleEntityLinkCreator.createLinks(order, userId);
         return order.add(links);
     }
+
+    /**
+     * Method to create several Orders by current User at once
+     *
+     * @param jwt    access token
+     * @param orders list of certificate lists, one for every Order
+     * @return result for every Order in request order as OrderResultDto list
+     * @throws CustomException - if orders list or id has not valid value;
+     */
+    @PreAuthorize("hasAuthority('ROLE_USER')")
+    @PostMapping(value = "/me/orders/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<OrderResultDto> createOrders(@AuthenticationPrincipal Jwt jwt,
+                                             @RequestBody List<List<CertificateDto>> orders) throws CustomException {
+        Long userId = jwt.getClaim(USER_ID_CLAIM_KEY);
+        return orderService.createAll(userId, orders);
+    }
+
+    private <T> Optional<T> findIfModified(WebRequest request, long userId, String variant,
+                                           VersionedQuery<T> content) throws CustomException {
+        return readService.findIfModified(() -> orderService.findAllByUserVersion(userId),
+                version -> request.checkNotModified(VersionTags.of(version, variant)), content);
+    }
 }
@@ -0,0 +1,106 @@
+package com.epam.esm.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.server.resource.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Authentication manager remembers authentication of bearer token until token expiration.
+ * Signature verification and claims conversion are done once per token, not once per request.
+ * Cache key is SHA-256 of token, so tokens themselves are not kept in memory.
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Duration MAX_EXPIRY = Duration.ofDays(1);
+
+    private final AuthenticationProvider delegate;
+    private final Clock clock;
+    private final Cache<String, JwtAuthenticationToken> authentications;
+
+    /**
+     * @param delegate    provider verifying token
+     * @param maximumSize max number of remembered tokens
+     * @param clock       clock to compare with token expiration
+     */
+    public CachingJwtAuthenticationManager(AuthenticationProvider delegate, long maximumSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.authentications = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+        String key = digest(bearer.getToken());
+        JwtAuthenticationToken cached = authentications.getIfPresent(key);
+        if (cached != null && isNotExpired(cached)) {
+            JwtAuthenticationToken result = new JwtAuthenticationToken(cached.getToken(), cached.getAuthorities(),
+                    cached.getName());
+            result.setDetails(bearer.getDetails());
+            return result;
+        }
+        Authentication result = delegate.authenticate(bearer);
+        if (result instanceof JwtAuthenticationToken jwtAuthentication && isNotExpired(jwtAuthentication)) {
+            authentications.put(key, jwtAuthentication);
+        }
+        return result;
+    }
+
+    private boolean isNotExpired(JwtAuthenticationToken authentication) {
+        Instant expiresAt = authentication.getToken().getExpiresAt();
+        return expiresAt != null && expiresAt.isAfter(clock.instant());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    private class TokenExpiry implements Expiry<String, JwtAuthenticationToken> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtAuthenticationToken value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), value.getToken().getExpiresAt());
+            if (remaining.isNegative()) {
+                return 0L;
+            }
+            return remaining.compareTo(MAX_EXPIRY) < 0 ? remaining.toNanos() : MAX_EXPIRY.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtAuthenticationToken value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtAuthenticationToken value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
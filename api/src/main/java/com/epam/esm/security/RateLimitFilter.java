@@ -0,0 +1,146 @@
+package com.epam.esm.security;
+
+import com.epam.esm.advicer.ExceptionResponse;
+import com.epam.esm.exception.CustomErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits request rate of every client by token bucket per endpoint class.
+ * Client is user id from JWT or remote address for anonymous requests.
+ * Rejected request gets 429 with Retry-After header.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String USER_ID = "user_id";
+    private static final String USER_KEY = ":user:";
+    private static final String IP_KEY = ":ip:";
+    private static final String SEARCH_PATH = "/search";
+    private static final String EXPORT_PATH = "/export";
+    private static final String ACTUATOR_PATH = "/actuator";
+    private static final String PATH_DELIMITER = "/";
+    private static final String NUMBER_REGEX = "\\d+";
+
+    private final boolean enabled;
+    private final RateLimiter rateLimiter;
+    private final Map<EndpointClass, RateLimiter.Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final ResourceBundleMessageSource messageSource;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Autowired
+    public RateLimitFilter(@Value("${esm.rate-limit.enabled:false}") boolean enabled,
+                           @Value("${esm.rate-limit.search-per-second:10}") double searchPerSecond,
+                           @Value("${esm.rate-limit.search-burst:50}") int searchBurst,
+                           @Value("${esm.rate-limit.list-per-second:20}") double listPerSecond,
+                           @Value("${esm.rate-limit.list-burst:100}") int listBurst,
+                           @Value("${esm.rate-limit.by-id-per-second:50}") double byIdPerSecond,
+                           @Value("${esm.rate-limit.by-id-burst:200}") int byIdBurst,
+                           @Value("${esm.rate-limit.write-per-second:10}") double writePerSecond,
+                           @Value("${esm.rate-limit.write-burst:50}") int writeBurst,
+                           @Value("${esm.rate-limit.export-per-second:0.01}") double exportPerSecond,
+                           @Value("${esm.rate-limit.export-burst:2}") int exportBurst,
+                           @Value("${esm.rate-limit.max-clients:100000}") long maxClients,
+                           @Value("${esm.rate-limit.idle-seconds:600}") long idleSeconds,
+                           ResourceBundleMessageSource messageSource) {
+        this(enabled, new RateLimiter(maxClients, Duration.ofSeconds(idleSeconds), Ticker.systemTicker()),
+                messageSource);
+        limits.put(EndpointClass.SEARCH, new RateLimiter.Limit(searchPerSecond, searchBurst));
+        limits.put(EndpointClass.LIST, new RateLimiter.Limit(listPerSecond, listBurst));
+        limits.put(EndpointClass.BY_ID, new RateLimiter.Limit(byIdPerSecond, byIdBurst));
+        limits.put(EndpointClass.WRITE, new RateLimiter.Limit(writePerSecond, writeBurst));
+        limits.put(EndpointClass.EXPORT, new RateLimiter.Limit(exportPerSecond, exportBurst));
+    }
+
+    RateLimitFilter(boolean enabled, RateLimiter rateLimiter, ResourceBundleMessageSource messageSource) {
+        this.enabled = enabled;
+        this.rateLimiter = rateLimiter;
+        this.messageSource = messageSource;
+    }
+
+    void setLimit(EndpointClass endpointClass, RateLimiter.Limit limit) {
+        limits.put(endpointClass, limit);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith(request.getContextPath() + ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        long waitNanos = rateLimiter.tryAcquire(endpointClass + getClientKey(request), limits.get(endpointClass));
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String getClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt
+                && jwt.getClaim(USER_ID) != null) {
+            return USER_KEY + jwt.getClaim(USER_ID);
+        }
+        return IP_KEY + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        int errorCode = CustomErrorCode.TOO_MANY_REQUESTS.getCode();
+        String message = messageSource.getMessage(String.valueOf(errorCode), null, LocaleContextHolder.getLocale())
+                + retryAfter;
+        response.setStatus(CustomErrorCode.TOO_MANY_REQUESTS.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        mapper.writeValue(response.getWriter(), new ExceptionResponse(message, errorCode));
+    }
+
+    /**
+     * Class of endpoints sharing one limit.
+     */
+    enum EndpointClass {
+        SEARCH, LIST, BY_ID, WRITE, EXPORT;
+
+        static EndpointClass of(HttpServletRequest request) {
+            if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+                return WRITE;
+            }
+            String path = request.getRequestURI();
+            if (path.contains(EXPORT_PATH)) {
+                return EXPORT;
+            }
+            if (path.contains(SEARCH_PATH)) {
+                return SEARCH;
+            }
+            String lastSegment = path.substring(path.lastIndexOf(PATH_DELIMITER) + 1);
+            return lastSegment.matches(NUMBER_REGEX) ? BY_ID : LIST;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.epam.esm.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets of clients. Buckets are kept in a bounded cache and evicted after idle timeout.
+ * Every bucket is a single number (time when it becomes full again minus one token, GCRA form of token bucket),
+ * updated by compare-and-set, so concurrent requests of one client do not lock.
+ */
+public class RateLimiter {
+
+    private final Ticker ticker;
+    private final Cache<String, TokenBucket> buckets;
+
+    /**
+     * @param maxBuckets  max number of remembered buckets
+     * @param idleTimeout time after the last request when bucket is forgotten (it is full again by then)
+     * @param ticker      source of nanoseconds
+     */
+    public RateLimiter(long maxBuckets, Duration idleTimeout, Ticker ticker) {
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Take one token from the bucket of the key
+     *
+     * @param key   bucket key
+     * @param limit bucket rate and capacity
+     * @return 0 if token was taken or nanoseconds to wait until the next token
+     */
+    public long tryAcquire(String key, Limit limit) {
+        long now = ticker.read();
+        return buckets.get(key, k -> new TokenBucket(now)).tryAcquire(now, limit);
+    }
+
+    /**
+     * @return approximate number of remembered buckets
+     */
+    public long getBucketCount() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Limit of token bucket
+     *
+     * @param perSecond tokens added per second
+     * @param burst     bucket capacity
+     */
+    public record Limit(double perSecond, int burst) {
+
+        public Limit {
+            if (perSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("perSecond=" + perSecond + "; burst=" + burst);
+            }
+        }
+
+        long intervalNanos() {
+            return Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+        }
+    }
+
+    private static class TokenBucket {
+
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now, Limit limit) {
+            long interval = limit.intervalNanos();
+            long tolerance = interval * (limit.burst() - 1);
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long start = Math.max(arrival, now);
+                long wait = start - tolerance - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + interval)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.esm.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * JWK set of authorization server kept in memory.
+ * Keys are fetched after application start and refreshed in background, so token verification does not wait
+ * for network. Unknown key id (keys rotation) leads to synchronous fetch, but not more often than min refetch interval.
+ * Failed fetches count too, so tokens with made up key ids do not hammer authorization server while it is down.
+ */
+public class RefreshingJwkSource implements JWKSource<SecurityContext> {
+
+    private static final Log logger = LogFactory.getLog(RefreshingJwkSource.class);
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+    private static final int READ_TIMEOUT_MS = 2000;
+    private static final int SIZE_LIMIT_BYTES = 50 * 1024;
+
+    private final URL jwkSetUrl;
+    private final long minRefetchIntervalNanos;
+    private volatile JWKSet jwkSet;
+    private volatile long lastAttemptNanos;
+
+    /**
+     * @param jwkSetUrl          JWK set endpoint of authorization server
+     * @param minRefetchInterval min interval between fetches caused by unknown key
+     */
+    public RefreshingJwkSource(URL jwkSetUrl, Duration minRefetchInterval) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.minRefetchIntervalNanos = minRefetchInterval.toNanos();
+        this.lastAttemptNanos = System.nanoTime() - minRefetchIntervalNanos;
+    }
+
+    /**
+     * Fetch keys in background after application start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetch() {
+        CompletableFuture.runAsync(this::scheduledRefresh);
+    }
+
+    @Scheduled(fixedDelayString = "${esm.jwt.jwks-refresh-ms:300000}",
+            initialDelayString = "${esm.jwt.jwks-refresh-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (KeySourceException e) {
+            logger.warn("JWK set was not refreshed, previous keys are used", e);
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current != null) {
+            List<JWK> keys = jwkSelector.select(current);
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+        }
+        return jwkSelector.select(refreshIfAllowed(current));
+    }
+
+    /**
+     * Fetch keys from authorization server.
+     *
+     * @return fetched JWK set
+     * @throws KeySourceException if keys were not fetched
+     */
+    public JWKSet refresh() throws KeySourceException {
+        lastAttemptNanos = System.nanoTime();
+        try {
+            JWKSet loaded = load();
+            synchronized (this) {
+                jwkSet = loaded;
+            }
+            return loaded;
+        } catch (IOException | ParseException e) {
+            throw new KeySourceException("JWK set was not fetched from " + jwkSetUrl, e);
+        }
+    }
+
+    JWKSet load() throws IOException, ParseException {
+        return JWKSet.load(jwkSetUrl, CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS, SIZE_LIMIT_BYTES);
+    }
+
+    private synchronized JWKSet refreshIfAllowed(JWKSet seen) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current != seen) {
+            return current;
+        }
+        if (System.nanoTime() - lastAttemptNanos < minRefetchIntervalNanos) {
+            if (current == null) {
+                throw new KeySourceException("JWK set is not fetched yet from " + jwkSetUrl);
+            }
+            return current;
+        }
+        return refresh();
+    }
+}
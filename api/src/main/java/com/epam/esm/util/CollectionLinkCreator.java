@@ -1,7 +1,5 @@
 package com.epam.esm.util;
 
-import com.epam.esm.controller.CertificateController;
-import com.epam.esm.controller.TagController;
 import com.epam.esm.enumeration.SortingType;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.CertificateDto;
@@ -12,14 +10,17 @@ import org.springframework.hateoas.Link;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * Abstract class represent common methods for collection link creation.
  */
 public abstract class CollectionLinkCreator implements LinkCreator {
 
+    protected final LinkTemplates linkTemplates;
+
+    protected CollectionLinkCreator(LinkTemplates linkTemplates) {
+        this.linkTemplates = linkTemplates;
+    }
+
     /**
      * Method create links with pagination by list TagDto. Also, it adds selfLink to each tag of list.
      *
@@ -34,30 +35,24 @@ public abstract class CollectionLinkCreator implements LinkCreator {
                                   int size,
                                   int lastPage) throws CustomException {
         for (TagDto tag : tags) {
-            tag.add(linkTo(methodOn(TagController.class).findTag(null, tag.getId())).withSelfRel());
+            tag.add(linkTemplates.self(LinkTemplate.TAG, tag.getId()));
         }
         List<Link> links = new ArrayList<>();
-        Link firstPageLink = linkTo(methodOn(TagController.class).findAllTags(null, 1, size))
-                .withRel(FIRST_PAGE);
+        Link firstPageLink = linkTemplates.link(LinkTemplate.TAGS, FIRST_PAGE, 1, size);
         links.add(firstPageLink);
         if (page > 1 && page <= lastPage) {
-            Link previousPageLink = linkTo(methodOn(TagController.class).findAllTags(null, page - 1, size))
-                    .withRel(PREVIOUS_PAGE);
+            Link previousPageLink = linkTemplates.link(LinkTemplate.TAGS, PREVIOUS_PAGE, page - 1, size);
             links.add(previousPageLink);
         }
-        Link currentPageLink = linkTo(methodOn(TagController.class).findAllTags(null, page, size))
-                .withRel(CURRENT_PAGE);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.TAGS, CURRENT_PAGE, page, size);
         links.add(currentPageLink);
         if (page < lastPage) {
-            Link nexPageLink = linkTo(methodOn(TagController.class).findAllTags(null, page + 1, size))
-                    .withRel(NEXT_PAGE);
+            Link nexPageLink = linkTemplates.link(LinkTemplate.TAGS, NEXT_PAGE, page + 1, size);
             links.add(nexPageLink);
         }
-        Link lastPageLink = linkTo(methodOn(TagController.class).findAllTags(null, lastPage, size))
-                .withRel(LAST_PAGE);
+        Link lastPageLink = linkTemplates.link(LinkTemplate.TAGS, LAST_PAGE, lastPage, size);
         links.add(lastPageLink);
-        Link findTheMostWidelyTagLink = linkTo(methodOn(TagController.class).findTheMostWidelyTag(null))
-                .withRel(FIND_THE_MOST_WIDELY_TAG);
+        Link findTheMostWidelyTagLink = linkTemplates.link(LinkTemplate.THE_MOST_WIDELY_TAG, FIND_THE_MOST_WIDELY_TAG);
         links.add(findTheMostWidelyTagLink);
         return links;
     }
@@ -92,43 +87,28 @@ public abstract class CollectionLinkCreator implements LinkCreator {
                                               int size,
                                               int lastPage) throws CustomException {
         for (CertificateDto certificate : certificates) {
-            certificate.add(linkTo(methodOn(CertificateController.class).findCertificate(null, certificate.getId()))
-                    .withSelfRel());
+            certificate.add(linkTemplates.self(LinkTemplate.CERTIFICATE, certificate.getId()));
         }
         List<Link> links = new ArrayList<>();
-        Link firstPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificates(null, 1, size))
-                .withRel(FIRST_PAGE);
+        Link firstPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES, FIRST_PAGE, 1, size);
         links.add(firstPageLink);
         if (page > 1 && page <= lastPage) {
-            Link previousPageLink = linkTo(methodOn(CertificateController.class)
-                    .findAllCertificates(null, page - 1, size))
-                    .withRel(PREVIOUS_PAGE);
+            Link previousPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES, PREVIOUS_PAGE, page - 1, size);
             links.add(previousPageLink);
         }
-        Link currentPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificates(null, page, size))
-                .withRel(CURRENT_PAGE);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES, CURRENT_PAGE, page, size);
         links.add(currentPageLink);
         if (page < lastPage) {
-            Link nexPageLink = linkTo(methodOn(CertificateController.class)
-                    .findAllCertificates(null, page + 1, size))
-                    .withRel(NEXT_PAGE);
+            Link nexPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES, NEXT_PAGE, page + 1, size);
             links.add(nexPageLink);
         }
-        Link lastPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificates(null, lastPage, size))
-                .withRel(LAST_PAGE);
+        Link lastPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES, LAST_PAGE, lastPage, size);
         links.add(lastPageLink);
-        Link searchLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByParameters(null, 1, 10, "tag_name", "name_part",
-                        "description_part", SortingType.DATE_ASC.getType()))
-                .withRel(SEARCH);
+        Link searchLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, SEARCH,
+                1, 10, "tag_name", "name_part", "description_part", SortingType.DATE_ASC.getType());
         links.add(searchLink);
         String[] tags = new String[]{"tag_name_1", "tag_name_2"};
-        Link findByTagsLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByTags(null, 1, 10, tags))
-                .withRel(FIND_BY_TAGS);
+        Link findByTagsLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, FIND_BY_TAGS, 1, 10, tags);
         links.add(findByTagsLink);
         return links;
     }
@@ -149,42 +129,27 @@ public abstract class CollectionLinkCreator implements LinkCreator {
                                               int size,
                                               int lastPage) throws CustomException {
         for (CertificateDto certificate : certificates) {
-            certificate.add(linkTo(methodOn(CertificateController.class).findCertificate(null, certificate.getId()))
-                    .withSelfRel());
+            certificate.add(linkTemplates.self(LinkTemplate.CERTIFICATE, certificate.getId()));
         }
         List<Link> links = new ArrayList<>();
-        Link firstPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByTags(null, 1, size, tags))
-                .withRel(FIRST_PAGE);
+        Link firstPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, FIRST_PAGE, 1, size, tags);
         links.add(firstPageLink);
         if (page > 1 && page <= lastPage) {
-            Link previousPageLink = linkTo(methodOn(CertificateController.class)
-                    .findAllCertificatesByTags(null, 1, size, tags))
-                    .withRel(PREVIOUS_PAGE);
+            Link previousPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, PREVIOUS_PAGE, 1, size, tags);
             links.add(previousPageLink);
         }
-        Link currentPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByTags(null, 1, size, tags))
-                .withRel(CURRENT_PAGE);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, CURRENT_PAGE, 1, size, tags);
         links.add(currentPageLink);
         if (page < lastPage) {
-            Link nexPageLink = linkTo(methodOn(CertificateController.class)
-                    .findAllCertificatesByTags(null, 1, size, tags))
-                    .withRel(NEXT_PAGE);
+            Link nexPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, NEXT_PAGE, 1, size, tags);
             links.add(nexPageLink);
         }
-        Link lastPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByTags(null, 1, size, tags))
-                .withRel(LAST_PAGE);
+        Link lastPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, LAST_PAGE, 1, size, tags);
         links.add(lastPageLink);
-        Link searchLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByParameters(null, 1, 10, "tag_name", "name_part",
-                        "description_part", SortingType.DATE_ASC.getType()))
-                .withRel(SEARCH);
+        Link searchLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, SEARCH,
+                1, 10, "tag_name", "name_part", "description_part", SortingType.DATE_ASC.getType());
         links.add(searchLink);
-        Link findAllLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificates(null, 1, 10))
-                .withRel(FIND_ALL);
+        Link findAllLink = linkTemplates.link(LinkTemplate.CERTIFICATES, FIND_ALL, 1, 10);
         links.add(findAllLink);
         return links;
     }
@@ -211,42 +176,114 @@ public abstract class CollectionLinkCreator implements LinkCreator {
                                               int size,
                                               int lastPage) throws CustomException {
         for (CertificateDto certificate : certificates) {
-            certificate.add(linkTo(methodOn(CertificateController.class).findCertificate(null, certificate.getId()))
-                    .withSelfRel());
+            certificate.add(linkTemplates.self(LinkTemplate.CERTIFICATE, certificate.getId()));
         }
         List<Link> links = new ArrayList<>();
-        Link firstPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByParameters(null, 1, size, tag, name, description, sortBy))
-                .withRel(FIRST_PAGE);
+        Link firstPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, FIRST_PAGE,
+                1, size, tag, name, description, sortBy);
         links.add(firstPageLink);
         if (page > 1 && page <= lastPage) {
-            Link previousPageLink = linkTo(methodOn(CertificateController.class)
-                    .findAllCertificatesByParameters(null, page - 1, size, tag, name, description, sortBy))
-                    .withRel(PREVIOUS_PAGE);
+            Link previousPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, PREVIOUS_PAGE,
+                    page - 1, size, tag, name, description, sortBy);
             links.add(previousPageLink);
         }
-        Link currentPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByParameters(null, page, size, tag, name, description, sortBy))
-                .withRel(CURRENT_PAGE);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, CURRENT_PAGE,
+                page, size, tag, name, description, sortBy);
         links.add(currentPageLink);
         if (page < lastPage) {
-            Link nexPageLink = linkTo(methodOn(CertificateController.class)
-                    .findAllCertificatesByParameters(null, page + 1, size, tag, name, description, sortBy))
-                    .withRel(NEXT_PAGE);
+            Link nexPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, NEXT_PAGE,
+                    page + 1, size, tag, name, description, sortBy);
             links.add(nexPageLink);
         }
-        Link lastPageLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByParameters(null, lastPage, size, tag, name, description, sortBy))
-                .withRel(LAST_PAGE);
+        Link lastPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, LAST_PAGE,
+                lastPage, size, tag, name, description, sortBy);
         links.add(lastPageLink);
-        Link findAllLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificates(null, 1, 10))
-                .withRel(FIND_ALL);
+        Link findAllLink = linkTemplates.link(LinkTemplate.CERTIFICATES, FIND_ALL, 1, 10);
+        links.add(findAllLink);
+        String[] tags = new String[]{"tag_name_1", "tag_name_2"};
+        Link findByTagsLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, FIND_BY_TAGS, 1, 10, tags);
+        links.add(findByTagsLink);
+        return links;
+    }
+
+    /**
+     * Method create links with keyset pagination by list CertificateDto.
+     * Also, it adds selfLink to each certificate of list.
+     *
+     * @param certificates list CertificateDto
+     * @param cursor       continuation token of the current page
+     * @param nextCursor   continuation token of the next page or null if there is no next page
+     * @param size         page size
+     * @return Link list
+     * @throws CustomException if some linked methods throw CustomException
+     */
+    public List<Link> createLinksCertificates(List<CertificateDto> certificates,
+                                              String cursor,
+                                              String nextCursor,
+                                              int size) throws CustomException {
+        for (CertificateDto certificate : certificates) {
+            certificate.add(linkTemplates.self(LinkTemplate.CERTIFICATE, certificate.getId()));
+        }
+        List<Link> links = new ArrayList<>();
+        Link firstPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_CURSOR, FIRST_PAGE, FIRST_CURSOR, size);
+        links.add(firstPageLink);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_CURSOR, CURRENT_PAGE, cursor, size);
+        links.add(currentPageLink);
+        if (nextCursor != null) {
+            Link nexPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_CURSOR, NEXT_PAGE, nextCursor, size);
+            links.add(nexPageLink);
+        }
+        Link searchLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, SEARCH,
+                1, 10, "tag_name", "name_part", "description_part", SortingType.DATE_ASC.getType());
+        links.add(searchLink);
+        String[] tags = new String[]{"tag_name_1", "tag_name_2"};
+        Link findByTagsLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, FIND_BY_TAGS, 1, 10, tags);
+        links.add(findByTagsLink);
+        return links;
+    }
+
+    /**
+     * Method create links with keyset pagination by list CertificateDto found by parameters.
+     * Also, it adds selfLink to each certificate of list.
+     *
+     * @param certificates list CertificateDto
+     * @param tag          tag name
+     * @param name         part of certificate name
+     * @param description  part of certificate description
+     * @param sortBy       sorting type
+     * @param cursor       continuation token of the current page
+     * @param nextCursor   continuation token of the next page or null if there is no next page
+     * @param size         page size
+     * @return Link list
+     * @throws CustomException if some linked methods throw CustomException
+     */
+    public List<Link> createLinksCertificates(List<CertificateDto> certificates,
+                                              String tag,
+                                              String name,
+                                              String description,
+                                              String sortBy,
+                                              String cursor,
+                                              String nextCursor,
+                                              int size) throws CustomException {
+        for (CertificateDto certificate : certificates) {
+            certificate.add(linkTemplates.self(LinkTemplate.CERTIFICATE, certificate.getId()));
+        }
+        List<Link> links = new ArrayList<>();
+        Link firstPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS_AND_CURSOR, FIRST_PAGE,
+                FIRST_CURSOR, size, tag, name, description, sortBy);
+        links.add(firstPageLink);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS_AND_CURSOR, CURRENT_PAGE,
+                cursor, size, tag, name, description, sortBy);
+        links.add(currentPageLink);
+        if (nextCursor != null) {
+            Link nexPageLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS_AND_CURSOR, NEXT_PAGE,
+                    nextCursor, size, tag, name, description, sortBy);
+            links.add(nexPageLink);
+        }
+        Link findAllLink = linkTemplates.link(LinkTemplate.CERTIFICATES, FIND_ALL, 1, 10);
         links.add(findAllLink);
         String[] tags = new String[]{"tag_name_1", "tag_name_2"};
-        Link findByTagsLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByTags(null, 1, 10, tags))
-                .withRel(FIND_BY_TAGS);
+        Link findByTagsLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, FIND_BY_TAGS, 1, 10, tags);
         links.add(findByTagsLink);
         return links;
     }
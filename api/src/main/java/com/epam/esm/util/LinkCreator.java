@@ -20,5 +20,6 @@ public interface LinkCreator {
     String NEXT_PAGE = "nextPage";
     String FIRST_PAGE = "firstPage";
     String LAST_PAGE = "lastPage";
+    String FIRST_CURSOR = "";
 
 }
@@ -0,0 +1,48 @@
+package com.epam.esm.util;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.controller.UserController;
+
+/**
+ * Enum represents controller methods which are linked from resources.
+ * Link arguments are values of method path variables and request parameters in declaration order.
+ */
+public enum LinkTemplate {
+    TAG(TagController.class, "findTag"),
+    TAGS(TagController.class, "findAllTags"),
+    TAG_CREATE(TagController.class, "createTag"),
+    TAG_DELETE(TagController.class, "deleteTag"),
+    THE_MOST_WIDELY_TAG(TagController.class, "findTheMostWidelyTag"),
+    CERTIFICATE(CertificateController.class, "findCertificate"),
+    CERTIFICATES(CertificateController.class, "findAllCertificates"),
+    CERTIFICATES_BY_CURSOR(CertificateController.class, "findAllCertificatesByCursor"),
+    CERTIFICATES_BY_PARAMETERS(CertificateController.class, "findAllCertificatesByParameters"),
+    CERTIFICATES_BY_PARAMETERS_AND_CURSOR(CertificateController.class, "findAllCertificatesByParametersAndCursor"),
+    CERTIFICATES_BY_TAGS(CertificateController.class, "findAllCertificatesByTags"),
+    CERTIFICATE_CREATE(CertificateController.class, "createCertificate"),
+    CERTIFICATE_UPDATE(CertificateController.class, "updateCertificate"),
+    CERTIFICATE_DELETE(CertificateController.class, "deleteCertificate"),
+    CURRENT_USER(UserController.class, "findUser"),
+    CURRENT_USER_ORDER(UserController.class, "findOrderByCurrentUser"),
+    CURRENT_USER_ORDERS(UserController.class, "findOrdersByCurrentUser"),
+    CURRENT_USER_ORDER_CREATE(UserController.class, "createOrder"),
+    USER_ORDER(UserController.class, "findOrderByUser"),
+    USER_ORDERS(UserController.class, "findOrdersByUser");
+
+    private final Class<?> controller;
+    private final String method;
+
+    LinkTemplate(Class<?> controller, String method) {
+        this.controller = controller;
+        this.method = method;
+    }
+
+    public Class<?> getController() {
+        return controller;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+}
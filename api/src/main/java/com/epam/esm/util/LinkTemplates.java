@@ -0,0 +1,198 @@
+package com.epam.esm.util;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+import org.springframework.web.util.UriUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class keeps link templates of controller methods, compiled once from their request mappings.
+ * Links are built by filling path variables and request parameters into the cached template and prefixing
+ * it with the base uri of the current request, the same way WebMvcLinkBuilder does, but without method proxies.
+ */
+@Component
+public class LinkTemplates {
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplates.class.getName() + ".baseUri";
+
+    private final Map<LinkTemplate, CompiledTemplate> templates = new EnumMap<>(LinkTemplate.class);
+
+    public LinkTemplates() {
+        for (LinkTemplate template : LinkTemplate.values()) {
+            templates.put(template, compile(template));
+        }
+    }
+
+    /**
+     * Create self link
+     *
+     * @param template  linked controller method
+     * @param arguments values of path variables and request parameters in declaration order
+     * @return Link
+     */
+    public Link self(LinkTemplate template, Object... arguments) {
+        return link(template, IanaLinkRelations.SELF.value(), arguments);
+    }
+
+    /**
+     * Create link with relation
+     *
+     * @param template  linked controller method
+     * @param relation  link relation
+     * @param arguments values of path variables and request parameters in declaration order,
+     *                  null request parameters are omitted
+     * @return Link
+     */
+    public Link link(LinkTemplate template, String relation, Object... arguments) {
+        CompiledTemplate compiled = templates.get(template);
+        if (arguments.length != compiled.arguments().size()) {
+            throw new IllegalArgumentException(template + " expects " + compiled.arguments().size()
+                    + " arguments, but got " + arguments.length);
+        }
+        StringBuilder href = new StringBuilder(getBaseUri());
+        List<String> pathParts = compiled.pathParts();
+        for (int i = 0; i < pathParts.size(); i++) {
+            if (i % 2 == 0) {
+                href.append(pathParts.get(i));
+            } else {
+                int argumentIndex = compiled.pathVariableIndexes().get(i / 2);
+                href.append(UriUtils.encodePathSegment(String.valueOf(arguments[argumentIndex]),
+                        StandardCharsets.UTF_8));
+            }
+        }
+        char separator = '?';
+        for (int i = 0; i < arguments.length; i++) {
+            Argument argument = compiled.arguments().get(i);
+            if (argument.pathVariable() || arguments[i] == null) {
+                continue;
+            }
+            for (Object value : toValues(arguments[i])) {
+                href.append(separator)
+                        .append(argument.name())
+                        .append('=')
+                        .append(UriUtils.encodeQueryParam(String.valueOf(value), StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return Link.of(href.toString(), relation);
+    }
+
+    private CompiledTemplate compile(LinkTemplate template) {
+        Method method = findMethod(template);
+        String path = getPath(template.getController()) + getPath(method);
+        List<Argument> arguments = new ArrayList<>();
+        for (Parameter parameter : method.getParameters()) {
+            PathVariable pathVariable = AnnotatedElementUtils.findMergedAnnotation(parameter, PathVariable.class);
+            RequestParam requestParam = AnnotatedElementUtils.findMergedAnnotation(parameter, RequestParam.class);
+            if (pathVariable != null) {
+                arguments.add(new Argument(pathVariable.name(), true));
+            } else if (requestParam != null) {
+                arguments.add(new Argument(requestParam.name(), false));
+            }
+        }
+        List<String> variableNames = new UriTemplate(path).getVariableNames();
+        List<String> pathParts = new ArrayList<>();
+        List<Integer> pathVariableIndexes = new ArrayList<>();
+        String rest = path;
+        for (String variableName : variableNames) {
+            String placeholder = "{" + variableName + "}";
+            int start = rest.indexOf(placeholder);
+            pathParts.add(rest.substring(0, start));
+            pathParts.add(placeholder);
+            pathVariableIndexes.add(indexOfPathVariable(template, arguments, variableName));
+            rest = rest.substring(start + placeholder.length());
+        }
+        pathParts.add(rest);
+        return new CompiledTemplate(List.copyOf(pathParts), List.copyOf(pathVariableIndexes), List.copyOf(arguments));
+    }
+
+    private Method findMethod(LinkTemplate template) {
+        Method found = null;
+        for (Method method : template.getController().getMethods()) {
+            if (method.getName().equals(template.getMethod())
+                    && AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                if (found != null) {
+                    throw new IllegalStateException("Ambiguous link template method: " + template);
+                }
+                found = method;
+            }
+        }
+        if (found == null) {
+            throw new IllegalStateException("Link template method was not found: " + template);
+        }
+        return found;
+    }
+
+    private String getPath(Class<?> controller) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        return mapping != null && mapping.path().length > 0 ? mapping.path()[0] : "";
+    }
+
+    private String getPath(Method method) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        return mapping != null && mapping.path().length > 0 ? mapping.path()[0] : "";
+    }
+
+    private int indexOfPathVariable(LinkTemplate template, List<Argument> arguments, String name) {
+        for (int i = 0; i < arguments.size(); i++) {
+            Argument argument = arguments.get(i);
+            if (argument.pathVariable() && argument.name().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Path variable " + name + " is not bound in " + template);
+    }
+
+    private Collection<?> toValues(Object argument) {
+        if (argument instanceof Collection<?> collection) {
+            return collection;
+        }
+        if (argument.getClass().isArray()) {
+            int length = Array.getLength(argument);
+            List<Object> values = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                values.add(Array.get(argument, i));
+            }
+            return values;
+        }
+        return List.of(argument);
+    }
+
+    private String getBaseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+        }
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    private record Argument(String name, boolean pathVariable) {
+    }
+
+    private record CompiledTemplate(List<String> pathParts, List<Integer> pathVariableIndexes,
+                                    List<Argument> arguments) {
+    }
+}
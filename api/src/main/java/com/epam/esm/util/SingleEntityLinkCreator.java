@@ -1,7 +1,5 @@
 package com.epam.esm.util;
 
-import com.epam.esm.controller.CertificateController;
-import com.epam.esm.controller.TagController;
 import com.epam.esm.enumeration.SortingType;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.CertificateDto;
@@ -12,13 +10,17 @@ import org.springframework.hateoas.Link;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * Abstract class represent common methods for single entity link creation.
  */
 public abstract class SingleEntityLinkCreator implements LinkCreator {
+
+    protected final LinkTemplates linkTemplates;
+
+    protected SingleEntityLinkCreator(LinkTemplates linkTemplates) {
+        this.linkTemplates = linkTemplates;
+    }
+
     /**
      * Method create links by single TagDto.
      *
@@ -27,10 +29,9 @@ public abstract class SingleEntityLinkCreator implements LinkCreator {
      * @throws CustomException if some linked methods throw CustomException
      */
     public List<Link> createLinks(TagDto tag) throws CustomException {
-        Link selfLink = linkTo(methodOn(TagController.class).findTag(null, tag.getId())).withSelfRel();
-        Link findAllLink = linkTo(methodOn(TagController.class).findAllTags(null, 1, 10)).withRel(FIND_ALL);
-        Link findTheMostWidelyTagLink = linkTo(methodOn(TagController.class).findTheMostWidelyTag(null))
-                .withRel(FIND_THE_MOST_WIDELY_TAG);
+        Link selfLink = linkTemplates.self(LinkTemplate.TAG, tag.getId());
+        Link findAllLink = linkTemplates.link(LinkTemplate.TAGS, FIND_ALL, 1, 10);
+        Link findTheMostWidelyTagLink = linkTemplates.link(LinkTemplate.THE_MOST_WIDELY_TAG, FIND_THE_MOST_WIDELY_TAG);
         return List.of(selfLink, findAllLink, findTheMostWidelyTagLink);
     }
 
@@ -60,26 +61,20 @@ public abstract class SingleEntityLinkCreator implements LinkCreator {
      */
     public List<Link> createLinks(CertificateDto certificate) throws CustomException {
         for (TagDto tag : certificate.getTags()) {
-            tag.add(linkTo(methodOn(TagController.class).findTag(null, tag.getId())).withSelfRel());
+            tag.add(linkTemplates.self(LinkTemplate.TAG, tag.getId()));
         }
-        Link selfLink = linkTo(methodOn(CertificateController.class).findCertificate(null, certificate.getId()))
-                .withSelfRel();
-        Link findAllLink = linkTo(methodOn(CertificateController.class).findAllCertificates(null, 1, 10))
-                .withRel(FIND_ALL);
+        Link selfLink = linkTemplates.self(LinkTemplate.CERTIFICATE, certificate.getId());
+        Link findAllLink = linkTemplates.link(LinkTemplate.CERTIFICATES, FIND_ALL, 1, 10);
         String tagName = certificate.getTags().stream()
                 .findFirst()
                 .map(TagDto::getName)
                 .orElse(null);
-        Link searchLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByParameters(null, 1, 10, tagName, certificate.getName(),
-                        certificate.getDescription(), SortingType.NAME_ASC.getType()))
-                .withRel(SEARCH);
+        Link searchLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, SEARCH, 1, 10, tagName,
+                certificate.getName(), certificate.getDescription(), SortingType.NAME_ASC.getType());
         String[] tags = new String[certificate.getTags().size()];
         List<String> tagNames = certificate.getTags().stream().map(TagDto::getName).toList();
         tags = tagNames.toArray(tags);
-        Link findByTagsLink = linkTo(methodOn(CertificateController.class)
-                .findAllCertificatesByTags(null, 1, 10, tags))
-                .withRel(FIND_BY_TAGS);
+        Link findByTagsLink = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, FIND_BY_TAGS, 1, 10, tags);
         return List.of(selfLink, findAllLink, searchLink, findByTagsLink);
     }
 
@@ -0,0 +1,37 @@
+package com.epam.esm.util;
+
+/**
+ * Class builds entity tags (ETag) of representations from versions of their data.
+ * Representation is the same while version and variant are the same, so tags are strong.
+ */
+public final class VersionTags {
+
+    /**
+     * Variant of representation with links of administrator
+     */
+    public static final String ADMIN = "admin";
+    /**
+     * Variant of representation with links of user
+     */
+    public static final String USER = "user";
+    /**
+     * Variant of representation with common links
+     */
+    public static final String COMMON = "common";
+
+    private static final String DELIMITER = "-";
+
+    private VersionTags() {
+    }
+
+    /**
+     * Build entity tag
+     *
+     * @param version version of represented data
+     * @param variant representation variant
+     * @return entity tag value without quotes
+     */
+    public static String of(String version, String variant) {
+        return version + DELIMITER + variant;
+    }
+}
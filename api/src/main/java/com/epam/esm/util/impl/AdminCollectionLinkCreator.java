@@ -1,32 +1,34 @@
 package com.epam.esm.util.impl;
 
-import com.epam.esm.controller.CertificateController;
-import com.epam.esm.controller.TagController;
-import com.epam.esm.controller.UserController;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.util.CollectionLinkCreator;
+import com.epam.esm.util.LinkTemplate;
+import com.epam.esm.util.LinkTemplates;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
 public class AdminCollectionLinkCreator extends CollectionLinkCreator {
 
+    @Autowired
+    public AdminCollectionLinkCreator(LinkTemplates linkTemplates) {
+        super(linkTemplates);
+    }
+
     @Override
     public List<Link> createLinks(List<TagDto> tags,
                                   int page,
                                   int size,
                                   int lastPage) throws CustomException {
         List<Link> links = new ArrayList<>(super.createLinks(tags, page, size, lastPage));
-        Link createLink = linkTo(methodOn(TagController.class).createTag(null)).withRel(CREATE);
+        Link createLink = linkTemplates.link(LinkTemplate.TAG_CREATE, CREATE);
         links.add(createLink);
         return links;
     }
@@ -38,30 +40,24 @@ public class AdminCollectionLinkCreator extends CollectionLinkCreator {
                                   int size,
                                   int lastPage) throws CustomException {
         for (OrderDto order : orders) {
-            order.add(linkTo(methodOn(UserController.class).findOrderByUser(userId, order.getId())).withSelfRel());
+            order.add(linkTemplates.self(LinkTemplate.USER_ORDER, userId, order.getId()));
         }
         List<Link> links = new ArrayList<>();
-        Link firstPageLink = linkTo(methodOn(UserController.class).findOrdersByUser(userId, 1, size))
-                .withRel(FIRST_PAGE);
+        Link firstPageLink = linkTemplates.link(LinkTemplate.USER_ORDERS, FIRST_PAGE, userId, 1, size);
         links.add(firstPageLink);
         if (page > 1 && page <= lastPage) {
-            Link previousPageLink = linkTo(methodOn(UserController.class)
-                    .findOrdersByUser(userId, page - 1, size))
-                    .withRel(PREVIOUS_PAGE);
+            Link previousPageLink = linkTemplates.link(LinkTemplate.USER_ORDERS, PREVIOUS_PAGE, userId, page - 1, size);
             links.add(previousPageLink);
         }
-        Link currentPageLink = linkTo(methodOn(UserController.class).findOrdersByUser(userId, page, size))
-                .withRel(CURRENT_PAGE);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.USER_ORDERS, CURRENT_PAGE, userId, page, size);
         links.add(currentPageLink);
         if (page < lastPage) {
-            Link nexPageLink = linkTo(methodOn(UserController.class).findOrdersByUser(userId, page + 1, size))
-                    .withRel(NEXT_PAGE);
+            Link nexPageLink = linkTemplates.link(LinkTemplate.USER_ORDERS, NEXT_PAGE, userId, page + 1, size);
             links.add(nexPageLink);
         }
-        Link lastPageLink = linkTo(methodOn(UserController.class).findOrdersByUser(userId, lastPage, size))
-                .withRel(LAST_PAGE);
+        Link lastPageLink = linkTemplates.link(LinkTemplate.USER_ORDERS, LAST_PAGE, userId, lastPage, size);
         links.add(lastPageLink);
-        Link adminLink = linkTo(methodOn(UserController.class).findUser(null)).withRel(USER);
+        Link adminLink = linkTemplates.link(LinkTemplate.CURRENT_USER, USER);
         links.add(adminLink);
         return links;
     }
@@ -72,7 +68,7 @@ public class AdminCollectionLinkCreator extends CollectionLinkCreator {
                                               int size,
                                               int lastPage) throws CustomException {
         List<Link> links = new ArrayList<>(super.createLinksCertificates(certificates, page, size, lastPage));
-        Link createLink = linkTo(methodOn(CertificateController.class).createCertificate(null)).withRel(CREATE);
+        Link createLink = linkTemplates.link(LinkTemplate.CERTIFICATE_CREATE, CREATE);
         links.add(createLink);
         return links;
     }
@@ -84,7 +80,7 @@ public class AdminCollectionLinkCreator extends CollectionLinkCreator {
                                               int size,
                                               int lastPage) throws CustomException {
         List<Link> links = new ArrayList<>(super.createLinksCertificates(certificates, tags, page, size, lastPage));
-        Link createLink = linkTo(methodOn(CertificateController.class).createCertificate(null)).withRel(CREATE);
+        Link createLink = linkTemplates.link(LinkTemplate.CERTIFICATE_CREATE, CREATE);
         links.add(createLink);
         return links;
     }
@@ -100,7 +96,34 @@ public class AdminCollectionLinkCreator extends CollectionLinkCreator {
                                               int lastPage) throws CustomException {
         List<Link> links = new ArrayList<>(super.createLinksCertificates(certificates, tag, name, description, sortBy,
                 page, size, lastPage));
-        Link createLink = linkTo(methodOn(CertificateController.class).createCertificate(null)).withRel(CREATE);
+        Link createLink = linkTemplates.link(LinkTemplate.CERTIFICATE_CREATE, CREATE);
+        links.add(createLink);
+        return links;
+    }
+
+    @Override
+    public List<Link> createLinksCertificates(List<CertificateDto> certificates,
+                                              String cursor,
+                                              String nextCursor,
+                                              int size) throws CustomException {
+        List<Link> links = new ArrayList<>(super.createLinksCertificates(certificates, cursor, nextCursor, size));
+        Link createLink = linkTemplates.link(LinkTemplate.CERTIFICATE_CREATE, CREATE);
+        links.add(createLink);
+        return links;
+    }
+
+    @Override
+    public List<Link> createLinksCertificates(List<CertificateDto> certificates,
+                                              String tag,
+                                              String name,
+                                              String description,
+                                              String sortBy,
+                                              String cursor,
+                                              String nextCursor,
+                                              int size) throws CustomException {
+        List<Link> links = new ArrayList<>(super.createLinksCertificates(certificates, tag, name, description, sortBy,
+                cursor, nextCursor, size));
+        Link createLink = linkTemplates.link(LinkTemplate.CERTIFICATE_CREATE, CREATE);
         links.add(createLink);
         return links;
     }
@@ -1,31 +1,33 @@
 package com.epam.esm.util.impl;
 
-import com.epam.esm.controller.CertificateController;
-import com.epam.esm.controller.TagController;
-import com.epam.esm.controller.UserController;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.service.dto.UserDto;
+import com.epam.esm.util.LinkTemplate;
+import com.epam.esm.util.LinkTemplates;
 import com.epam.esm.util.SingleEntityLinkCreator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
 public class AdminSingleEntityLinkCreator extends SingleEntityLinkCreator {
 
+    @Autowired
+    public AdminSingleEntityLinkCreator(LinkTemplates linkTemplates) {
+        super(linkTemplates);
+    }
+
     @Override
     public List<Link> createLinks(TagDto tag) throws CustomException {
         List<Link> links = new ArrayList<>(super.createLinks(tag));
-        Link deleteLink = linkTo(methodOn(TagController.class).deleteTag(tag.getId())).withRel(DELETE);
-        Link createLink = linkTo(methodOn(TagController.class).createTag(null)).withRel(CREATE);
+        Link deleteLink = linkTemplates.link(LinkTemplate.TAG_DELETE, DELETE, tag.getId());
+        Link createLink = linkTemplates.link(LinkTemplate.TAG_CREATE, CREATE);
         links.add(deleteLink);
         links.add(createLink);
         return links;
@@ -33,30 +35,25 @@ public class AdminSingleEntityLinkCreator extends SingleEntityLinkCreator {
 
     @Override
     public List<Link> createLinks(UserDto user) throws CustomException {
-        Link selfLink = linkTo(methodOn(UserController.class).findUser(null)).withSelfRel();
-        Link ordersLink = linkTo(methodOn(UserController.class).findOrdersByUser(1L, 1, 10))
-                .withRel(ORDERS);
+        Link selfLink = linkTemplates.self(LinkTemplate.CURRENT_USER);
+        Link ordersLink = linkTemplates.link(LinkTemplate.USER_ORDERS, ORDERS, 1L, 1, 10);
         return List.of(selfLink, ordersLink);
     }
 
     @Override
     public List<Link> createLinks(OrderDto order, Long userId) throws CustomException {
-        Link selfLink = linkTo(methodOn(UserController.class).findOrderByUser(userId, order.getId())).withSelfRel();
-        Link ordersLink = linkTo(methodOn(UserController.class).findOrdersByUser(userId, 1, 10))
-                .withRel(ORDERS);
-        Link adminLink = linkTo(methodOn(UserController.class).findUser(null)).withRel(USER);
+        Link selfLink = linkTemplates.self(LinkTemplate.USER_ORDER, userId, order.getId());
+        Link ordersLink = linkTemplates.link(LinkTemplate.USER_ORDERS, ORDERS, userId, 1, 10);
+        Link adminLink = linkTemplates.link(LinkTemplate.CURRENT_USER, USER);
         return List.of(selfLink, ordersLink, adminLink);
     }
 
     @Override
     public List<Link> createLinks(CertificateDto certificate) throws CustomException {
         List<Link> links = new ArrayList<>(super.createLinks(certificate));
-        Link updateLink = linkTo(methodOn(CertificateController.class).updateCertificate(certificate.getId(), null))
-                .withRel(UPDATE);
-        Link deleteLink = linkTo(methodOn(CertificateController.class).deleteCertificate(certificate.getId()))
-                .withRel(DELETE);
-        Link createLink = linkTo(methodOn(CertificateController.class).createCertificate(null))
-                .withRel(CREATE);
+        Link updateLink = linkTemplates.link(LinkTemplate.CERTIFICATE_UPDATE, UPDATE, certificate.getId());
+        Link deleteLink = linkTemplates.link(LinkTemplate.CERTIFICATE_DELETE, DELETE, certificate.getId());
+        Link createLink = linkTemplates.link(LinkTemplate.CERTIFICATE_CREATE, CREATE);
         links.add(updateLink);
         links.add(deleteLink);
         links.add(createLink);
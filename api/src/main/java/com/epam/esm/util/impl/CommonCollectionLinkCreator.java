@@ -3,6 +3,8 @@ package com.epam.esm.util.impl;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.OrderDto;
 import com.epam.esm.util.CollectionLinkCreator;
+import com.epam.esm.util.LinkTemplates;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +14,11 @@ import java.util.List;
 @Component
 public class CommonCollectionLinkCreator extends CollectionLinkCreator {
 
+    @Autowired
+    public CommonCollectionLinkCreator(LinkTemplates linkTemplates) {
+        super(linkTemplates);
+    }
+
     @Override
     public List<Link> createLinks(List<OrderDto> orders, long userId, int page, int size, int lastPage) throws CustomException {
         return new ArrayList<>();
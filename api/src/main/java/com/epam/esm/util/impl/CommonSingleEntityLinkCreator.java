@@ -3,7 +3,9 @@ package com.epam.esm.util.impl;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.OrderDto;
 import com.epam.esm.service.dto.UserDto;
+import com.epam.esm.util.LinkTemplates;
 import com.epam.esm.util.SingleEntityLinkCreator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +14,12 @@ import java.util.List;
 
 @Component
 public class CommonSingleEntityLinkCreator extends SingleEntityLinkCreator {
+
+    @Autowired
+    public CommonSingleEntityLinkCreator(LinkTemplates linkTemplates) {
+        super(linkTemplates);
+    }
+
     @Override
     public List<Link> createLinks(UserDto user) throws CustomException {
         return new ArrayList<>();
@@ -1,57 +1,49 @@
 package com.epam.esm.util.impl;
 
-import com.epam.esm.controller.UserController;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.OrderDto;
 import com.epam.esm.util.CollectionLinkCreator;
+import com.epam.esm.util.LinkTemplate;
+import com.epam.esm.util.LinkTemplates;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
 public class UserCollectionLinkCreator extends CollectionLinkCreator {
 
+    @Autowired
+    public UserCollectionLinkCreator(LinkTemplates linkTemplates) {
+        super(linkTemplates);
+    }
+
     @Override
     public List<Link> createLinks(List<OrderDto> orders, long userId, int page, int size, int lastPage)
             throws CustomException {
         for (OrderDto order : orders) {
-            order.add(linkTo(methodOn(UserController.class)
-                    .findOrderByCurrentUser(null, order.getId())).withSelfRel());
+            order.add(linkTemplates.self(LinkTemplate.CURRENT_USER_ORDER, order.getId()));
         }
         List<Link> links = new ArrayList<>();
-        Link firstPageLink = linkTo(methodOn(UserController.class)
-                .findOrdersByCurrentUser(null, 1, size))
-                .withRel(FIRST_PAGE);
+        Link firstPageLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, FIRST_PAGE, 1, size);
         links.add(firstPageLink);
         if (page > 1 && page <= lastPage) {
-            Link previousPageLink = linkTo(methodOn(UserController.class)
-                    .findOrdersByCurrentUser(null, page - 1, size))
-                    .withRel(PREVIOUS_PAGE);
+            Link previousPageLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, PREVIOUS_PAGE, page - 1, size);
             links.add(previousPageLink);
         }
-        Link currentPageLink = linkTo(methodOn(UserController.class)
-                .findOrdersByCurrentUser(null, page, size))
-                .withRel(CURRENT_PAGE);
+        Link currentPageLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, CURRENT_PAGE, page, size);
         links.add(currentPageLink);
         if (page < lastPage) {
-            Link nexPageLink = linkTo(methodOn(UserController.class)
-                    .findOrdersByCurrentUser(null, page + 1, size))
-                    .withRel(NEXT_PAGE);
+            Link nexPageLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, NEXT_PAGE, page + 1, size);
             links.add(nexPageLink);
         }
-        Link lastPageLink = linkTo(methodOn(UserController.class)
-                .findOrdersByCurrentUser(null, lastPage, size))
-                .withRel(LAST_PAGE);
+        Link lastPageLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, LAST_PAGE, lastPage, size);
         links.add(lastPageLink);
-        Link createOrderLink = linkTo(methodOn(UserController.class).createOrder(null, null))
-                .withRel(CREATE_ORDER);
+        Link createOrderLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDER_CREATE, CREATE_ORDER);
         links.add(createOrderLink);
-        Link userLink = linkTo(methodOn(UserController.class).findUser(null)).withRel(USER);
+        Link userLink = linkTemplates.link(LinkTemplate.CURRENT_USER, USER);
         links.add(userLink);
         return links;
     }
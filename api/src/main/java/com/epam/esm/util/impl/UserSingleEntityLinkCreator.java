@@ -1,39 +1,39 @@
 package com.epam.esm.util.impl;
 
-import com.epam.esm.controller.UserController;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.OrderDto;
 import com.epam.esm.service.dto.UserDto;
+import com.epam.esm.util.LinkTemplate;
+import com.epam.esm.util.LinkTemplates;
 import com.epam.esm.util.SingleEntityLinkCreator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
 public class UserSingleEntityLinkCreator extends SingleEntityLinkCreator {
 
+    @Autowired
+    public UserSingleEntityLinkCreator(LinkTemplates linkTemplates) {
+        super(linkTemplates);
+    }
+
     @Override
     public List<Link> createLinks(UserDto user) throws CustomException {
-        Link selfLink = linkTo(methodOn(UserController.class).findUser(null)).withSelfRel();
-        Link ordersLink = linkTo(methodOn(UserController.class).findOrdersByCurrentUser(null, 1, 10))
-                .withRel(ORDERS);
-        Link createOrderLink = linkTo(methodOn(UserController.class).createOrder(null, null))
-                .withRel(CREATE_ORDER);
+        Link selfLink = linkTemplates.self(LinkTemplate.CURRENT_USER);
+        Link ordersLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, ORDERS, 1, 10);
+        Link createOrderLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDER_CREATE, CREATE_ORDER);
         return List.of(selfLink, ordersLink, createOrderLink);
     }
 
     @Override
     public List<Link> createLinks(OrderDto order, Long userId) throws CustomException {
-        Link selfLink = linkTo(methodOn(UserController.class).findOrderByCurrentUser(null, order.getId())).withSelfRel();
-        Link ordersLink = linkTo(methodOn(UserController.class).findOrdersByCurrentUser(null, 1, 10))
-                .withRel(ORDERS);
-        Link createOrderLink = linkTo(methodOn(UserController.class).createOrder(null, null))
-                .withRel(CREATE_ORDER);
-        Link userLink = linkTo(methodOn(UserController.class).findUser(null)).withRel(USER);
+        Link selfLink = linkTemplates.self(LinkTemplate.CURRENT_USER_ORDER, order.getId());
+        Link ordersLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDERS, ORDERS, 1, 10);
+        Link createOrderLink = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDER_CREATE, CREATE_ORDER);
+        Link userLink = linkTemplates.link(LinkTemplate.CURRENT_USER, USER);
         return List.of(selfLink, ordersLink, createOrderLink, userLink);
     }
 }
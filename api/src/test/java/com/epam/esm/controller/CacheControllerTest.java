@@ -0,0 +1,93 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.ResourceServerApplication;
+import com.epam.esm.service.CacheService;
+import com.epam.esm.service.dto.CacheRegionDto;
+import com.nimbusds.jose.shaded.json.JSONArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CacheController.class)
+@ContextConfiguration(classes = {ResourceServerApplication.class, TestConfig.class})
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheService serviceMock;
+    @Autowired
+    private JwtGrantedAuthoritiesConverter customConverter;
+
+    private Jwt userJwt;
+    private Jwt adminJwt;
+
+    @BeforeEach
+    void setUp() {
+        userJwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("scope", "all")
+                .claim("user_id", Long.valueOf(1L))
+                .claim("user_name", "1@gmail.com")
+                .claim("authorities", new JSONArray().appendElement("ROLE_USER"))
+                .build();
+        adminJwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("scope", "all")
+                .claim("user_id", Long.valueOf(1001L))
+                .claim("user_name", "admin@gmail.com")
+                .claim("authorities", new JSONArray().appendElement("ROLE_ADMIN"))
+                .build();
+    }
+
+    @Test
+    void findAllRegionStatistics_adminJwt_ok() throws Exception {
+        List<CacheRegionDto> regions = List.of(
+                new CacheRegionDto("certificate", 10, 2, 2, 2),
+                new CacheRegionDto("tag", 5, 1, 1, 1));
+        Mockito.when(serviceMock.findAllRegionStatistics()).thenReturn(regions);
+
+        mockMvc.perform(get("/caches")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].region").value("certificate"))
+                .andExpect(jsonPath("$[0].hitCount").value(10))
+                .andExpect(jsonPath("$[0].missCount").value(2));
+
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllRegionStatistics();
+    }
+
+    @Test
+    void findAllRegionStatistics_userJwt_forbidden() throws Exception {
+        mockMvc.perform(get("/caches")
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void findAllRegionStatistics_guestWithoutJwt_unauthorized() throws Exception {
+        mockMvc.perform(get("/caches"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+}
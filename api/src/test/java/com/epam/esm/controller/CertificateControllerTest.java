@@ -5,6 +5,7 @@ import com.epam.esm.exception.CustomErrorCode;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.CertificateService;
 import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.shaded.json.JSONArray;
@@ -14,6 +15,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
@@ -35,6 +37,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -108,6 +111,38 @@ class CertificateControllerTest {
         Mockito.verify(serviceMock, Mockito.times(1)).findById(Mockito.anyLong());
     }
 
+    @Test
+    void findCertificate_guestWithCurrentETag_notModified() throws Exception {
+        Mockito.when(serviceMock.findCatalogVersion()).thenReturn("5");
+
+        mockMvc.perform(get("/certificates/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5-common\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5-common\""));
+
+        Mockito.verify(serviceMock, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    @Test
+    void findCertificate_adminJwtWithStaleETag_ok() throws Exception {
+        CertificateDto dto = new CertificateDto();
+        dto.setId(1L);
+        dto.setTags(Set.of());
+        Mockito.when(serviceMock.findCatalogVersion()).thenReturn("6");
+        Mockito.when(serviceMock.findById(Mockito.anyLong())).thenReturn(dto);
+
+        mockMvc.perform(get("/certificates/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5-admin\"")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6-admin\""))
+                .andExpect(jsonPath("$.id").value(1L));
+
+        Mockito.verify(serviceMock, Mockito.times(1)).findById(Mockito.anyLong());
+    }
+
     @Test
     void findCertificate_userJwtAndExistentCertificateId_ok() throws Exception {
         CertificateDto dto = new CertificateDto();
@@ -218,8 +253,8 @@ class CertificateControllerTest {
         CertificateDto dto2 = new CertificateDto();
         dto2.setId(2L);
         List<CertificateDto> dtos = List.of(dto1, dto2);
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenReturn(dtos);
-        Mockito.when(serviceMock.findAllLastPage(Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(dtos, 100));
 
         mockMvc.perform(get("/certificates?page=2&size=3"))
                 .andDo(print())
@@ -233,8 +268,7 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$._links.search.href", notNullValue()))
                 .andExpect(jsonPath("$._links.findByTags.href", notNullValue()));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1)).findAllLastPage(Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -244,8 +278,8 @@ class CertificateControllerTest {
         CertificateDto dto2 = new CertificateDto();
         dto2.setId(2L);
         List<CertificateDto> dtos = List.of(dto1, dto2);
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenReturn(dtos);
-        Mockito.when(serviceMock.findAllLastPage(Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(dtos, 100));
 
         mockMvc.perform(get("/certificates?page=2&size=3")
                         .with(jwt().jwt(userJwt).authorities(customConverter)))
@@ -260,8 +294,7 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$._links.search.href", notNullValue()))
                 .andExpect(jsonPath("$._links.findByTags.href", notNullValue()));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1)).findAllLastPage(Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -271,8 +304,8 @@ class CertificateControllerTest {
         CertificateDto dto2 = new CertificateDto();
         dto2.setId(2L);
         List<CertificateDto> dtos = List.of(dto1, dto2);
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenReturn(dtos);
-        Mockito.when(serviceMock.findAllLastPage(Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(dtos, 100));
 
         mockMvc.perform(get("/certificates?page=2&size=3")
                         .with(jwt().jwt(adminJwt).authorities(customConverter)))
@@ -288,14 +321,13 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$._links.findByTags.href", notNullValue()))
                 .andExpect(jsonPath("$._links.create.href", notNullValue()));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1)).findAllLastPage(Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
     void findCertificate_notValidPaginationParameters_badRequest() throws Exception {
         CustomException ex = new CustomException("error", CustomErrorCode.NOT_VALID_DATA);
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenThrow(ex);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt())).thenThrow(ex);
 
         mockMvc.perform(get("/certificates?page=-2&size=-3"))
                 .andDo(print())
@@ -303,7 +335,67 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("Not valid data: error"))
                 .andExpect(jsonPath("$.errorCode").value(40001));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void findAllCertificatesByCursor_guestWithoutJwtAndFullPage_ok() throws Exception {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        dto1.setName("name1");
+        dto1.setCreateDate(LocalDateTime.parse("2022-02-01T12:00:00"));
+        CertificateDto dto2 = new CertificateDto();
+        dto2.setId(2L);
+        dto2.setName("name2");
+        dto2.setCreateDate(LocalDateTime.parse("2022-02-02T12:00:00"));
+        List<CertificateDto> dtos = List.of(dto1, dto2);
+        Mockito.when(serviceMock.findAllByCursor(Mockito.anyString(), Mockito.anyInt())).thenReturn(dtos);
+
+        mockMvc.perform(get("/certificates?cursor=&size=2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.certificates", hasSize(2)))
+                .andExpect(jsonPath("$._links.firstPage.href", notNullValue()))
+                .andExpect(jsonPath("$._links.currentPage.href", notNullValue()))
+                .andExpect(jsonPath("$._links.nextPage.href", notNullValue()))
+                .andExpect(jsonPath("$._links.search.href", notNullValue()))
+                .andExpect(jsonPath("$._links.findByTags.href", notNullValue()));
+
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllByCursor(Mockito.anyString(), Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.never()).findAllPage(Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void findAllCertificatesByCursor_adminJwtAndLastPage_ok() throws Exception {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        List<CertificateDto> dtos = List.of(dto1);
+        Mockito.when(serviceMock.findAllByCursor(Mockito.anyString(), Mockito.anyInt())).thenReturn(dtos);
+
+        mockMvc.perform(get("/certificates?cursor=&size=2")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.certificates", hasSize(1)))
+                .andExpect(jsonPath("$._links.firstPage.href", notNullValue()))
+                .andExpect(jsonPath("$._links.currentPage.href", notNullValue()))
+                .andExpect(jsonPath("$._links.nextPage").doesNotExist())
+                .andExpect(jsonPath("$._links.create.href", notNullValue()));
+
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllByCursor(Mockito.anyString(), Mockito.anyInt());
+    }
+
+    @Test
+    void findAllCertificatesByCursor_notValidCursor_badRequest() throws Exception {
+        CustomException ex = new CustomException("cursor=bad", CustomErrorCode.NOT_VALID_DATA);
+        Mockito.when(serviceMock.findAllByCursor(Mockito.anyString(), Mockito.anyInt())).thenThrow(ex);
+
+        mockMvc.perform(get("/certificates?cursor=bad&size=2"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(40001));
+
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllByCursor(Mockito.anyString(), Mockito.anyInt());
     }
 
     @Test
@@ -552,9 +644,8 @@ class CertificateControllerTest {
         CertificateDto dto2 = new CertificateDto();
         dto2.setId(2L);
         List<CertificateDto> dtos = List.of(dto1, dto2);
-        Mockito.when(serviceMock.findAllByParameters(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(dtos);
-        Mockito.when(serviceMock.findAllByParametersLastPage(Mockito.anyMap(), Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllByParametersPage(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(dtos, 100));
 
         mockMvc.perform(get("/certificates/search?page=2&size=3&tag=tag_1&sorting=name.asc"))
                 .andDo(print())
@@ -569,9 +660,7 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$._links.findByTags.href", notNullValue()));
 
         Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParameters(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParametersLastPage(Mockito.anyMap(), Mockito.anyInt());
+                .findAllByParametersPage(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -581,9 +670,8 @@ class CertificateControllerTest {
         CertificateDto dto2 = new CertificateDto();
         dto2.setId(2L);
         List<CertificateDto> dtos = List.of(dto1, dto2);
-        Mockito.when(serviceMock.findAllByParameters(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(dtos);
-        Mockito.when(serviceMock.findAllByParametersLastPage(Mockito.anyMap(), Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllByParametersPage(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(dtos, 100));
 
         mockMvc.perform(get("/certificates/search?page=2&size=3&tag=tag_1&sorting=name.asc")
                         .with(jwt().jwt(userJwt).authorities(customConverter)))
@@ -599,9 +687,7 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$._links.findByTags.href", notNullValue()));
 
         Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParameters(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParametersLastPage(Mockito.anyMap(), Mockito.anyInt());
+                .findAllByParametersPage(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -611,9 +697,8 @@ class CertificateControllerTest {
         CertificateDto dto2 = new CertificateDto();
         dto2.setId(2L);
         List<CertificateDto> dtos = List.of(dto1, dto2);
-        Mockito.when(serviceMock.findAllByParameters(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(dtos);
-        Mockito.when(serviceMock.findAllByParametersLastPage(Mockito.anyMap(), Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllByParametersPage(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(dtos, 100));
 
         mockMvc.perform(get("/certificates/search?page=2&size=3&tag=tag_1&sorting=name.asc")
                         .with(jwt().jwt(adminJwt).authorities(customConverter)))
@@ -630,15 +715,13 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$._links.create.href", notNullValue()));
 
         Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParameters(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParametersLastPage(Mockito.anyMap(), Mockito.anyInt());
+                .findAllByParametersPage(Mockito.anyMap(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
     void findAllCertificatesByParameters_notValidParameters_bagRequest() throws Exception {
         CustomException ex = new CustomException("error", CustomErrorCode.NOT_VALID_DATA);
-        Mockito.when(serviceMock.findAllByParameters(Mockito.any(), Mockito.anyInt(), Mockito.anyInt())).thenThrow(ex);
+        Mockito.when(serviceMock.findAllByParametersPage(Mockito.any(), Mockito.anyInt(), Mockito.anyInt())).thenThrow(ex);
 
         mockMvc.perform(get("/certificates/search?tag=wront_tag&sorting=name.asc"))
                 .andDo(print())
@@ -647,6 +730,6 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$.errorCode").value(40001));
 
         Mockito.verify(serviceMock, Mockito.times(1))
-                .findAllByParameters(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+                .findAllByParametersPage(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
     }
 }
\ No newline at end of file
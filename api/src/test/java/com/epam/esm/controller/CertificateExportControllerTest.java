@@ -0,0 +1,152 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.ResourceServerApplication;
+import com.epam.esm.enumeration.ExportFormat;
+import com.epam.esm.service.CertificateExportService;
+import com.nimbusds.jose.shaded.json.JSONArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CertificateExportController.class)
+@ContextConfiguration(classes = {ResourceServerApplication.class, TestConfig.class})
+class CertificateExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CertificateExportService serviceMock;
+    @Autowired
+    private JwtGrantedAuthoritiesConverter customConverter;
+
+    private Jwt userJwt;
+    private Jwt adminJwt;
+
+    @BeforeEach
+    void setUp() {
+        userJwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("scope", "all")
+                .claim("user_id", Long.valueOf(1L))
+                .claim("user_name", "1@gmail.com")
+                .claim("authorities", new JSONArray().appendElement("ROLE_USER"))
+                .build();
+        adminJwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("scope", "all")
+                .claim("user_id", Long.valueOf(1001L))
+                .claim("user_name", "admin@gmail.com")
+                .claim("authorities", new JSONArray().appendElement("ROLE_ADMIN"))
+                .build();
+    }
+
+    @Test
+    void exportCertificates_csvAdminJwt_ok() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("id,name\r\n1,a\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(serviceMock).exportAll(Mockito.any(OutputStream.class), Mockito.eq(ExportFormat.CSV));
+
+        MvcResult result = mockMvc.perform(get("/certificates/export?format=csv")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,name\r\n1,a\r\n"));
+
+        Mockito.verify(serviceMock, Mockito.times(1))
+                .exportAll(Mockito.any(OutputStream.class), Mockito.eq(ExportFormat.CSV));
+    }
+
+    @Test
+    void exportCertificates_ndjsonUserJwt_ok() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(serviceMock).exportAll(Mockito.any(OutputStream.class), Mockito.eq(ExportFormat.NDJSON));
+
+        MvcResult result = mockMvc.perform(get("/certificates/export")
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void exportCertificates_guestWithoutJwt_unauthorized() throws Exception {
+        mockMvc.perform(get("/certificates/export?format=csv"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+
+        Mockito.verify(serviceMock, Mockito.never()).exportAll(Mockito.any(OutputStream.class), Mockito.any());
+    }
+
+    @Test
+    void exportCertificates_tooManyConcurrentExports_tooManyRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return 0L;
+        }).when(serviceMock).exportAll(Mockito.any(OutputStream.class), Mockito.any());
+
+        MvcResult first = mockMvc.perform(get("/certificates/export")
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult second = mockMvc.perform(get("/certificates/export")
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(get("/certificates/export")
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value(42901));
+        release.countDown();
+
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+        mockMvc.perform(asyncDispatch(second)).andExpect(status().isOk());
+    }
+
+    @Test
+    void exportCertificates_notValidFormat_badRequest() throws Exception {
+        mockMvc.perform(get("/certificates/export?format=xml")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(40001));
+    }
+}
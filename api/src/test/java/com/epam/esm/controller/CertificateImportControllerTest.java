@@ -0,0 +1,139 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.ResourceServerApplication;
+import com.epam.esm.enumeration.ImportFormat;
+import com.epam.esm.enumeration.ImportJobStatus;
+import com.epam.esm.exception.CustomErrorCode;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.CertificateImportService;
+import com.epam.esm.service.dto.ImportJobDto;
+import com.nimbusds.jose.shaded.json.JSONArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CertificateImportController.class)
+@ContextConfiguration(classes = {ResourceServerApplication.class, TestConfig.class})
+class CertificateImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CertificateImportService serviceMock;
+    @Autowired
+    private JwtGrantedAuthoritiesConverter customConverter;
+
+    private Jwt userJwt;
+    private Jwt adminJwt;
+
+    @BeforeEach
+    void setUp() {
+        userJwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("scope", "all")
+                .claim("user_id", Long.valueOf(1L))
+                .claim("user_name", "1@gmail.com")
+                .claim("authorities", new JSONArray().appendElement("ROLE_USER"))
+                .build();
+        adminJwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("scope", "all")
+                .claim("user_id", Long.valueOf(1001L))
+                .claim("user_name", "admin@gmail.com")
+                .claim("authorities", new JSONArray().appendElement("ROLE_ADMIN"))
+                .build();
+    }
+
+    @Test
+    void importCertificates_csvAdminJwt_accepted() throws Exception {
+        ImportJobDto job = new ImportJobDto(7L, ImportJobStatus.RUNNING, 0, 0, 0, 0,
+                LocalDateTime.now(), null, List.of());
+        Mockito.when(serviceMock.importCertificates(Mockito.any(InputStream.class), Mockito.eq(ImportFormat.CSV)))
+                .thenReturn(job);
+
+        mockMvc.perform(post("/certificates/imports")
+                        .content("name,description,price,duration,tags\na,d,10,5,tag\na,d,10,5,tag\n")
+                        .contentType("text/csv")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/certificates/imports/7")))
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$._links.self.href", notNullValue()));
+
+        Mockito.verify(serviceMock, Mockito.times(1))
+                .importCertificates(Mockito.any(InputStream.class), Mockito.eq(ImportFormat.CSV));
+    }
+
+    @Test
+    void importCertificates_userJwt_forbidden() throws Exception {
+        mockMvc.perform(post("/certificates/imports")
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void importCertificates_notSupportedMediaType_unsupportedMediaType() throws Exception {
+        mockMvc.perform(post("/certificates/imports")
+                        .content("<certificates/>")
+                        .contentType(MediaType.APPLICATION_XML_VALUE)
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void findImportJob_adminJwt_ok() throws Exception {
+        ImportJobDto job = new ImportJobDto(7L, ImportJobStatus.RUNNING, 1000, 990, 5, 5,
+                LocalDateTime.now(), null, List.of());
+        Mockito.when(serviceMock.findJobById(7L)).thenReturn(job);
+
+        mockMvc.perform(get("/certificates/imports/7")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.processed").value(1000))
+                .andExpect(jsonPath("$._links.self.href", notNullValue()));
+    }
+
+    @Test
+    void findImportJob_notExistingJob_notFound() throws Exception {
+        CustomException ex = new CustomException("error", CustomErrorCode.RESOURCE_NOT_FOUND);
+        Mockito.when(serviceMock.findJobById(Mockito.anyLong())).thenThrow(ex);
+
+        mockMvc.perform(get("/certificates/imports/99")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value(40401));
+    }
+}
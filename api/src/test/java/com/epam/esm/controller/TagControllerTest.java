@@ -5,6 +5,7 @@ import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.exception.CustomErrorCode;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.shaded.json.JSONArray;
@@ -14,6 +15,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
@@ -30,6 +32,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -167,8 +170,8 @@ class TagControllerTest {
         TagDto tag3 = new TagDto(3L, "tag3");
         List<TagDto> tags = List.of(tag1, tag2, tag3);
 
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenReturn(tags);
-        Mockito.when(serviceMock.findAllLastPage(Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(tags, 100));
 
         mockMvc.perform(get("/tags?page=2&size=3"))
                 .andDo(print())
@@ -181,8 +184,20 @@ class TagControllerTest {
                 .andExpect(jsonPath("$._links.lastPage.href", notNullValue()))
                 .andExpect(jsonPath("$._links.findTheMostWidelyTag.href", notNullValue()));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1)).findAllLastPage(Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void findAllTag_guestWithCurrentETag_notModified() throws Exception {
+        Mockito.when(serviceMock.findCatalogVersion()).thenReturn("3");
+
+        mockMvc.perform(get("/tags?page=1&size=10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3-common\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-common\""));
+
+        Mockito.verify(serviceMock, Mockito.never()).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -192,8 +207,8 @@ class TagControllerTest {
         TagDto tag3 = new TagDto(3L, "tag3");
         List<TagDto> tags = List.of(tag1, tag2, tag3);
 
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenReturn(tags);
-        Mockito.when(serviceMock.findAllLastPage(Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(tags, 100));
 
         mockMvc.perform(get("/tags?page=2&size=3")
                         .with(jwt().jwt(userJwt).authorities(customConverter)))
@@ -207,8 +222,7 @@ class TagControllerTest {
                 .andExpect(jsonPath("$._links.lastPage.href", notNullValue()))
                 .andExpect(jsonPath("$._links.findTheMostWidelyTag.href", notNullValue()));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1)).findAllLastPage(Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -218,8 +232,8 @@ class TagControllerTest {
         TagDto tag3 = new TagDto(3L, "tag3");
         List<TagDto> tags = List.of(tag1, tag2, tag3);
 
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenReturn(tags);
-        Mockito.when(serviceMock.findAllLastPage(Mockito.anyInt())).thenReturn(100);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(tags, 100));
 
         mockMvc.perform(get("/tags?page=2&size=3")
                         .with(jwt().jwt(adminJwt).authorities(customConverter)))
@@ -234,14 +248,13 @@ class TagControllerTest {
                 .andExpect(jsonPath("$._links.findTheMostWidelyTag.href", notNullValue()))
                 .andExpect(jsonPath("$._links.create.href", notNullValue()));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(serviceMock, Mockito.times(1)).findAllLastPage(Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
     void findAllTag_notValidPaginationParameters_badRequest() throws Exception {
         CustomException ex = new CustomException("error", CustomErrorCode.NOT_VALID_DATA);
-        Mockito.when(serviceMock.findAll(Mockito.anyInt(), Mockito.anyInt())).thenThrow(ex);
+        Mockito.when(serviceMock.findAllPage(Mockito.anyInt(), Mockito.anyInt())).thenThrow(ex);
 
         mockMvc.perform(get("/tags?page=-2&size=-3"))
                 .andDo(print())
@@ -249,7 +262,7 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("Not valid data: error"))
                 .andExpect(jsonPath("$.errorCode").value(40001));
 
-        Mockito.verify(serviceMock, Mockito.times(1)).findAll(Mockito.anyInt(), Mockito.anyInt());
+        Mockito.verify(serviceMock, Mockito.times(1)).findAllPage(Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -475,6 +488,32 @@ class TagControllerTest {
         Mockito.verify(serviceMock, Mockito.times(1)).findTheMostWidelyTag();
     }
 
+    @Test
+    void recomputeTheMostWidelyTag_adminJwt_ok() throws Exception {
+        TagDto tag = new TagDto(1L, "tag");
+        Mockito.when(serviceMock.recomputeTheMostWidelyTag()).thenReturn(tag);
+
+        mockMvc.perform(post("/tags/the-most-widely/recompute")
+                        .with(jwt().jwt(adminJwt).authorities(customConverter))
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.name").value("tag"))
+                .andExpect(jsonPath("$._links.self.href", notNullValue()));
+
+        Mockito.verify(serviceMock, Mockito.times(1)).recomputeTheMostWidelyTag();
+    }
+
+    @Test
+    void recomputeTheMostWidelyTag_userJwt_forbidden() throws Exception {
+        mockMvc.perform(post("/tags/the-most-widely/recompute")
+                        .with(jwt().jwt(userJwt).authorities(customConverter))
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void findTheMostWidelyTag_wrongHttpMethod_methodNotSupported() throws Exception {
         mockMvc.perform(post("/tags/the-most-widely")
@@ -1,5 +1,8 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.service.VersionedReadService;
+import com.epam.esm.service.impl.VersionedReadServiceImpl;
+import com.epam.esm.util.LinkTemplates;
 import com.epam.esm.util.impl.AdminCollectionLinkCreator;
 import com.epam.esm.util.impl.AdminSingleEntityLinkCreator;
 import com.epam.esm.util.impl.CommonCollectionLinkCreator;
@@ -22,34 +25,44 @@ public class TestConfig {
         return objectMapper;
     }
 
+    @Bean
+    public VersionedReadService versionedReadService() {
+        return new VersionedReadServiceImpl();
+    }
+
+    @Bean
+    public LinkTemplates linkTemplates() {
+        return new LinkTemplates();
+    }
+
     @Bean
     public UserSingleEntityLinkCreator userSingleEntityLinkCreator() {
-        return new UserSingleEntityLinkCreator();
+        return new UserSingleEntityLinkCreator(linkTemplates());
     }
 
     @Bean
     public UserCollectionLinkCreator userCollectionLinkCreator() {
-        return new UserCollectionLinkCreator();
+        return new UserCollectionLinkCreator(linkTemplates());
     }
 
     @Bean
     public AdminSingleEntityLinkCreator adminSingleEntityLinkCreator() {
-        return new AdminSingleEntityLinkCreator();
+        return new AdminSingleEntityLinkCreator(linkTemplates());
     }
 
     @Bean
     public AdminCollectionLinkCreator adminCollectionLinkCreator() {
-        return new AdminCollectionLinkCreator();
+        return new AdminCollectionLinkCreator(linkTemplates());
     }
 
     @Bean
     public CommonSingleEntityLinkCreator commonSingleEntityLinkCreator() {
-        return new CommonSingleEntityLinkCreator();
+        return new CommonSingleEntityLinkCreator(linkTemplates());
     }
 
     @Bean
     public CommonCollectionLinkCreator commonCollectionLinkCreator() {
-        return new CommonCollectionLinkCreator();
+        return new CommonCollectionLinkCreator(linkTemplates());
     }
 
     @Bean
@@ -8,6 +8,8 @@ import com.epam.esm.service.OrderService;
 import com.epam.esm.service.UserService;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
+import com.epam.esm.service.dto.OrderResultDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.UserDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.shaded.json.JSONArray;
@@ -17,6 +19,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
@@ -131,10 +134,8 @@ class UserControllerTest {
         order3.setId(3L);
         List<OrderDto> orders = List.of(order1, order2, order3);
 
-        Mockito.when(orderServiceMock.findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(orders);
-        Mockito.when(orderServiceMock.findAllByUserLastPage(Mockito.anyLong(), Mockito.anyInt()))
-                .thenReturn(100);
+        Mockito.when(orderServiceMock.findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(orders, 100));
 
         mockMvc.perform(get("/users/me/orders?page=2&size=3")
                         .with(jwt().jwt(userJwt).authorities(customConverter)))
@@ -150,9 +151,21 @@ class UserControllerTest {
                 .andExpect(jsonPath("$._links.user.href", notNullValue()));
 
         Mockito.verify(orderServiceMock, Mockito.times(1))
-                .findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(orderServiceMock, Mockito.times(1))
-                .findAllByUserLastPage(Mockito.anyLong(), Mockito.anyInt());
+                .findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void findOrdersByCurrentUser_userJWTWithCurrentETag_notModified() throws Exception {
+        Mockito.when(orderServiceMock.findAllByUserVersion(1L)).thenReturn("9");
+
+        mockMvc.perform(get("/users/me/orders?page=2&size=3")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"9-user\"")
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+
+        Mockito.verify(orderServiceMock, Mockito.never())
+                .findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -173,7 +186,7 @@ class UserControllerTest {
     @Test
     void findOrdersByCurrentUser_notValidPaginationParameters_badRequest() throws Exception {
         CustomException ex = new CustomException("error", CustomErrorCode.NOT_VALID_DATA);
-        Mockito.when(orderServiceMock.findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
+        Mockito.when(orderServiceMock.findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
                 .thenThrow(ex);
 
         mockMvc.perform(get("/users/me/orders?page=-2&size=-3")
@@ -184,7 +197,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.errorCode").value(40001));
 
         Mockito.verify(orderServiceMock, Mockito.times(1))
-                .findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
+                .findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -197,10 +210,8 @@ class UserControllerTest {
         order3.setId(3L);
         List<OrderDto> orders = List.of(order1, order2, order3);
 
-        Mockito.when(orderServiceMock.findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(orders);
-        Mockito.when(orderServiceMock.findAllByUserLastPage(Mockito.anyLong(), Mockito.anyInt()))
-                .thenReturn(100);
+        Mockito.when(orderServiceMock.findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(new PageDto<>(orders, 100));
 
         mockMvc.perform(get("/users/1/orders?page=2&size=3")
                         .with(jwt().jwt(adminJwt).authorities(customConverter)))
@@ -215,9 +226,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$._links.user.href", notNullValue()));
 
         Mockito.verify(orderServiceMock, Mockito.times(1))
-                .findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(orderServiceMock, Mockito.times(1))
-                .findAllByUserLastPage(Mockito.anyLong(), Mockito.anyInt());
+                .findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -238,7 +247,7 @@ class UserControllerTest {
     @Test
     void findOrdersByUser_notValidPaginationParameters_badRequest() throws Exception {
         CustomException ex = new CustomException("error", CustomErrorCode.NOT_VALID_DATA);
-        Mockito.when(orderServiceMock.findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
+        Mockito.when(orderServiceMock.findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
                 .thenThrow(ex);
 
         mockMvc.perform(get("/users/1/orders?page=-2&size=-3")
@@ -249,7 +258,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.errorCode").value(40001));
 
         Mockito.verify(orderServiceMock, Mockito.times(1))
-                .findAllByUser(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
+                .findAllByUserPage(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -496,4 +505,49 @@ class UserControllerTest {
         Mockito.verify(orderServiceMock, Mockito.times(1))
                 .create(Mockito.anyLong(), Mockito.anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createOrders_correctUserJWT_created() throws Exception {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        dto1.setPrice(new BigDecimal("100.00"));
+        CertificateDto dto2 = new CertificateDto();
+        dto2.setId(2L);
+        dto2.setPrice(new BigDecimal("200.00"));
+        List<List<CertificateDto>> orders = List.of(List.of(dto1), List.of(dto2));
+        List<OrderResultDto> results = List.of(
+                new OrderResultDto(0, 42L, new BigDecimal("100.00"), null, null),
+                OrderResultDto.failed(1, "certificate id=[2]", CustomErrorCode.RESOURCE_NOT_FOUND));
+        Mockito.when(orderServiceMock.createAll(Mockito.anyLong(), Mockito.anyList())).thenReturn(results);
+
+        String jsonContent = mapper.writeValueAsString(orders);
+
+        mockMvc.perform(post("/users/me/orders/bulk")
+                        .content(jsonContent)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .with(jwt().jwt(userJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].orderId").value(42))
+                .andExpect(jsonPath("$[1].errorCode").value(40401));
+
+        Mockito.verify(orderServiceMock, Mockito.times(1))
+                .createAll(Mockito.anyLong(), Mockito.anyList());
+    }
+
+    @Test
+    void createOrders_adminJWT_forbidden() throws Exception {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        dto1.setPrice(new BigDecimal("100.00"));
+        String jsonContent = mapper.writeValueAsString(List.of(List.of(dto1)));
+
+        mockMvc.perform(post("/users/me/orders/bulk")
+                        .content(jsonContent)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .with(jwt().jwt(adminJwt).authorities(customConverter)))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,78 @@
+package com.epam.esm.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class CachingJwtAuthenticationManagerTest {
+
+    private static final Instant NOW = Instant.parse("2022-05-01T10:00:00Z");
+
+    private AuthenticationProvider providerMock;
+    private CachingJwtAuthenticationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        providerMock = Mockito.mock(AuthenticationProvider.class);
+        manager = new CachingJwtAuthenticationManager(providerMock, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void authenticateCached() {
+        Mockito.when(providerMock.authenticate(Mockito.any())).thenReturn(authentication(NOW.plusSeconds(60)));
+        BearerTokenAuthenticationToken first = new BearerTokenAuthenticationToken("token");
+        first.setDetails("first request");
+        BearerTokenAuthenticationToken second = new BearerTokenAuthenticationToken("token");
+        second.setDetails("second request");
+        Authentication firstResult = manager.authenticate(first);
+        Authentication secondResult = manager.authenticate(second);
+
+        Mockito.verify(providerMock, Mockito.times(1)).authenticate(Mockito.any());
+        Assertions.assertEquals(firstResult.getAuthorities(), secondResult.getAuthorities());
+        Assertions.assertEquals("second request", secondResult.getDetails());
+        Assertions.assertTrue(secondResult.isAuthenticated());
+    }
+
+    @Test
+    void authenticateExpiredNotCached() {
+        Mockito.when(providerMock.authenticate(Mockito.any())).thenReturn(authentication(NOW.minusSeconds(1)));
+        manager.authenticate(new BearerTokenAuthenticationToken("token"));
+        manager.authenticate(new BearerTokenAuthenticationToken("token"));
+
+        Mockito.verify(providerMock, Mockito.times(2)).authenticate(Mockito.any());
+    }
+
+    @Test
+    void authenticateInvalidNotCached() {
+        Mockito.when(providerMock.authenticate(Mockito.any())).thenThrow(new InvalidBearerTokenException("invalid"));
+        Assertions.assertThrows(InvalidBearerTokenException.class,
+                () -> manager.authenticate(new BearerTokenAuthenticationToken("token")));
+        Assertions.assertThrows(InvalidBearerTokenException.class,
+                () -> manager.authenticate(new BearerTokenAuthenticationToken("token")));
+
+        Mockito.verify(providerMock, Mockito.times(2)).authenticate(Mockito.any());
+    }
+
+    private static JwtAuthenticationToken authentication(Instant expiresAt) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("user_name", "1@gmail.com")
+                .issuedAt(expiresAt.minusSeconds(2000))
+                .expiresAt(expiresAt)
+                .build();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_USER")), "1@gmail.com");
+    }
+}
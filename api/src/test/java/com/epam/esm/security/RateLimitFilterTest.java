@@ -0,0 +1,99 @@
+package com.epam.esm.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setUseCodeAsDefaultMessage(true);
+        AtomicLong nanos = new AtomicLong();
+        filter = new RateLimitFilter(true, new RateLimiter(100, Duration.ofMinutes(1), nanos::get), messageSource);
+        for (RateLimitFilter.EndpointClass endpointClass : RateLimitFilter.EndpointClass.values()) {
+            filter.setLimit(endpointClass, new RateLimiter.Limit(0.5, 1));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilterRejected() throws Exception {
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/certificates/search").getStatus());
+        MockHttpServletResponse response = doFilter("GET", "/certificates/search");
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        Assertions.assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertTrue(response.getContentAsString().contains("42901"));
+    }
+
+    @Test
+    void doFilterSeparateEndpointClasses() throws Exception {
+        doFilter("GET", "/certificates/search");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/certificates").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/certificates/1").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("POST", "/certificates").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/certificates/export").getStatus());
+    }
+
+    @Test
+    void doFilterExportNotCountedAsList() throws Exception {
+        doFilter("GET", "/certificates/export");
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                doFilter("GET", "/certificates/export").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/certificates").getStatus());
+    }
+
+    @Test
+    void doFilterSeparateUsers() throws Exception {
+        authenticate(1L);
+        doFilter("GET", "/certificates/search");
+        authenticate(2L);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/certificates/search").getStatus());
+    }
+
+    @Test
+    void doFilterActuatorNotLimited() throws Exception {
+        doFilter("GET", "/actuator/health");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), doFilter("GET", "/actuator/health").getStatus());
+    }
+
+    private MockHttpServletResponse doFilter(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(long userId) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("user_id", userId)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
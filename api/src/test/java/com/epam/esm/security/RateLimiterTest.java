@@ -0,0 +1,86 @@
+package com.epam.esm.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RateLimiterTest {
+
+    private static final RateLimiter.Limit LIMIT = new RateLimiter.Limit(2, 3);
+
+    private AtomicLong nanos;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        rateLimiter = new RateLimiter(100, Duration.ofMinutes(1), nanos::get);
+    }
+
+    @Test
+    void tryAcquireBurst() {
+        for (int i = 0; i < LIMIT.burst(); i++) {
+            Assertions.assertEquals(0, rateLimiter.tryAcquire("client", LIMIT));
+        }
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.tryAcquire("client", LIMIT));
+    }
+
+    @Test
+    void tryAcquireRefilled() {
+        for (int i = 0; i < LIMIT.burst(); i++) {
+            rateLimiter.tryAcquire("client", LIMIT);
+        }
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(300), rateLimiter.tryAcquire("client", LIMIT));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        Assertions.assertEquals(0, rateLimiter.tryAcquire("client", LIMIT));
+        Assertions.assertTrue(rateLimiter.tryAcquire("client", LIMIT) > 0);
+    }
+
+    @Test
+    void tryAcquireSeparateClients() {
+        for (int i = 0; i < LIMIT.burst(); i++) {
+            rateLimiter.tryAcquire("client", LIMIT);
+        }
+        Assertions.assertTrue(rateLimiter.tryAcquire("client", LIMIT) > 0);
+        Assertions.assertEquals(0, rateLimiter.tryAcquire("other client", LIMIT));
+    }
+
+    @Test
+    void tryAcquireConcurrently() throws Exception {
+        RateLimiter.Limit limit = new RateLimiter.Limit(1, 1000);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    if (rateLimiter.tryAcquire("client", limit) == 0) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Assertions.assertEquals(limit.burst(), acquired.get());
+    }
+}
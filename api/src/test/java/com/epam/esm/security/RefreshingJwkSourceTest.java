@@ -0,0 +1,55 @@
+package com.epam.esm.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RefreshingJwkSourceTest {
+
+    private static final JWKSelector UNKNOWN_KEY = new JWKSelector(new JWKMatcher.Builder().keyID("unknown").build());
+
+    @Test
+    void getFailedFetchNotRepeated() throws MalformedURLException {
+        AtomicInteger fetches = new AtomicInteger();
+        RefreshingJwkSource source = new RefreshingJwkSource(new URL("http://localhost/jwks.json"),
+                Duration.ofMinutes(1)) {
+            @Override
+            JWKSet load() throws IOException {
+                fetches.incrementAndGet();
+                throw new IOException("authorization server is down");
+            }
+        };
+
+        Assertions.assertThrows(KeySourceException.class, () -> source.get(UNKNOWN_KEY, null));
+        Assertions.assertThrows(KeySourceException.class, () -> source.get(UNKNOWN_KEY, null));
+
+        Assertions.assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void getUnknownKeyNotRefetched() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        RefreshingJwkSource source = new RefreshingJwkSource(new URL("http://localhost/jwks.json"),
+                Duration.ofMinutes(1)) {
+            @Override
+            JWKSet load() {
+                fetches.incrementAndGet();
+                return new JWKSet();
+            }
+        };
+
+        Assertions.assertTrue(source.get(UNKNOWN_KEY, null).isEmpty());
+        Assertions.assertTrue(source.get(UNKNOWN_KEY, null).isEmpty());
+
+        Assertions.assertEquals(1, fetches.get());
+    }
+}
@@ -0,0 +1,89 @@
+package com.epam.esm.util;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.controller.UserController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplatesTest {
+
+    private final LinkTemplates linkTemplates = new LinkTemplates();
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("example.com");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void self_pathVariable() throws Exception {
+        Link expected = linkTo(methodOn(TagController.class).findTag(null, 5L)).withSelfRel();
+        Link actual = linkTemplates.self(LinkTemplate.TAG, 5L);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void link_pathVariables() throws Exception {
+        Link expected = linkTo(methodOn(UserController.class).findOrderByUser(3L, 7L)).withRel(LinkCreator.ORDERS);
+        Link actual = linkTemplates.link(LinkTemplate.USER_ORDER, LinkCreator.ORDERS, 3L, 7L);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void link_withoutParameters() throws Exception {
+        Link expected = linkTo(methodOn(UserController.class).createOrder(null, null))
+                .withRel(LinkCreator.CREATE_ORDER);
+        Link actual = linkTemplates.link(LinkTemplate.CURRENT_USER_ORDER_CREATE, LinkCreator.CREATE_ORDER);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void link_requestParameters() throws Exception {
+        Link expected = linkTo(methodOn(CertificateController.class)
+                .findAllCertificatesByParameters(null, 2, 10, "tag name", null, "spa & relax", "name.asc"))
+                .withRel(LinkCreator.NEXT_PAGE);
+        Link actual = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_PARAMETERS, LinkCreator.NEXT_PAGE,
+                2, 10, "tag name", null, "spa & relax", "name.asc");
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void link_emptyCursor() throws Exception {
+        Link expected = linkTo(methodOn(CertificateController.class)
+                .findAllCertificatesByCursor(null, LinkCreator.FIRST_CURSOR, 10))
+                .withRel(LinkCreator.FIRST_PAGE);
+        Link actual = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_CURSOR, LinkCreator.FIRST_PAGE,
+                LinkCreator.FIRST_CURSOR, 10);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void link_arrayParameter() {
+        Link actual = linkTemplates.link(LinkTemplate.CERTIFICATES_BY_TAGS, LinkCreator.FIND_BY_TAGS,
+                1, 10, new String[]{"a", "b c"});
+        assertEquals("http://example.com:8080/certificates?page=1&size=10&tags=a&tags=b%20c", actual.getHref());
+    }
+
+    @Test
+    void link_wrongArgumentCount() {
+        assertThrows(IllegalArgumentException.class, () -> linkTemplates.link(LinkTemplate.TAG, LinkCreator.DELETE));
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.esm.config;
+
+import com.epam.esm.enumeration.UserRole;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+
+/**
+ * Class represent security configuration of actuator endpoints.
+ * Health is public, other endpoints (prometheus) require admin credentials by HTTP Basic.
+ */
+@Configuration
+@Order(1)
+public class ActuatorWebSecurityConfig extends WebSecurityConfigurerAdapter {
+
+    @Override
+    protected void configure(HttpSecurity http) throws Exception {
+        http
+                .requestMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeRequests()
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .anyRequest().hasAuthority(UserRole.ROLE_ADMIN.name())
+                .and()
+                .httpBasic()
+                .and()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+    }
+}
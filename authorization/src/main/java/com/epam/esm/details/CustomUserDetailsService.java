@@ -1,31 +1,55 @@
 package com.epam.esm.details;
 
 import com.epam.esm.dao.entity.User;
+import com.epam.esm.enumeration.UserRole;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.UserService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final long USER_CACHE_SIZE = 10_000;
+
     private UserService service;
+    private Cache<String, UserCredentials> users;
 
     @Autowired
-    public CustomUserDetailsService(UserService service) {
+    public CustomUserDetailsService(UserService service,
+                                    @Value("${esm.security.user-cache-ttl-seconds:30}") long userCacheTtlSeconds) {
         this.service = service;
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(userCacheTtlSeconds))
+                .maximumSize(USER_CACHE_SIZE)
+                .build();
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        try {
-            User user = service.findByUsernameForSecurity(username);
-            return new CustomUserDetails(user.getLogin(), user.getPassword(), user.getRole(), user.getId());
-        } catch (CustomException e) {
-            throw new UsernameNotFoundException("");
+        UserCredentials credentials = users.getIfPresent(username);
+        if (credentials == null) {
+            try {
+                User user = service.findByUsernameForSecurity(username);
+                credentials = new UserCredentials(user.getLogin(), user.getPassword(), user.getRole(), user.getId());
+                users.put(username, credentials);
+            } catch (CustomException e) {
+                throw new UsernameNotFoundException("");
+            }
         }
+        // new instance every time: authentication manager erases the password of returned details
+        return new CustomUserDetails(credentials.login(), credentials.password(), credentials.role(),
+                credentials.id());
+    }
+
+    private record UserCredentials(String login, String password, UserRole role, Long id) {
     }
 }
@@ -18,7 +18,7 @@ class CustomUserDetailsServiceTest {
 
     public CustomUserDetailsServiceTest (){
         userServiceMock = Mockito.mock(UserService.class);
-        service = new CustomUserDetailsService(userServiceMock);
+        service = new CustomUserDetailsService(userServiceMock, 30);
     }
 
     @Test
@@ -36,6 +36,24 @@ class CustomUserDetailsServiceTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void loadUserByUsernameCached() throws CustomException {
+        User user = new User();
+        user.setId(1L);
+        user.setLogin("ivan@gmail.com");
+        user.setPassword("ivan_password");
+        user.setName("Ivan");
+        user.setRole(UserRole.ROLE_USER);
+        Mockito.when(userServiceMock.findByUsernameForSecurity(Mockito.anyString())).thenReturn(user);
+        UserDetails first = service.loadUserByUsername("ivan@gmail.com");
+        ((CustomUserDetails) first).eraseCredentials();
+        UserDetails second = service.loadUserByUsername("ivan@gmail.com");
+
+        Mockito.verify(userServiceMock, Mockito.times(1)).findByUsernameForSecurity(Mockito.anyString());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("ivan_password", second.getPassword());
+    }
+
     @Test
     void loadUserByUsernameNotFoundException() throws CustomException {
         CustomException ex = new CustomException("error", CustomErrorCode.RESOURCE_NOT_FOUND);
@@ -0,0 +1,29 @@
+package com.epam.esm.benchmark;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Configuration of core context for benchmarks.
+ * Api module shares packages with core and is on the same classpath, so its web components are excluded.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackages = "com.epam.esm.dao.entity")
+@EnableJpaRepositories(basePackages = "com.epam.esm.dao")
+@ComponentScan(basePackages = {
+        "com.epam.esm.config",
+        "com.epam.esm.dao",
+        "com.epam.esm.event",
+        "com.epam.esm.index",
+        "com.epam.esm.service",
+        "com.epam.esm.util"},
+        excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = {
+                "com\\.epam\\.esm\\.config\\.(Localization|ResourceServerWebSecurityConfig)",
+                "com\\.epam\\.esm\\.util\\.(LinkTemplates|impl\\..*LinkCreator)"}))
+public class BenchmarkCoreConfig {
+}
@@ -0,0 +1,68 @@
+package com.epam.esm.benchmark;
+
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.util.DtoEntityConvector;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Util class creates in-memory data shaped like the rows seeded by {@link CertificateServiceBenchmark}.
+ */
+final class BenchmarkData {
+
+    static final int TAGS = 1000;
+    static final int TAGS_PER_CERTIFICATE = 3;
+    static final LocalDateTime START_DATE = LocalDateTime.parse("2022-02-01T11:59:01");
+
+    private BenchmarkData() {
+    }
+
+    static List<GiftCertificate> certificates(int count) {
+        List<GiftCertificate> certificates = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            GiftCertificate certificate = new GiftCertificate();
+            certificate.setId((long) i);
+            certificate.setName("certificate " + i);
+            certificate.setDescription("description " + i);
+            certificate.setPrice(new BigDecimal(100 + i % 10 * 10));
+            certificate.setDuration(30 * (i % 5 + 1));
+            certificate.setCreateDate(START_DATE.plusMinutes(i));
+            certificate.setLastUpdateDate(START_DATE.plusMinutes(i));
+            certificate.setActive(true);
+            Set<CustomTag> tags = new HashSet<>();
+            for (int j = 0; j < TAGS_PER_CERTIFICATE; j++) {
+                long tagId = (i + j) % TAGS + 1;
+                CustomTag tag = new CustomTag("tag_" + tagId);
+                tag.setId(tagId);
+                tags.add(tag);
+            }
+            certificate.setTags(tags);
+            certificates.add(certificate);
+        }
+        return certificates;
+    }
+
+    static List<CertificateDto> certificateDtos(int count) {
+        return new ArrayList<>(DtoEntityConvector.convertCertificates(certificates(count)));
+    }
+
+    static CertificateDto certificateDto() {
+        CertificateDto dto = new CertificateDto();
+        dto.setName("certificate for benchmark");
+        dto.setDescription("Spa day & dinner, valid in 2022!");
+        dto.setPrice(new BigDecimal("150.50"));
+        dto.setDuration(90);
+        TagDto tag = new TagDto();
+        tag.setName("tag_benchmark");
+        dto.setTags(new HashSet<>(Set.of(tag)));
+        return dto;
+    }
+}
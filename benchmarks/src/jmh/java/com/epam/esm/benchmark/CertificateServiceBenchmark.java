@@ -0,0 +1,120 @@
+package com.epam.esm.benchmark;
+
+import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.CertificateService;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.PageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of CertificateService list methods against embedded H2 database.
+ * Every trial starts core context on its own in-memory database seeded with the given number of certificates,
+ * each of them has {@value BenchmarkData#TAGS_PER_CERTIFICATE} of {@value BenchmarkData#TAGS} tags.
+ * Hibernate second-level and query caches are off unless {@code cached} is set: with them the same page is served
+ * from memory after the first invocation, and the database work is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CertificateServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    public int certificateCount;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private ConfigurableApplicationContext context;
+    private CertificateService service;
+    private Map<SearchParameterName, String> parameters;
+    private String[] tags;
+    private int middlePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkCoreConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark_" + certificateCount + "_" + cached
+                                + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cached,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + cached);
+        seed(context.getBean(JdbcTemplate.class));
+        service = context.getBean(CertificateService.class);
+        parameters = new EnumMap<>(SearchParameterName.class);
+        parameters.put(SearchParameterName.NAME, "certificate 1");
+        parameters.put(SearchParameterName.SORT_BY, SortingType.NAME_ASC.getType());
+        tags = new String[]{"tag_7", "tag_8"};
+        middlePage = certificateCount / PAGE_SIZE / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageDto<CertificateDto> findAllFirstPage() throws CustomException {
+        return service.findAllPage(1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PageDto<CertificateDto> findAllMiddlePage() throws CustomException {
+        return service.findAllPage(middlePage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<CertificateDto> findAllByCursor() throws CustomException {
+        return service.findAllByCursor("", PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PageDto<CertificateDto> findAllByParameters() throws CustomException {
+        return service.findAllByParametersPage(parameters, 1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PageDto<CertificateDto> findAllByTags() throws CustomException {
+        return service.findAllByTagsPage(tags, 1, PAGE_SIZE);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO tags (name) "
+                + "SELECT 'tag_' || X FROM SYSTEM_RANGE(1, " + BenchmarkData.TAGS + ")");
+        jdbcTemplate.update("INSERT INTO gift_certificates "
+                + "(name, description, price, duration, create_date, last_update_date, active) "
+                + "SELECT 'certificate ' || X, 'description ' || X, 100 + MOD(X, 10) * 10, 30 * (MOD(X, 5) + 1), "
+                + "DATEADD(MINUTE, X, TIMESTAMP '2022-02-01 11:59:01'), "
+                + "DATEADD(MINUTE, X, TIMESTAMP '2022-02-01 11:59:01'), 1 "
+                + "FROM SYSTEM_RANGE(1, " + certificateCount + ")");
+        for (int j = 0; j < BenchmarkData.TAGS_PER_CERTIFICATE; j++) {
+            jdbcTemplate.update("INSERT INTO gift_certificates_tags (id_gift_certificate, id_tag) "
+                    + "SELECT X, MOD(X + " + j + ", " + BenchmarkData.TAGS + ") + 1 "
+                    + "FROM SYSTEM_RANGE(1, " + certificateCount + ")");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.esm.benchmark;
+
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.util.DtoEntityConvector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of entity to dto conversion of a certificate page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private List<GiftCertificate> certificates;
+
+    @Setup
+    public void setUp() {
+        certificates = BenchmarkData.certificates(pageSize);
+    }
+
+    @Benchmark
+    public List<CertificateDto> convertCertificates() {
+        return DtoEntityConvector.convertCertificates(certificates);
+    }
+}
@@ -0,0 +1,114 @@
+package com.epam.esm.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-model HTTP load test: every client sends the next request as soon as the previous one is answered.
+ * It is used to compare platform-thread and 'virtual-threads' modes of a running server.
+ * <p>
+ * Arguments: url [clients=1000] [duration seconds=60] [warmup seconds=10].
+ * Prints throughput, error count and latency percentiles of the measured period.
+ */
+public class HttpLoadTest {
+
+    private static final int DEFAULT_CLIENTS = 1000;
+    private static final int DEFAULT_DURATION_SECONDS = 60;
+    private static final int DEFAULT_WARMUP_SECONDS = 10;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: HttpLoadTest url [clients] [duration seconds] [warmup seconds]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENTS;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_DURATION_SECONDS;
+        int warmupSeconds = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_WARMUP_SECONDS;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+
+        long measureStart = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureEnd = measureStart + Duration.ofSeconds(durationSeconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>(clients);
+        int[] counts = new int[clients];
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            int client = i;
+            long[] clientLatencies = new long[1024];
+            latencies.add(clientLatencies);
+            Thread thread = new Thread(() -> {
+                long[] buffer = clientLatencies;
+                int count = 0;
+                try {
+                    long now = System.nanoTime();
+                    while (now < measureEnd) {
+                        long start = now;
+                        boolean failed;
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request,
+                                    HttpResponse.BodyHandlers.discarding());
+                            failed = response.statusCode() >= 500;
+                        } catch (Exception e) {
+                            failed = true;
+                        }
+                        now = System.nanoTime();
+                        if (start < measureStart) {
+                            continue;
+                        }
+                        if (failed) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, count * 2);
+                        }
+                        buffer[count++] = now - start;
+                    }
+                } finally {
+                    latencies.set(client, buffer);
+                    counts[client] = count;
+                    finished.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        finished.await();
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int position = 0;
+        for (int i = 0; i < clients; i++) {
+            System.arraycopy(latencies.get(i), 0, all, position, counts[i]);
+            position += counts[i];
+        }
+        Arrays.sort(all);
+        System.out.printf("url=%s clients=%d duration=%ds%n", uri, clients, durationSeconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                total, errors.get(), (double) total / durationSeconds);
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.epam.esm.benchmark;
+
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.util.CollectionLinkCreator;
+import com.epam.esm.util.LinkTemplates;
+import com.epam.esm.util.impl.AdminCollectionLinkCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of HATEOAS links creation for a certificate page.
+ * Request attributes are thread-bound, so the state is per benchmark thread and links added to the page on
+ * the previous invocation are removed before links are created again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LinkCreationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private CollectionLinkCreator linkCreator;
+    private List<CertificateDto> certificates;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        linkCreator = new AdminCollectionLinkCreator(new LinkTemplates());
+        certificates = BenchmarkData.certificateDtos(pageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<Link> createLinksCertificates() throws CustomException {
+        certificates.forEach(CertificateDto::removeLinks);
+        return linkCreator.createLinksCertificates(certificates, 3, pageSize, 10);
+    }
+
+    @Benchmark
+    public List<Link> createLinksCertificatesByParameters() throws CustomException {
+        certificates.forEach(CertificateDto::removeLinks);
+        return linkCreator.createLinksCertificates(certificates, "tag_1", "certificate", "description",
+                SortingType.NAME_ASC.getType(), 3, pageSize, 10);
+    }
+}
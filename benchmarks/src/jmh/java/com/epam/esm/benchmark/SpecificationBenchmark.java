@@ -0,0 +1,52 @@
+package com.epam.esm.benchmark;
+
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.specification.SpecificationCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of search parameters to specification conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecificationBenchmark {
+
+    private Map<SearchParameterName, String> singleParameter;
+    private Map<SearchParameterName, String> allParameters;
+
+    @Setup
+    public void setUp() {
+        singleParameter = new EnumMap<>(SearchParameterName.class);
+        singleParameter.put(SearchParameterName.NAME, "certificate 1");
+        allParameters = new EnumMap<>(SearchParameterName.class);
+        allParameters.put(SearchParameterName.ACTIVE, Boolean.TRUE.toString());
+        allParameters.put(SearchParameterName.TAG, "tag_1");
+        allParameters.put(SearchParameterName.NAME, "certificate 1");
+        allParameters.put(SearchParameterName.DESCRIPTION, "description");
+        allParameters.put(SearchParameterName.SORT_BY, SortingType.NAME_ASC.getType());
+    }
+
+    @Benchmark
+    public Specification<GiftCertificate> getSpecificationSingleParameter() {
+        return SpecificationCreator.getSpecification(singleParameter);
+    }
+
+    @Benchmark
+    public Specification<GiftCertificate> getSpecificationAllParameters() {
+        return SpecificationCreator.getSpecification(allParameters);
+    }
+}
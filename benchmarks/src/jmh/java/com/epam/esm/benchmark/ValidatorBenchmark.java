@@ -0,0 +1,107 @@
+package com.epam.esm.benchmark;
+
+import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.RegistrationFormDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.service.validator.CustomValidator;
+import com.epam.esm.service.validator.impl.CustomValidatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of CustomValidator methods called on every request.
+ * Validator is shared by all benchmark threads, like a singleton bean between request threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private CustomValidator validator;
+    private TagDto tag;
+    private CertificateDto certificate;
+    private CertificateDto certificateUpdate;
+    private Map<SearchParameterName, String> parameters;
+    private RegistrationFormDto registrationForm;
+    private List<CertificateDto> certificates;
+
+    @Setup
+    public void setUp() {
+        validator = new CustomValidatorImpl();
+        tag = new TagDto();
+        tag.setName("tag_benchmark");
+        certificate = BenchmarkData.certificateDto();
+        certificateUpdate = new CertificateDto();
+        certificateUpdate.setDescription("New description, now with 10% more words.");
+        certificateUpdate.setDuration(60);
+        parameters = new EnumMap<>(SearchParameterName.class);
+        parameters.put(SearchParameterName.TAG, "tag_1");
+        parameters.put(SearchParameterName.NAME, "certificate 1");
+        parameters.put(SearchParameterName.DESCRIPTION, "description");
+        parameters.put(SearchParameterName.SORT_BY, SortingType.DATE_DESC_NAME_ASC.getType());
+        registrationForm = new RegistrationFormDto();
+        registrationForm.setUsername("benchmark.user@example.com");
+        registrationForm.setName("Benchmark User");
+        registrationForm.setPassword("pa$$w0rd");
+        certificates = BenchmarkData.certificateDtos(100);
+    }
+
+    @Benchmark
+    public boolean validateEntityId() {
+        return validator.validateEntityId(42L);
+    }
+
+    @Benchmark
+    public boolean validateTagDto() {
+        return validator.validateTagDto(tag);
+    }
+
+    @Benchmark
+    public boolean validateCertificateDtoCreate() {
+        return validator.validateCertificateDtoCreate(certificate);
+    }
+
+    @Benchmark
+    public boolean validateCertificateDtoUpdate() {
+        return validator.validateCertificateDtoUpdate(certificateUpdate);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean validateCertificateDtoCreateConcurrent() {
+        return validator.validateCertificateDtoCreate(certificate);
+    }
+
+    @Benchmark
+    public boolean validateSearchParameters() {
+        return validator.validateSearchParameters(parameters);
+    }
+
+    @Benchmark
+    public boolean validateRegistrationForm() {
+        return validator.validateRegistrationForm(registrationForm);
+    }
+
+    @Benchmark
+    public boolean validatePageSize() {
+        return validator.validatePageSize(3, 10);
+    }
+
+    @Benchmark
+    public boolean validateCertificateList() {
+        return validator.validateCertificateList(certificates);
+    }
+}
@@ -0,0 +1,120 @@
+package com.epam.esm.aspect;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.OrderDao;
+import com.epam.esm.service.CertificateService;
+import com.epam.esm.service.OrderService;
+import com.epam.esm.service.TagService;
+import com.epam.esm.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspect records execution time of service and DAO methods.
+ * Timers are named esm.service and esm.dao and tagged by component, method and thrown exception.
+ * If there is no MeterRegistry bean (e.g. in tests), the global registry is used.
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    static final String SERVICE_TIMER = "esm.service";
+    static final String DAO_TIMER = "esm.dao";
+    static final String COMPONENT_TAG = "component";
+    static final String METHOD_TAG = "method";
+    static final String EXCEPTION_TAG = "exception";
+    static final String NO_EXCEPTION = "none";
+
+    private static final List<Class<?>> COMPONENTS = List.of(CertificateService.class, OrderService.class,
+            TagService.class, UserService.class, GiftCertificateDao.class, OrderDao.class);
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, Map<Method, Timer>> successTimers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MetricsAspect(ObjectProvider<MeterRegistry> registryProvider) {
+        this(registryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    MetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Pointcut("execution(public * *(..)) && !execution(* java.lang.Object.*(..))")
+    void publicMethod() {
+    }
+
+    @Pointcut("this(com.epam.esm.service.CertificateService) || this(com.epam.esm.service.OrderService) "
+            + "|| this(com.epam.esm.service.TagService) || this(com.epam.esm.service.UserService)")
+    void service() {
+    }
+
+    @Pointcut("this(com.epam.esm.dao.GiftCertificateDao) || this(com.epam.esm.dao.OrderDao)")
+    void dao() {
+    }
+
+    @Around("publicMethod() && service()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("publicMethod() && dao()")
+    public Object timeDao(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(DAO_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            long duration = System.nanoTime() - start;
+            timer(name, joinPoint, e.getClass().getSimpleName()).record(duration, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long duration = System.nanoTime() - start;
+        // inherited repository methods are shared by DAOs, so timers are kept per proxy class
+        Map<Method, Timer> timers = successTimers.computeIfAbsent(joinPoint.getThis().getClass(),
+                c -> new ConcurrentHashMap<>());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, m -> timer(name, joinPoint, NO_EXCEPTION));
+        }
+        timer.record(duration, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private Timer timer(String name, ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(name)
+                .tag(COMPONENT_TAG, getComponent(joinPoint.getThis()))
+                .tag(METHOD_TAG, joinPoint.getSignature().getName())
+                .tag(EXCEPTION_TAG, exception)
+                .register(registry);
+    }
+
+    private String getComponent(Object proxy) {
+        for (Class<?> component : COMPONENTS) {
+            if (component.isInstance(proxy)) {
+                return component.getSimpleName();
+            }
+        }
+        return proxy.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,28 @@
+package com.epam.esm.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executor of GiftCertificates import jobs. Jobs over the queue capacity are rejected.
+ */
+@Configuration
+public class ImportExecutorConfig {
+
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+    private static final String THREAD_NAME_PREFIX = "certificates-import-";
+
+    @Bean(name = IMPORT_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor importExecutor(@Value("${esm.import.threads:2}") int threads,
+                                             @Value("${esm.import.queue-capacity:10}") int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,47 @@
+package com.epam.esm.config;
+
+import com.epam.esm.util.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared password encoder for registration and authentication.
+ * Hashes stored without '{id}' prefix are verified as BCrypt.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String THREAD_NAME_PREFIX = "password-hash-";
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${esm.password.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${esm.password.queue-capacity:100}") int queueCapacity,
+            @Value("${esm.password.timeout-ms:5000}") long timeoutMs,
+            @Value("${esm.password.cache-ttl-seconds:60}") long cacheTtlSeconds,
+            @Value("${esm.password.cache-size:10000}") long cacheSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        DelegatingPasswordEncoder delegate =
+                (DelegatingPasswordEncoder) PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        delegate.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.AbortPolicy());
+        return new BoundedPasswordEncoder(delegate, executor, Duration.ofMillis(timeoutMs),
+                Duration.ofSeconds(cacheTtlSeconds), cacheSize, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.esm.config;
+
+import com.epam.esm.dao.datasource.RecentWrites;
+import com.epam.esm.dao.datasource.ReplicaCacheModeTransactionManager;
+import com.epam.esm.dao.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, active when esm.datasource.replica-urls is set.
+ * Primary pool is configured by spring.datasource.* properties as before, replicas share its driver and,
+ * by default, its credentials. Replica pools have short connection and validation timeouts, so reads routed to
+ * a dead replica fail fast and the replica is ejected instead of blocking requests for Hikari's default 30 s.
+ * Read-only transactions do not put entities loaded from replicas into the second-level cache.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "esm.datasource", name = "replica-urls")
+public class ReadReplicaDataSourceConfig {
+
+    private static final String REPLICA_POOL_PREFIX = "replica-";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${esm.datasource.replica-urls}") String[] replicaUrls,
+            @Value("${esm.datasource.replica-username:${spring.datasource.username:}}") String username,
+            @Value("${esm.datasource.replica-password:${spring.datasource.password:}}") String password,
+            @Value("${esm.datasource.replica-pool-size:10}") int poolSize,
+            @Value("${esm.datasource.replica-connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${esm.datasource.replica-validation-timeout-ms:500}") long validationTimeoutMs,
+            @Value("${esm.datasource.sticky-after-write-ms:5000}") long stickyAfterWriteMs) {
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.length);
+        for (int i = 0; i < replicaUrls.length; i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(REPLICA_POOL_PREFIX + i);
+            config.setJdbcUrl(replicaUrls[i].trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(connectionTimeoutMs);
+            config.setValidationTimeout(validationTimeoutMs);
+            config.setReadOnly(true);
+            // replica may be down at start, it is ejected and checked later
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                new RecentWrites(Duration.ofMillis(stickyAfterWriteMs)));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new ReplicaCacheModeTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
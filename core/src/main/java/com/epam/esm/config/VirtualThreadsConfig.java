@@ -0,0 +1,50 @@
+package com.epam.esm.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration of profile 'virtual-threads'.
+ * Tomcat requests and MVC async tasks (streaming responses) are executed on virtual threads, one per task,
+ * so blocking JDBC calls do not exhaust a fixed worker pool and concurrency is limited by the connection pool.
+ * Virtual threads need JDK 21 or later, so the executor is created reflectively and the application fails
+ * to start on an older JDK.
+ */
+@Configuration
+@Profile("virtual-threads")
+@ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+public class VirtualThreadsConfig {
+
+    private static final String FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(FACTORY_METHOD).invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Profile 'virtual-threads' requires JDK 21 or later, current JDK is "
+                    + Runtime.version(), e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Virtual thread executor was not created", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.epam.esm.dao;
+
+/**
+ * Names of Hibernate second-level cache regions.
+ * Sizes and expiration of every region are configured in application.conf (caffeine.jcache section).
+ */
+public final class CacheRegion {
+
+    public static final String CERTIFICATE = "certificate";
+    public static final String CERTIFICATE_TAGS = "certificate.tags";
+    public static final String TAG = "tag";
+    public static final String TAG_BY_NAME = "tag.byName";
+
+    private CacheRegion() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.dao.entity.CatalogVersion;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Interface for database operation with CatalogVersion entity
+ */
+public interface CatalogVersionDao extends Repository<CatalogVersion, String> {
+
+    /**
+     * Find current value of modification counter without loading the entity
+     *
+     * @param name counter name
+     * @return counter value or 0 if counter does not exist
+     */
+    @Query("SELECT COALESCE(MAX(v.version), 0) FROM CatalogVersion v WHERE v.name = :name")
+    long findVersion(@Param("name") String name);
+
+    /**
+     * Increment modification counter. Joins the current transaction if there is one,
+     * so the new version becomes visible together with the modification.
+     *
+     * @param name counter name
+     * @return quantity of updated counters
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CatalogVersion v SET v.version = v.version + 1 WHERE v.name = :name")
+    int incrementVersion(@Param("name") String name);
+}
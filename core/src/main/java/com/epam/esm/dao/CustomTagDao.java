@@ -1,8 +1,15 @@
 package com.epam.esm.dao;
 
 import com.epam.esm.dao.entity.CustomTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,8 +23,28 @@ public interface CustomTagDao extends PagingAndSortingRepository<CustomTag, Long
      * @param name CustomTag name
      * @return Optional representation of CustomTag or empty Optional, if CustomTag was not found
      */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = CacheRegion.TAG_BY_NAME)})
     Optional<CustomTag> findByName(String name);
 
+    /**
+     * Find all CustomTags by names
+     *
+     * @param names CustomTags names
+     * @return list of CustomTags or empty list if no one CustomTag was not found
+     */
+    List<CustomTag> findAllByNameIn(Collection<String> names);
+
+    /**
+     * Find all CustomTags with pagination without counting of total elements quantity
+     *
+     * @param paging pagination parameters
+     * @return Slice of CustomTags
+     */
+    @Query("SELECT t FROM CustomTag t")
+    Slice<CustomTag> findAllWithoutCount(Pageable paging);
+
     /**
      * Find the most widely tag by user of a user with the highest cost of all orders.
      * If such users more than one, take first of them.
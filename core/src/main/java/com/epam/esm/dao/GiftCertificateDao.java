@@ -1,15 +1,23 @@
 package com.epam.esm.dao;
 
 import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.util.CertificateKey;
+import com.epam.esm.util.ContinuationToken;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface for database operation with GiftCertificate entity
@@ -26,6 +34,15 @@ public interface GiftCertificateDao extends PagingAndSortingRepository<GiftCerti
      */
     Optional<GiftCertificate> findByIdAndActive(long id, boolean active);
 
+    /**
+     * Find all GiftCertificates by ids and active
+     *
+     * @param ids    GiftCertificates ids
+     * @param active GiftCertificate active status
+     * @return List of GiftCertificates or empty List if no one GiftCertificate was not found
+     */
+    List<GiftCertificate> findAllByIdInAndActive(Collection<Long> ids, boolean active);
+
     /**
      * Find all GiftCertificates by active
      *
@@ -52,6 +69,27 @@ public interface GiftCertificateDao extends PagingAndSortingRepository<GiftCerti
      */
     Page<GiftCertificate> findAll(Specification<GiftCertificate> specification, Pageable paging);
 
+    /**
+     * Find all GiftCertificates by specification as read-only dto without counting of total elements quantity.
+     * Dto are built from flat GiftCertificate-CustomTag join, entities are not loaded to persistence context.
+     *
+     * @param specification search parameters
+     * @param paging        pagination parameters
+     * @return List of GiftCertificates as CertificateDto or empty List if no one GiftCertificate was not found
+     */
+    List<CertificateDto> findAllAsDto(Specification<GiftCertificate> specification, Pageable paging);
+
+    /**
+     * Stream all active GiftCertificates ordered by id as read-only dto through forward-only database cursor.
+     * Dto are built from flat GiftCertificate-CustomTag join, entities are not loaded to persistence context.
+     * Stream must be consumed inside transaction and closed after use.
+     *
+     * @param fetchSize quantity of rows fetched from database at once, Integer.MIN_VALUE streams rows one by one
+     *                  with MySQL driver
+     * @return Stream of GiftCertificates as CertificateDto
+     */
+    Stream<CertificateDto> streamAllActiveAsDto(int fetchSize);
+
     /**
      * Count all GiftCertificates by specification
      *
@@ -61,7 +99,50 @@ public interface GiftCertificateDao extends PagingAndSortingRepository<GiftCerti
     long count(Specification<GiftCertificate> specification);
 
     /**
-     * Find all GiftCertificates by several tags names (“and” condition) and active
+     * Find all GiftCertificates by specification with keyset (seek) pagination.
+     * Page starts right after GiftCertificate described by continuation token.
+     *
+     * @param specification search parameters
+     * @param sortingType   sorting type
+     * @param token         continuation token or null for the first page
+     * @param size          page size
+     * @return List of GiftCertificates or empty List if no one GiftCertificate was not found
+     */
+    List<GiftCertificate> findAllByKeyset(Specification<GiftCertificate> specification,
+                                          SortingType sortingType,
+                                          ContinuationToken token,
+                                          int size);
+
+    /**
+     * Stream all links between active GiftCertificates and their tags through forward-only database cursor.
+     * Stream must be consumed inside transaction and closed after use.
+     *
+     * @param fetchSize quantity of rows fetched from database at once, Integer.MIN_VALUE streams rows one by one
+     *                  with MySQL driver
+     * @return Stream of arrays {GiftCertificate id, CustomTag id, CustomTag name}
+     */
+    Stream<Object[]> streamAllActiveTagLinks(int fetchSize);
+
+    /**
+     * Find natural keys of all active GiftCertificates with given names
+     *
+     * @param names GiftCertificates names
+     * @return list of CertificateKey or empty list if no one GiftCertificate was not found
+     */
+    @Query("SELECT new com.epam.esm.util.CertificateKey(c.name, c.description, c.price, c.duration) "
+            + "FROM GiftCertificate c WHERE c.active = true AND c.name IN :names")
+    List<CertificateKey> findAllKeysByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Insert new active GiftCertificates and their links to CustomTags with JDBC batches.
+     * Generated ids are set to GiftCertificates. All CustomTags must already have ids.
+     *
+     * @param certificates new GiftCertificates
+     */
+    void saveAllInBatch(List<GiftCertificate> certificates);
+
+    /**
+     * Find all GiftCertificates by several tags names (“and” condition) and active ordered by id
      *
      * @param tagsNames tags names
      * @param active    GiftCertificate active status
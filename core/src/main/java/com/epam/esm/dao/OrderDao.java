@@ -2,6 +2,7 @@ package com.epam.esm.dao;
 
 import com.epam.esm.dao.entity.Order;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.util.List;
@@ -38,4 +39,31 @@ public interface OrderDao extends PagingAndSortingRepository<Order, Long> {
      */
     Optional<Order> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * Insert new Orders and their links to GiftCertificates with JDBC batches.
+     * Generated ids are set to Orders.
+     *
+     * @param orders new Orders
+     */
+    void saveAllInBatch(List<Order> orders);
+
+    /**
+     * Sum Orders amount of every User
+     *
+     * @return list of arrays {User id, total amount}
+     */
+    @Query("SELECT o.user.id, SUM(o.amount) FROM Order o GROUP BY o.user.id")
+    List<Object[]> sumAmountGroupByUser();
+
+    /**
+     * Count purchased tags of every User. Tag is counted once for every ordered GiftCertificate having it.
+     *
+     * @return list of arrays {User id, CustomTag id, CustomTag name, quantity}
+     */
+    @Query("""
+            SELECT o.user.id, t.id, t.name, COUNT(t.id)
+            FROM Order o JOIN o.giftCertificatesList c JOIN c.tags t
+            GROUP BY o.user.id, t.id, t.name""")
+    List<Object[]> countTagsGroupByUser();
+
 }
\ No newline at end of file
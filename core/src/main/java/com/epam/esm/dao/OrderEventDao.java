@@ -0,0 +1,70 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.dao.entity.OrderEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface for database operation with OrderEvent entity (orders outbox)
+ */
+public interface OrderEventDao extends CrudRepository<OrderEvent, Long> {
+
+    /**
+     * Find OrderEvents written after the given one in sequence order
+     *
+     * @param id     OrderEvent id
+     * @param paging pagination parameters
+     * @return list of OrderEvents or empty list if there are no later OrderEvents
+     */
+    List<OrderEvent> findAllByIdGreaterThanOrderByIdAsc(long id, Pageable paging);
+
+    /**
+     * Find OrderEvents by ids in sequence order
+     *
+     * @param ids OrderEvent ids
+     * @return list of found OrderEvents
+     */
+    List<OrderEvent> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * Delete OrderEvents created before the date
+     *
+     * @param before creation date limit
+     * @return quantity of deleted OrderEvents
+     */
+    @Modifying
+    @Query("DELETE FROM OrderEvent e WHERE e.createDate < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Find the last written OrderEvent sequence number
+     *
+     * @return OrderEvent id or 0 if outbox is empty
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OrderEvent e")
+    long findLastSequence();
+
+    /**
+     * Find sequence numbers of OrderEvents written after the given one
+     *
+     * @param id OrderEvent id
+     * @return list of OrderEvent ids
+     */
+    @Query("SELECT e.id FROM OrderEvent e WHERE e.id > :id")
+    List<Long> findAllIdsGreaterThan(@Param("id") long id);
+
+    /**
+     * Insert new OrderEvents with JDBC batch.
+     * Generated ids are set to OrderEvents.
+     *
+     * @param events new OrderEvents
+     */
+    void saveAllInBatch(List<OrderEvent> events);
+}
@@ -0,0 +1,53 @@
+package com.epam.esm.dao.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Users who committed a write during the last stickiness window.
+ * Their read-only transactions go to primary database, so they see their own writes despite replication lag.
+ * User is identified by name of current Authentication, anonymous writes are not tracked.
+ */
+public class RecentWrites {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<String, Boolean> writers;
+
+    /**
+     * @param window stickiness window after write, zero disables tracking
+     */
+    public RecentWrites(Duration window) {
+        this.writers = window.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAXIMUM_SIZE)
+                .build();
+    }
+
+    /**
+     * Remember write of current user.
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (writers != null && user != null) {
+            writers.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @return true if current user wrote during the stickiness window
+     */
+    public boolean isRecentWriter() {
+        String user = currentUser();
+        return writers != null && user != null && writers.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.epam.esm.dao.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Transaction manager for read/write splitting.
+ * Read-only transactions may read from a lagging replica, so their session only reads the second-level cache
+ * and does not put loaded entities into it: a stale replica row must not replace an entry evicted by a write.
+ * The cache is filled by read-write transactions, which use primary database.
+ */
+public class ReplicaCacheModeTransactionManager extends JpaTransactionManager {
+
+    /**
+     * @param entityManagerFactory factory of transactional EntityManagers
+     */
+    public ReplicaCacheModeTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        setCacheMode(definition.isReadOnly() ? CacheMode.GET : CacheMode.NORMAL);
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        super.doCleanupAfterCompletion(transaction);
+        // EntityManager opened outside of the transaction (open-in-view) outlives it
+        setCacheMode(CacheMode.NORMAL);
+    }
+
+    private void setCacheMode(CacheMode cacheMode) {
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null && holder.getEntityManager().isOpen()) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(cacheMode);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.epam.esm.dao.datasource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource sends connections of read-only transactions to replica databases (round robin over healthy ones)
+ * and all other connections to primary database.
+ * Read-only transactions of user who wrote recently go to primary (read your writes).
+ * Replica failed to give a connection or to pass periodic validation is ejected until the next successful check;
+ * without healthy replicas primary is used.
+ * Must be wrapped into LazyConnectionDataSourceProxy, so connection is taken after read-only flag of transaction is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final RecentWrites recentWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary      primary database
+     * @param replicas     replica databases
+     * @param recentWrites users who wrote recently
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, RecentWrites recentWrites) {
+        this.primary = primary;
+        this.replicas = replicas.stream()
+                .map(Replica::new)
+                .toList();
+        this.recentWrites = recentWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit();
+            return primary.getConnection();
+        }
+        if (recentWrites.isRecentWriter()) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                eject(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Routing DataSource uses credentials of target DataSources");
+    }
+
+    /**
+     * Validate replicas: ejected replica passed validation returns to rotation.
+     */
+    @Scheduled(fixedDelayString = "${esm.datasource.replica-check-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                boolean valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                if (valid && !replica.healthy) {
+                    logger.info("Replica returned to rotation: " + replica.dataSource);
+                }
+                if (!valid) {
+                    eject(replica, null);
+                }
+                replica.healthy = valid;
+            } catch (SQLException e) {
+                eject(replica, e);
+            }
+        }
+    }
+
+    /**
+     * @return quantity of replicas in rotation
+     */
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream()
+                .filter(r -> r.healthy)
+                .count();
+    }
+
+    /**
+     * Close replica pools, primary is closed by its owner.
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Replica was not closed: " + replica.dataSource, e);
+                }
+            }
+        }
+    }
+
+    private void recordWriteAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWrites.recordWrite();
+                }
+            });
+        }
+    }
+
+    private void eject(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            logger.warn("Replica is ejected from rotation: " + replica.dataSource, e);
+        }
+        replica.healthy = false;
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.epam.esm.dao.dialect;
+
+import org.hibernate.dialect.MySQL5Dialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL dialect with full-text search function.
+ * match_against(column, query) is rendered as MATCH (column) AGAINST (query IN BOOLEAN MODE)
+ * and returns relevance, 0 if row does not match.
+ */
+public class FullTextMySQLDialect extends MySQL5Dialect {
+
+    public static final String MATCH_AGAINST_FUNCTION = "match_against";
+
+    public FullTextMySQLDialect() {
+        super();
+        registerFunction(MATCH_AGAINST_FUNCTION,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match (?1) against (?2 in boolean mode)"));
+    }
+}
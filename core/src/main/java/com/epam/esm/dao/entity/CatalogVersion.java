@@ -0,0 +1,30 @@
+package com.epam.esm.dao.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Class represent modification counter of a group of entities.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "catalog_versions")
+public class CatalogVersion {
+
+    /**
+     * Counter of GiftCertificates and CustomTags modifications
+     */
+    public static final String CATALOG = "catalog";
+
+    @Id
+    @Column(name = "name")
+    private String name;
+    @Column(name = "version")
+    private long version;
+}
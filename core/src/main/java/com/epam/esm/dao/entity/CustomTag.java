@@ -1,10 +1,14 @@
 package com.epam.esm.dao.entity;
 
+import com.epam.esm.dao.CacheRegion;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -22,6 +26,8 @@ import java.util.Set;
 @ToString(callSuper = true, exclude = "giftCertificates")
 @Entity
 @Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.TAG)
 public class CustomTag extends BaseEntity {
 
     @Column(name = "name")
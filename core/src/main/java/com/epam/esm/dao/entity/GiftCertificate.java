@@ -1,10 +1,15 @@
 package com.epam.esm.dao.entity;
 
+import com.epam.esm.dao.CacheRegion;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.domain.Persistable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -29,6 +34,8 @@ import java.util.Set;
 @ToString(callSuper = true, exclude = {"tags", "orders"})
 @Entity
 @Table(name = "gift_certificates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.CERTIFICATE)
 public class GiftCertificate extends BaseEntity implements Persistable<Long> {
 
     @Column(name = "name")
@@ -47,6 +54,8 @@ public class GiftCertificate extends BaseEntity implements Persistable<Long> {
     private boolean active;
 
     @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.CERTIFICATE_TAGS)
     @JoinTable(
             name = "gift_certificates_tags",
             joinColumns = @JoinColumn(name = "id_gift_certificate"),
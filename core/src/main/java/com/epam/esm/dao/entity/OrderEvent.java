@@ -0,0 +1,35 @@
+package com.epam.esm.dao.entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Class represent outbox record of created Order. Id is the event sequence number.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@Entity
+@Table(name = "order_events")
+public class OrderEvent extends BaseEntity {
+
+    @Column(name = "id_order")
+    private Long orderId;
+    @Column(name = "id_user")
+    private Long userId;
+    @Column(name = "amount")
+    private BigDecimal amount;
+    @Column(name = "payload")
+    private String payload;
+    @Column(name = "create_date")
+    private LocalDateTime createDate;
+}
@@ -4,23 +4,157 @@ import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.dao.entity.CustomTag_;
 import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.GiftCertificate_;
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.util.ContinuationToken;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class GiftCertificateDaoImpl {
 
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String DURATION = "duration";
+    private static final String CREATE_DATE = "createDate";
+    private static final String LAST_UPDATE_DATE = "lastUpdateDate";
+    private static final String TAG_ID = "tagId";
+    private static final String TAG_NAME = "tagName";
+    private static final String IDS_PARAMETER = "ids";
+    private static final String CERTIFICATES_WITH_TAGS_QUERY = """
+            SELECT c.id AS id, c.name AS name, c.description AS description, c.price AS price,
+            c.duration AS duration, c.createDate AS createDate, c.lastUpdateDate AS lastUpdateDate,
+            t.id AS tagId, t.name AS tagName
+            FROM GiftCertificate c LEFT JOIN c.tags t
+            WHERE c.id IN :ids""";
+    private static final String ACTIVE_CERTIFICATES_WITH_TAGS_QUERY = """
+            SELECT c.id, c.name, c.description, c.price, c.duration, c.createDate, c.lastUpdateDate, t.id, t.name
+            FROM GiftCertificate c LEFT JOIN c.tags t
+            WHERE c.active = true
+            ORDER BY c.id""";
+    private static final String ACTIVE_TAG_LINKS_QUERY =
+            "SELECT c.id, t.id, t.name FROM GiftCertificate c JOIN c.tags t WHERE c.active = true";
+    private static final String SQL_INSERT_CERTIFICATE = """
+            INSERT INTO gift_certificates (name, description, price, duration, create_date, last_update_date, active)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SQL_INSERT_CERTIFICATE_TAG = """
+            INSERT INTO gift_certificates_tags (id_gift_certificate, id_tag)
+            VALUES (?, ?)
+            """;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    public List<CertificateDto> findAllAsDto(Specification<GiftCertificate> specification, Pageable paging) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = builder.createQuery(Long.class);
+        Root<GiftCertificate> root = criteria.from(GiftCertificate.class);
+        criteria.select(root.get(GiftCertificate_.id));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, criteria, builder);
+            if (predicate != null) {
+                criteria.where(predicate);
+            }
+        }
+        if (paging.getSort().isSorted()) {
+            criteria.orderBy(QueryUtils.toOrders(paging.getSort(), root, builder));
+        }
+        List<Long> ids = entityManager.createQuery(criteria)
+                .setFirstResult((int) paging.getOffset())
+                .setMaxResults(paging.getPageSize())
+                .getResultList();
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, CertificateDto> dtos = new LinkedHashMap<>();
+        List<Tuple> rows = entityManager.createQuery(CERTIFICATES_WITH_TAGS_QUERY, Tuple.class)
+                .setParameter(IDS_PARAMETER, ids)
+                .getResultList();
+        for (Tuple row : rows) {
+            CertificateDto dto = dtos.computeIfAbsent(row.get(ID, Long.class), id -> toCertificateDto(row));
+            Long tagId = row.get(TAG_ID, Long.class);
+            if (tagId != null) {
+                dto.getTags().add(new TagDto(tagId, row.get(TAG_NAME, String.class)));
+            }
+        }
+        return ids.stream()
+                .map(dtos::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    public List<GiftCertificate> findAllByKeyset(Specification<GiftCertificate> specification,
+                                                 SortingType sortingType,
+                                                 ContinuationToken token,
+                                                 int size) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GiftCertificate> criteria = builder.createQuery(GiftCertificate.class);
+        Root<GiftCertificate> root = criteria.from(GiftCertificate.class);
+
+        List<SeekColumn> columns = getSeekColumns(root, sortingType, token);
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, criteria, builder);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (token != null) {
+            predicates.add(getSeekPredicate(builder, columns));
+        }
+        List<Order> orders = columns.stream()
+                .map(c -> c.ascending() ? builder.asc(c.path()) : builder.desc(c.path()))
+                .toList();
+        criteria.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(orders);
+        return entityManager.createQuery(criteria)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<GiftCertificate> findAllByTagsNamesAndActive(String[] tagsNames, boolean active, Pageable paging) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<GiftCertificate> criteria = builder.createQuery(GiftCertificate.class);
@@ -33,7 +167,8 @@ public class GiftCertificateDaoImpl {
                         joinTags.get(CustomTag_.name).in(tagsNames),
                         builder.equal(root.get(GiftCertificate_.active), active))
                 .groupBy(root.get(GiftCertificate_.id))
-                .having(builder.equal(builder.count(root.get(GiftCertificate_.id)), numberOfTags));
+                .having(builder.equal(builder.count(root.get(GiftCertificate_.id)), numberOfTags))
+                .orderBy(builder.asc(root.get(GiftCertificate_.id)));
         int page = paging.getPageNumber();
         int size = paging.getPageSize();
         return entityManager.createQuery(criteria)
@@ -44,19 +179,189 @@ public class GiftCertificateDaoImpl {
 
     public int countByTagsNamesAndActive(String[] tagsNames, boolean active) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<GiftCertificate> criteria = builder.createQuery(GiftCertificate.class);
+        CriteriaQuery<Long> criteria = builder.createQuery(Long.class);
         Root<GiftCertificate> root = criteria.from(GiftCertificate.class);
-        Join<GiftCertificate, CustomTag> joinTags = root.join(GiftCertificate_.tags);
 
+        Subquery<Long> subquery = criteria.subquery(Long.class);
+        Root<GiftCertificate> subRoot = subquery.from(GiftCertificate.class);
+        Join<GiftCertificate, CustomTag> joinTags = subRoot.join(GiftCertificate_.tags);
         int numberOfTags = tagsNames.length;
-        criteria.select(root)
+        subquery.select(subRoot.get(GiftCertificate_.id))
                 .where(
                         joinTags.get(CustomTag_.name).in(tagsNames),
-                        builder.equal(root.get(GiftCertificate_.active), active))
-                .groupBy(root.get(GiftCertificate_.id))
-                .having(builder.equal(builder.count(root.get(GiftCertificate_.id)), numberOfTags));
+                        builder.equal(subRoot.get(GiftCertificate_.active), active))
+                .groupBy(subRoot.get(GiftCertificate_.id))
+                .having(builder.equal(builder.count(subRoot.get(GiftCertificate_.id)), numberOfTags));
+
+        criteria.select(builder.count(root))
+                .where(root.get(GiftCertificate_.id).in(subquery));
         return entityManager.createQuery(criteria)
-                .getResultList()
-                .size();
+                .getSingleResult()
+                .intValue();
+    }
+
+    public Stream<CertificateDto> streamAllActiveAsDto(int fetchSize) {
+        ScrollableResults results = entityManager.unwrap(Session.class)
+                .createQuery(ACTIVE_CERTIFICATES_WITH_TAGS_QUERY, Object[].class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheable(false)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        Iterator<CertificateDto> iterator = new CertificateRowIterator(results);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(results::close);
+    }
+
+    public Stream<Object[]> streamAllActiveTagLinks(int fetchSize) {
+        return entityManager.unwrap(Session.class)
+                .createQuery(ACTIVE_TAG_LINKS_QUERY, Object[].class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheable(false)
+                .stream();
+    }
+
+    public void saveAllInBatch(List<GiftCertificate> certificates) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement =
+                         connection.prepareStatement(SQL_INSERT_CERTIFICATE, Statement.RETURN_GENERATED_KEYS)) {
+                for (GiftCertificate certificate : certificates) {
+                    certificate.preSave();
+                    certificate.setActive(true);
+                    statement.setString(1, certificate.getName());
+                    statement.setString(2, certificate.getDescription());
+                    statement.setBigDecimal(3, certificate.getPrice());
+                    statement.setInt(4, certificate.getDuration());
+                    statement.setTimestamp(5, Timestamp.valueOf(certificate.getCreateDate()));
+                    statement.setTimestamp(6, Timestamp.valueOf(certificate.getLastUpdateDate()));
+                    statement.setBoolean(7, true);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (GiftCertificate certificate : certificates) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Not all generated certificate ids were returned");
+                        }
+                        certificate.setId(keys.getLong(1));
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(SQL_INSERT_CERTIFICATE_TAG)) {
+                for (GiftCertificate certificate : certificates) {
+                    for (CustomTag tag : certificate.getTags()) {
+                        statement.setLong(1, certificate.getId());
+                        statement.setLong(2, tag.getId());
+                        statement.addBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    private CertificateDto toCertificateDto(Tuple row) {
+        CertificateDto dto = new CertificateDto();
+        dto.setId(row.get(ID, Long.class));
+        dto.setName(row.get(NAME, String.class));
+        dto.setDescription(row.get(DESCRIPTION, String.class));
+        dto.setPrice(row.get(PRICE, BigDecimal.class));
+        dto.setDuration(row.get(DURATION, Integer.class));
+        dto.setCreateDate(row.get(CREATE_DATE, LocalDateTime.class));
+        dto.setLastUpdateDate(row.get(LAST_UPDATE_DATE, LocalDateTime.class));
+        dto.setTags(new HashSet<>());
+        return dto;
+    }
+
+    private List<SeekColumn> getSeekColumns(Root<GiftCertificate> root, SortingType sortingType,
+                                            ContinuationToken token) {
+        LocalDateTime createDate = token != null ? token.getCreateDate() : null;
+        String name = token != null ? token.getName() : null;
+        Long id = token != null ? token.getId() : null;
+        SeekColumn createDateAsc = new SeekColumn(root.get(GiftCertificate_.createDate), true, createDate);
+        SeekColumn createDateDesc = new SeekColumn(root.get(GiftCertificate_.createDate), false, createDate);
+        SeekColumn nameAsc = new SeekColumn(root.get(GiftCertificate_.name), true, name);
+        SeekColumn nameDesc = new SeekColumn(root.get(GiftCertificate_.name), false, name);
+        SeekColumn idAsc = new SeekColumn(root.get(GiftCertificate_.id), true, id);
+        SeekColumn idDesc = new SeekColumn(root.get(GiftCertificate_.id), false, id);
+        return switch (sortingType) {
+            case NAME_ASC -> List.of(nameAsc, idAsc);
+            case NAME_DESC -> List.of(nameDesc, idDesc);
+            case DATE_ASC -> List.of(createDateAsc, idAsc);
+            case DATE_DESC -> List.of(createDateDesc, idDesc);
+            case DATE_DESC_NAME_ASC -> List.of(createDateDesc, nameAsc, idAsc);
+            // relevance is not a column, rows with equal rank can not be seeked
+            case RELEVANCE -> throw new IllegalArgumentException("Keyset pagination by relevance is not supported");
+        };
+    }
+
+    /**
+     * Build row value comparison (c1, c2, ..., cn) > (v1, v2, ..., vn) with respect to direction of each column:
+     * c1 > v1 OR (c1 = v1 AND c2 > v2) OR ...
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate getSeekPredicate(CriteriaBuilder builder, List<SeekColumn> columns) {
+        List<Predicate> alternatives = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            List<Predicate> conjunction = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                SeekColumn previous = columns.get(j);
+                conjunction.add(builder.equal(previous.path(), previous.value()));
+            }
+            SeekColumn current = columns.get(i);
+            Expression path = current.path();
+            Comparable value = current.value();
+            conjunction.add(current.ascending()
+                    ? builder.greaterThan(path, value)
+                    : builder.lessThan(path, value));
+            alternatives.add(builder.and(conjunction.toArray(new Predicate[0])));
+        }
+        return builder.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Joins consecutive rows of the same GiftCertificate (rows are ordered by id) into one dto
+     */
+    private static class CertificateRowIterator implements Iterator<CertificateDto> {
+
+        private final ScrollableResults results;
+        private Object[] row;
+
+        private CertificateRowIterator(ScrollableResults results) {
+            this.results = results;
+            this.row = results.next() ? results.get() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return row != null;
+        }
+
+        @Override
+        public CertificateDto next() {
+            if (row == null) {
+                throw new NoSuchElementException();
+            }
+            CertificateDto dto = new CertificateDto();
+            dto.setId((Long) row[0]);
+            dto.setName((String) row[1]);
+            dto.setDescription((String) row[2]);
+            dto.setPrice((BigDecimal) row[3]);
+            dto.setDuration((Integer) row[4]);
+            dto.setCreateDate((LocalDateTime) row[5]);
+            dto.setLastUpdateDate((LocalDateTime) row[6]);
+            dto.setTags(new LinkedHashSet<>());
+            while (row != null && dto.getId().equals(row[0])) {
+                if (row[7] != null) {
+                    dto.getTags().add(new TagDto((Long) row[7], (String) row[8]));
+                }
+                row = results.next() ? results.get() : null;
+            }
+            return dto;
+        }
+    }
+
+    private record SeekColumn(Expression<? extends Comparable<?>> path, boolean ascending, Comparable<?> value) {
     }
 }
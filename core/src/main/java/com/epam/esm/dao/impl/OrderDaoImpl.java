@@ -0,0 +1,63 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.dao.entity.Order;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+@Component
+public class OrderDaoImpl {
+
+    private static final String SQL_INSERT_ORDER = """
+            INSERT INTO orders (id_user, purchase_date, amount)
+            VALUES (?, ?, ?)
+            """;
+    private static final String SQL_INSERT_ORDER_CERTIFICATE = """
+            INSERT INTO orders_gift_certificates (id_order, id_gift_certificate)
+            VALUES (?, ?)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void saveAllInBatch(List<Order> orders) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement =
+                         connection.prepareStatement(SQL_INSERT_ORDER, Statement.RETURN_GENERATED_KEYS)) {
+                for (Order order : orders) {
+                    statement.setLong(1, order.getUser().getId());
+                    statement.setTimestamp(2, Timestamp.valueOf(order.getPurchaseDate()));
+                    statement.setBigDecimal(3, order.getAmount());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Order order : orders) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Not all generated order ids were returned");
+                        }
+                        order.setId(keys.getLong(1));
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(SQL_INSERT_ORDER_CERTIFICATE)) {
+                for (Order order : orders) {
+                    for (GiftCertificate certificate : order.getGiftCertificatesList()) {
+                        statement.setLong(1, order.getId());
+                        statement.setLong(2, certificate.getId());
+                        statement.addBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
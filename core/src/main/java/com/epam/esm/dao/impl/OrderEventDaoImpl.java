@@ -0,0 +1,50 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.entity.OrderEvent;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+@Component
+public class OrderEventDaoImpl {
+
+    private static final String SQL_INSERT_EVENT = """
+            INSERT INTO order_events (id_order, id_user, amount, payload, create_date)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void saveAllInBatch(List<OrderEvent> events) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement =
+                         connection.prepareStatement(SQL_INSERT_EVENT, Statement.RETURN_GENERATED_KEYS)) {
+                for (OrderEvent event : events) {
+                    statement.setLong(1, event.getOrderId());
+                    statement.setLong(2, event.getUserId());
+                    statement.setBigDecimal(3, event.getAmount());
+                    statement.setString(4, event.getPayload());
+                    statement.setTimestamp(5, Timestamp.valueOf(event.getCreateDate()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (OrderEvent event : events) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Not all generated order event ids were returned");
+                        }
+                        event.setId(keys.getLong(1));
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.epam.esm.enumeration;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Enum represents formats of GiftCertificates export
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String name;
+    private final String mediaType;
+
+    ExportFormat(String name, String mediaType) {
+        this.name = name;
+        this.mediaType = mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<ExportFormat> getExportFormat(String name) {
+        return Stream.of(ExportFormat.values())
+                .filter(f -> f.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.esm.enumeration;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Enum represents formats of GiftCertificates import
+ */
+public enum ImportFormat {
+    JSON("application/json"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<ImportFormat> getImportFormat(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String mediaType = contentType.split(";")[0].trim();
+        return Stream.of(ImportFormat.values())
+                .filter(f -> f.getMediaType().equalsIgnoreCase(mediaType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,10 @@
+package com.epam.esm.enumeration;
+
+/**
+ * Enum represents statuses of GiftCertificates import job
+ */
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
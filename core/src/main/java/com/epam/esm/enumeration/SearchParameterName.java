@@ -8,5 +8,7 @@ public enum SearchParameterName {
     TAG,
     NAME,
     DESCRIPTION,
+    NAME_FULL_TEXT,
+    DESCRIPTION_FULL_TEXT,
     SORT_BY
 }
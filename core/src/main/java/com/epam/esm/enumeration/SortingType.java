@@ -11,7 +11,8 @@ public enum SortingType {
     NAME_DESC("name.desc"),
     DATE_ASC("date.asc"),
     DATE_DESC("date.desc"),
-    DATE_DESC_NAME_ASC("date.desc,name.asc");
+    DATE_DESC_NAME_ASC("date.desc,name.asc"),
+    RELEVANCE("relevance");
 
     private final String type;
 
@@ -0,0 +1,24 @@
+package com.epam.esm.event;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Event of created Order.
+ *
+ * @param sequence event sequence number (outbox record id), grows with every written event
+ * @param orderId  Order id
+ * @param userId   User id
+ * @param amount   Order amount
+ * @param tags     purchased tags, tag is counted once for every ordered GiftCertificate having it
+ */
+public record OrderCreatedEvent(long sequence, long orderId, long userId, BigDecimal amount, List<TagCount> tags) {
+
+    /**
+     * @param tagId   CustomTag id
+     * @param tagName CustomTag name
+     * @param count   quantity of ordered GiftCertificates having the tag
+     */
+    public record TagCount(long tagId, String tagName, long count) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.epam.esm.event;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process bus of order events: bounded ring buffer drained by one dispatcher thread.
+ * Producer gets false from offer when buffer is full and must retry later, so slow consumers
+ * hold events in outbox table instead of memory.
+ * Event is dispatched when all consumers handled it. Failed consumer gets the event again after a pause
+ * (next events wait), consumers that already handled it do not. Not dispatched events are lost on stop.
+ */
+@Component
+public class OrderEventBus {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MIN_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String DISPATCHER_NAME = "order-event-dispatcher";
+
+    private final List<OrderEventConsumer> consumers;
+    private final OrderCreatedEvent[] buffer;
+    private final int mask;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    /**
+     * @param consumers subscribed consumers
+     * @param capacity  buffer capacity, rounded up to power of two
+     */
+    @Autowired
+    public OrderEventBus(List<OrderEventConsumer> consumers,
+                         @Value("${esm.order-events.buffer-capacity:1024}") int capacity) {
+        this.consumers = consumers;
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.buffer = new OrderCreatedEvent[size];
+        this.mask = size - 1;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, DISPATCHER_NAME);
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+    }
+
+    /**
+     * Put event to buffer.
+     *
+     * @param event event of created Order
+     * @return true if event was accepted, false if buffer is full
+     */
+    public synchronized boolean offer(OrderCreatedEvent event) {
+        long head = published.get();
+        if (head - dispatched.get() == buffer.length) {
+            return false;
+        }
+        buffer[(int) (head & mask)] = event;
+        published.lazySet(head + 1);
+        LockSupport.unpark(dispatcher);
+        return true;
+    }
+
+    /**
+     * @return true if all consumers may receive events
+     */
+    public boolean acceptsEvents() {
+        return consumers.stream().allMatch(OrderEventConsumer::acceptsEvents);
+    }
+
+    /**
+     * @return quantity of accepted, but not dispatched events
+     */
+    public long size() {
+        return published.get() - dispatched.get();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            long tail = dispatched.get();
+            if (tail == published.get()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            int index = (int) (tail & mask);
+            OrderCreatedEvent event = buffer[index];
+            if (!dispatch(event)) {
+                return;
+            }
+            buffer[index] = null;
+            dispatched.lazySet(tail + 1);
+        }
+    }
+
+    private boolean dispatch(OrderCreatedEvent event) {
+        for (OrderEventConsumer consumer : consumers) {
+            long retryNanos = MIN_RETRY_NANOS;
+            while (!handle(consumer, event)) {
+                LockSupport.parkNanos(this, retryNanos);
+                if (!running) {
+                    return false;
+                }
+                retryNanos = Math.min(retryNanos * 2, MAX_RETRY_NANOS);
+            }
+        }
+        return true;
+    }
+
+    private boolean handle(OrderEventConsumer consumer, OrderCreatedEvent event) {
+        try {
+            consumer.onOrderCreated(event);
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Order event sequence=" + event.sequence() + " was not handled by "
+                    + consumer.getClass().getSimpleName() + ", it will be retried", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.epam.esm.event;
+
+/**
+ * Consumer of order events. All beans implementing it are subscribed to OrderEventBus.
+ * Events are delivered on the single dispatcher thread, so implementation must be fast.
+ * Events come in sequence order of reading outbox: event of a transaction committed later may have lower
+ * sequence number than already delivered one. Every application instance gets all retained events once,
+ * starting when all consumers are ready, so consumer must skip events it has loaded from database.
+ */
+public interface OrderEventConsumer {
+
+    /**
+     * Handle created Order
+     *
+     * @param event event of created Order
+     */
+    void onOrderCreated(OrderCreatedEvent event);
+
+    /**
+     * @return true if consumer has loaded its state and may receive events
+     */
+    default boolean acceptsEvents() {
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.OrderEventDao;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.dao.entity.Order;
+import com.epam.esm.dao.entity.OrderEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes events of created Orders to outbox table.
+ * Must be called in the transaction saving Orders, so event exists if and only if Order exists.
+ */
+@Component
+public class OrderOutbox {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<OrderCreatedEvent.TagCount>> TAGS_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderEventDao eventDao;
+
+    @Autowired
+    public OrderOutbox(OrderEventDao eventDao) {
+        this.eventDao = eventDao;
+    }
+
+    /**
+     * Write events of saved Orders.
+     *
+     * @param orders saved Orders with ids
+     */
+    public void append(List<Order> orders) {
+        List<OrderEvent> events = new ArrayList<>(orders.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (Order order : orders) {
+            OrderEvent event = new OrderEvent();
+            event.setOrderId(order.getId());
+            event.setUserId(order.getUser().getId());
+            event.setAmount(order.getAmount());
+            event.setPayload(writeTags(countTags(order.getGiftCertificatesList())));
+            event.setCreateDate(now);
+            events.add(event);
+        }
+        eventDao.saveAllInBatch(events);
+    }
+
+    /**
+     * Convert outbox record to event.
+     *
+     * @param event outbox record
+     * @return event of created Order
+     */
+    public OrderCreatedEvent read(OrderEvent event) {
+        try {
+            return new OrderCreatedEvent(event.getId(), event.getOrderId(), event.getUserId(), event.getAmount(),
+                    MAPPER.readValue(event.getPayload(), TAGS_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Not valid payload of order event id=" + event.getId(), e);
+        }
+    }
+
+    private List<OrderCreatedEvent.TagCount> countTags(List<GiftCertificate> certificates) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (GiftCertificate certificate : certificates) {
+            for (CustomTag tag : certificate.getTags()) {
+                counts.merge(tag.getId(), 1L, Long::sum);
+                names.put(tag.getId(), tag.getName());
+            }
+        }
+        List<OrderCreatedEvent.TagCount> tags = new ArrayList<>(counts.size());
+        counts.forEach((tagId, count) -> tags.add(new OrderCreatedEvent.TagCount(tagId, names.get(tagId), count)));
+        return tags;
+    }
+
+    private String writeTags(List<OrderCreatedEvent.TagCount> tags) {
+        try {
+            return MAPPER.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Order event payload was not written", e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.OrderEventDao;
+import com.epam.esm.dao.entity.OrderEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves events from outbox table to OrderEventBus of this application instance in sequence order.
+ * Every instance reads outbox by its own cursor (the last offered sequence) starting from the first retained
+ * event when all consumers are ready, so every event is offered to consumers of every instance once;
+ * consumers skip events they have already loaded from database. Events lost from bus buffer on stop
+ * are loaded by consumers after restart. Retention period must be longer than time to start consumers.
+ * Sequences are allocated before commit, so a gap below the cursor may be filled by a later commit:
+ * gaps are polled until the event appears or late commit timeout expires.
+ * Events with not readable payload are skipped. Events older than retention period are deleted.
+ */
+@Component
+public class OrderOutboxRelay {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final int LATE_EVENTS_WINDOW = 1000;
+
+    private final OrderEventDao eventDao;
+    private final OrderOutbox outbox;
+    private final OrderEventBus bus;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int retentionHours;
+    private final long lateCommitMillis;
+    private final Map<Long, Long> lateSequences = new HashMap<>();
+    private long cursor;
+
+    @Autowired
+    public OrderOutboxRelay(OrderEventDao eventDao, OrderOutbox outbox, OrderEventBus bus,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${esm.order-events.relay-enabled:false}") boolean enabled,
+                            @Value("${esm.order-events.relay-batch-size:500}") int batchSize,
+                            @Value("${esm.order-events.retention-hours:24}") int retentionHours,
+                            @Value("${esm.order-events.late-commit-ms:60000}") long lateCommitMillis) {
+        this.eventDao = eventDao;
+        this.outbox = outbox;
+        this.bus = bus;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+        this.lateCommitMillis = lateCommitMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${esm.order-events.relay-delay-ms:1000}")
+    public void scheduledRelay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            logger.error("Order events were not relayed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${esm.order-events.cleanup-delay-ms:3600000}",
+            initialDelayString = "${esm.order-events.cleanup-delay-ms:3600000}")
+    public void scheduledCleanup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+            Integer deleted = transactionTemplate.execute(status -> eventDao.deleteCreatedBefore(before));
+            logger.info("Old order events were deleted: " + deleted);
+        } catch (RuntimeException e) {
+            logger.error("Old order events were not deleted", e);
+        }
+    }
+
+    /**
+     * Offer late committed events and events after the cursor to bus, while bus accepts them.
+     *
+     * @return quantity of relayed events, not readable ones included
+     */
+    public synchronized int relay() {
+        if (!bus.acceptsEvents()) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        lateSequences.values().removeIf(deadline -> deadline < now);
+        int offered = 0;
+        if (!lateSequences.isEmpty()) {
+            for (OrderEvent event : eventDao.findAllByIdInOrderByIdAsc(new ArrayList<>(lateSequences.keySet()))) {
+                if (!offer(event)) {
+                    return offered;
+                }
+                lateSequences.remove(event.getId());
+                offered++;
+            }
+        }
+        List<OrderEvent> events;
+        do {
+            events = eventDao.findAllByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+            for (OrderEvent event : events) {
+                if (!offer(event)) {
+                    return offered;
+                }
+                addGaps(event.getId(), now + lateCommitMillis);
+                cursor = event.getId();
+                offered++;
+            }
+        } while (events.size() == batchSize);
+        return offered;
+    }
+
+    /**
+     * Remember not seen sequences between the cursor and the event as possibly committed later.
+     */
+    private void addGaps(long sequence, long deadline) {
+        for (long gap = Math.max(cursor + 1, sequence - LATE_EVENTS_WINDOW); gap < sequence; gap++) {
+            lateSequences.put(gap, deadline);
+        }
+    }
+
+    private boolean offer(OrderEvent event) {
+        OrderCreatedEvent orderEvent;
+        try {
+            orderEvent = outbox.read(event);
+        } catch (IllegalStateException e) {
+            logger.error("Order event id=" + event.getId() + " is skipped", e);
+            return true;
+        }
+        return bus.offer(orderEvent);
+    }
+}
@@ -21,7 +21,9 @@ public enum CustomErrorCode {
     RESOURCE_ALREADY_EXIST(40901, HttpStatus.CONFLICT),
     LINKED_TO_ANOTHER_RESOURCE(40902, HttpStatus.CONFLICT),
     DIFFERENT_CONDITION(40903, HttpStatus.CONFLICT),
+    PAYLOAD_TOO_LARGE(41301, HttpStatus.PAYLOAD_TOO_LARGE),
     UNSUPPORTED_MEDIA_TYPE(41501, HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    TOO_MANY_REQUESTS(42901, HttpStatus.TOO_MANY_REQUESTS),
     INTERNAL_SERVER_EXCEPTION(50001, HttpStatus.INTERNAL_SERVER_ERROR);
 
     private final int code;
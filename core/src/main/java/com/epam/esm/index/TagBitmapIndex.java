@@ -0,0 +1,315 @@
+package com.epam.esm.index;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.util.Collation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index: tag id to compressed bitmap of active GiftCertificate ids.
+ * Used to answer tag "AND" search by bitmap intersection instead of GROUP BY/HAVING query.
+ * Readers work with immutable snapshot, writers publish new snapshot (copy on write of changed bitmaps only).
+ * Changes committed while index is loaded from database are logged and replayed on loaded snapshot before it
+ * is published. Tag names are compared by collation key, as database compares them.
+ * Links are streamed from database cursor, so load does not hold whole result set in memory.
+ * Until index is built, or if it was switched off, callers get empty Optional and must fall back to database.
+ */
+@Component
+public class TagBitmapIndex {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    private final GiftCertificateDao certificateDao;
+    private final TransactionTemplate loadTemplate;
+    private final boolean enabled;
+    private final int fetchSize;
+    private final Object loadLock = new Object();
+    private volatile Snapshot snapshot;
+    private List<UnaryOperator<Snapshot>> loadChanges;
+
+    @Autowired
+    public TagBitmapIndex(GiftCertificateDao certificateDao, PlatformTransactionManager transactionManager,
+                          @Value("${esm.tag-index.enabled:false}") boolean enabled,
+                          @Value("${esm.tag-index.fetch-size:1000}") int fetchSize) {
+        this.certificateDao = certificateDao;
+        this.loadTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Build index in background after application start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            CompletableFuture.runAsync(this::rebuild);
+        }
+    }
+
+    /**
+     * @return true if index is built and may be used for search
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * Intersect bitmaps of all given tags.
+     *
+     * @param tagsNames tags names
+     * @return bitmap of active GiftCertificate ids having all tags or empty Optional if index is not ready
+     */
+    public Optional<RoaringBitmap> findAllByTagsNames(String[] tagsNames) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        RoaringBitmap result = null;
+        for (String name : tagsNames) {
+            Long tagId = current.tagIds().get(Collation.key(name));
+            RoaringBitmap bitmap = tagId != null ? current.bitmaps().get(tagId) : null;
+            if (bitmap == null) {
+                return Optional.of(new RoaringBitmap());
+            }
+            result = result == null ? bitmap.clone() : RoaringBitmap.and(result, bitmap);
+        }
+        return Optional.of(result != null ? result : new RoaringBitmap());
+    }
+
+    /**
+     * Add active GiftCertificate to bitmaps of its tags, after current transaction commit.
+     *
+     * @param certificateId GiftCertificate id
+     * @param tags          GiftCertificate tags
+     */
+    public void add(long certificateId, Collection<CustomTag> tags) {
+        replace(certificateId, List.of(), tags);
+    }
+
+    /**
+     * Remove GiftCertificate from bitmaps of its tags, after current transaction commit.
+     *
+     * @param certificateId GiftCertificate id
+     * @param tags          GiftCertificate tags
+     */
+    public void remove(long certificateId, Collection<CustomTag> tags) {
+        replace(certificateId, tags, List.of());
+    }
+
+    /**
+     * Move GiftCertificate from bitmaps of old tags to bitmaps of new tags, after current transaction commit.
+     *
+     * @param certificateId GiftCertificate id
+     * @param oldTags       tags before update
+     * @param newTags       tags after update
+     */
+    public void replace(long certificateId, Collection<CustomTag> oldTags, Collection<CustomTag> newTags) {
+        Map<Long, String> removed = toMap(oldTags);
+        Map<Long, String> added = toMap(newTags);
+        afterCommit(() -> change(current -> apply(current, certificateId, removed, added)));
+    }
+
+    /**
+     * Remove whole tag bitmap, after current transaction commit.
+     *
+     * @param tag deleted CustomTag
+     */
+    public void removeTag(CustomTag tag) {
+        long tagId = tag.getId();
+        String name = Collation.key(tag.getName());
+        afterCommit(() -> change(current -> {
+            Map<Long, RoaringBitmap> bitmaps = new HashMap<>(current.bitmaps());
+            Map<String, Long> tagIds = new HashMap<>(current.tagIds());
+            bitmaps.remove(tagId);
+            tagIds.remove(name);
+            return new Snapshot(bitmaps, tagIds);
+        }));
+    }
+
+    /**
+     * Compare index with database and replace it if they differ.
+     * Index may drift apart from database if GiftCertificates were changed bypassing services.
+     *
+     * @return true if index was consistent with database
+     */
+    public boolean checkConsistency() {
+        if (!enabled || snapshot == null) {
+            return true;
+        }
+        synchronized (loadLock) {
+            startLoad();
+            Snapshot actual = loadLogged();
+            synchronized (this) {
+                actual = replayLoadChanges(actual);
+                if (snapshot == null) {
+                    return true;
+                }
+                boolean consistent = actual != null && actual.bitmaps().equals(snapshot.bitmaps());
+                if (!consistent) {
+                    logger.warn("Tag index is not consistent with database and will be replaced");
+                    snapshot = actual;
+                }
+                return consistent;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${esm.tag-index.check-delay-ms:600000}",
+            initialDelayString = "${esm.tag-index.check-delay-ms:600000}")
+    public void scheduledConsistencyCheck() {
+        checkConsistency();
+    }
+
+    /**
+     * Build index from database.
+     */
+    public void rebuild() {
+        try {
+            Snapshot built;
+            synchronized (loadLock) {
+                startLoad();
+                built = loadLogged();
+                synchronized (this) {
+                    built = replayLoadChanges(built);
+                    snapshot = built;
+                }
+            }
+            if (built != null) {
+                logger.info("Tag index was built: " + built.bitmaps().size() + " tags");
+            }
+        } catch (RuntimeException e) {
+            logger.error("Tag index was not built, database search will be used", e);
+        }
+    }
+
+    private synchronized void startLoad() {
+        loadChanges = new ArrayList<>();
+    }
+
+    private Snapshot loadLogged() {
+        try {
+            return loadTemplate.execute(status -> load());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadChanges = null;
+            }
+            throw e;
+        }
+    }
+
+    private Snapshot replayLoadChanges(Snapshot loaded) {
+        Snapshot result = loaded;
+        for (UnaryOperator<Snapshot> change : loadChanges) {
+            if (result == null) {
+                break;
+            }
+            result = change.apply(result);
+        }
+        loadChanges = null;
+        return result;
+    }
+
+    /**
+     * Apply change to published snapshot and log it for replay if index is being loaded.
+     * Change returns null to switch index off.
+     */
+    private synchronized void change(UnaryOperator<Snapshot> change) {
+        if (loadChanges != null) {
+            loadChanges.add(change);
+        }
+        if (snapshot != null) {
+            snapshot = change.apply(snapshot);
+        }
+    }
+
+    private Snapshot load() {
+        Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+        Map<String, Long> tagIds = new HashMap<>();
+        try (Stream<Object[]> links = certificateDao.streamAllActiveTagLinks(fetchSize)) {
+            links.forEach(row -> {
+                int certificateId = Math.toIntExact((Long) row[0]);
+                Long tagId = (Long) row[1];
+                tagIds.put(Collation.key((String) row[2]), tagId);
+                bitmaps.computeIfAbsent(tagId, id -> new RoaringBitmap()).add(certificateId);
+            });
+        }
+        bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        return new Snapshot(bitmaps, tagIds);
+    }
+
+    private Snapshot apply(Snapshot current, long certificateId, Map<Long, String> removed, Map<Long, String> added) {
+        if (certificateId > Integer.MAX_VALUE) {
+            logger.warn("Tag index was switched off: certificate id " + certificateId + " is out of bitmap range");
+            return null;
+        }
+        Map<Long, RoaringBitmap> bitmaps = new HashMap<>(current.bitmaps());
+        Map<String, Long> tagIds = new HashMap<>(current.tagIds());
+        int id = (int) certificateId;
+        removed.forEach((tagId, name) -> {
+            RoaringBitmap bitmap = bitmaps.get(tagId);
+            if (bitmap != null) {
+                bitmap = bitmap.clone();
+                bitmap.remove(id);
+                bitmaps.put(tagId, bitmap);
+            }
+        });
+        added.forEach((tagId, name) -> {
+            RoaringBitmap bitmap = bitmaps.get(tagId);
+            bitmap = bitmap != null ? bitmap.clone() : new RoaringBitmap();
+            bitmap.add(id);
+            bitmaps.put(tagId, bitmap);
+            tagIds.put(name, tagId);
+        });
+        return new Snapshot(bitmaps, tagIds);
+    }
+
+    private Map<Long, String> toMap(Collection<CustomTag> tags) {
+        Map<Long, String> map = new HashMap<>();
+        for (CustomTag tag : tags) {
+            map.put(tag.getId(), Collation.key(tag.getName()));
+        }
+        return map;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Snapshot(Map<Long, RoaringBitmap> bitmaps, Map<String, Long> tagIds) {
+    }
+}
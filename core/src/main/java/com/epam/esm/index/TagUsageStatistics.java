@@ -0,0 +1,314 @@
+package com.epam.esm.index;
+
+import com.epam.esm.dao.OrderDao;
+import com.epam.esm.dao.OrderEventDao;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.event.OrderCreatedEvent;
+import com.epam.esm.event.OrderEventConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * In-process aggregate of orders: total spend per user (ordered set of spenders)
+ * and tags purchase counts per user with the leading tag of every user.
+ * Used to answer "the most widely used tag of the user with the highest cost of all orders" in O(1).
+ * Aggregate is maintained incrementally from order events and on tag deletion. Tags are counted
+ * as GiftCertificate had them at the moment of purchase, later changes of GiftCertificate tags
+ * are taken into account only by full recompute.
+ * Order events are relayed to this instance only after aggregate is built (every instance gets all events),
+ * so statistics can not be enabled without relay. Events received while full recompute runs are logged
+ * and replayed on the built aggregate before it is published.
+ * Events with sequence not greater than the last one seen by full recompute are skipped as already counted,
+ * except sequences of the last {@value #LATE_EVENTS_WINDOW} which were not committed at that moment.
+ * Until aggregate is built, or if it was switched off, callers get empty Optional and must fall back to database.
+ */
+@Component
+public class TagUsageStatistics implements OrderEventConsumer {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final Comparator<UserSpend> TOP_SPENDER_ORDER = Comparator.comparing(UserSpend::total)
+            .reversed()
+            .thenComparingLong(UserSpend::userId);
+    private static final int LATE_EVENTS_WINDOW = 1000;
+
+    private final OrderDao orderDao;
+    private final OrderEventDao eventDao;
+    private final TransactionTemplate snapshotTemplate;
+    private final boolean enabled;
+    private final Object loadLock = new Object();
+    private Aggregate aggregate;
+    private List<Consumer<Aggregate>> loadChanges;
+    private volatile boolean ready;
+    private volatile CustomTag mostWidelyTag;
+
+    @Autowired
+    public TagUsageStatistics(OrderDao orderDao, OrderEventDao eventDao, PlatformTransactionManager transactionManager,
+                              @Value("${esm.tag-statistics.enabled:false}") boolean enabled,
+                              @Value("${esm.order-events.relay-enabled:false}") boolean relayEnabled) {
+        if (enabled && !relayEnabled) {
+            throw new IllegalStateException("Tag usage statistics requires esm.order-events.relay-enabled=true");
+        }
+        this.orderDao = orderDao;
+        this.eventDao = eventDao;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Build aggregate in background after application start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            CompletableFuture.runAsync(this::rebuild);
+        }
+    }
+
+    /**
+     * @return true if aggregate is built and may be used
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Events are accepted when aggregate is built: events committed before are counted by the build.
+     */
+    @Override
+    public boolean acceptsEvents() {
+        return !enabled || ready;
+    }
+
+    /**
+     * Find the most widely used tag of the user with the highest cost of all orders.
+     *
+     * @return CustomTag or empty Optional if aggregate is not ready or such tag does not exist
+     */
+    public Optional<CustomTag> findTheMostWidelyTag() {
+        return ready ? Optional.ofNullable(mostWidelyTag) : Optional.empty();
+    }
+
+    /**
+     * Add created Order to aggregate.
+     *
+     * @param event event of created Order
+     */
+    @Override
+    public void onOrderCreated(OrderCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        change(current -> current.add(event));
+    }
+
+    /**
+     * Remove deleted CustomTag from aggregate, after current transaction commit.
+     *
+     * @param tagId deleted CustomTag id
+     */
+    public void removeTag(long tagId) {
+        afterCommit(() -> change(current -> current.removeTag(tagId)));
+    }
+
+    /**
+     * Build aggregate from database (full recompute).
+     * Covered sequence and sums are read in one repeatable read transaction, so they come from one snapshot.
+     * Changes received meanwhile are replayed on the built aggregate.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Aggregate built;
+            synchronized (loadLock) {
+                startLoad();
+                built = loadLogged();
+                synchronized (this) {
+                    for (Consumer<Aggregate> change : loadChanges) {
+                        change.accept(built);
+                    }
+                    loadChanges = null;
+                    aggregate = built;
+                    mostWidelyTag = built.findTheMostWidelyTag();
+                    ready = true;
+                }
+            }
+            logger.info("Tag usage statistics was built: " + built.spends.size() + " users");
+        } catch (RuntimeException e) {
+            logger.error("Tag usage statistics was not built, database query will be used", e);
+        }
+    }
+
+    private synchronized void startLoad() {
+        loadChanges = new ArrayList<>();
+    }
+
+    private Aggregate loadLogged() {
+        try {
+            return snapshotTemplate.execute(status -> load());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadChanges = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Apply change to published aggregate and log it for replay if aggregate is being loaded.
+     */
+    private synchronized void change(Consumer<Aggregate> change) {
+        if (loadChanges != null) {
+            loadChanges.add(change);
+        }
+        if (aggregate != null) {
+            change.accept(aggregate);
+            mostWidelyTag = aggregate.findTheMostWidelyTag();
+        }
+    }
+
+    private Aggregate load() {
+        Aggregate built = new Aggregate();
+        built.coveredSequence = eventDao.findLastSequence();
+        long windowStart = Math.max(built.coveredSequence - LATE_EVENTS_WINDOW, 0);
+        for (long sequence = windowStart + 1; sequence <= built.coveredSequence; sequence++) {
+            built.lateSequences.add(sequence);
+        }
+        eventDao.findAllIdsGreaterThan(windowStart).forEach(built.lateSequences::remove);
+        for (Object[] row : orderDao.sumAmountGroupByUser()) {
+            built.addSpend((Long) row[0], (BigDecimal) row[1]);
+        }
+        for (Object[] row : orderDao.countTagsGroupByUser()) {
+            built.addTag((Long) row[0], (Long) row[1], (String) row[2], (Long) row[3]);
+        }
+        return built;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record UserSpend(long userId, BigDecimal total) {
+    }
+
+    private static final class Aggregate {
+
+        private final Map<Long, BigDecimal> spends = new HashMap<>();
+        private final NavigableSet<UserSpend> topSpenders = new TreeSet<>(TOP_SPENDER_ORDER);
+        private final Map<Long, UserTags> userTags = new HashMap<>();
+        private final Map<Long, String> tagNames = new HashMap<>();
+        private final Set<Long> lateSequences = new HashSet<>();
+        private long coveredSequence;
+
+        /**
+         * Add Order of event unless it was counted by full recompute.
+         */
+        private void add(OrderCreatedEvent event) {
+            if (event.sequence() <= coveredSequence && !lateSequences.remove(event.sequence())) {
+                return;
+            }
+            addSpend(event.userId(), event.amount());
+            event.tags().forEach(tag -> addTag(event.userId(), tag.tagId(), tag.tagName(), tag.count()));
+        }
+
+        private void addSpend(long userId, BigDecimal amount) {
+            BigDecimal old = spends.get(userId);
+            BigDecimal total = amount;
+            if (old != null) {
+                topSpenders.remove(new UserSpend(userId, old));
+                total = old.add(amount);
+            }
+            spends.put(userId, total);
+            topSpenders.add(new UserSpend(userId, total));
+        }
+
+        private void addTag(long userId, long tagId, String name, long count) {
+            tagNames.put(tagId, name);
+            userTags.computeIfAbsent(userId, id -> new UserTags()).add(tagId, count);
+        }
+
+        private void removeTag(long tagId) {
+            tagNames.remove(tagId);
+            userTags.values().forEach(tags -> tags.remove(tagId));
+        }
+
+        private CustomTag findTheMostWidelyTag() {
+            if (topSpenders.isEmpty()) {
+                return null;
+            }
+            UserTags tags = userTags.get(topSpenders.first().userId());
+            if (tags == null || tags.bestTagId == null) {
+                return null;
+            }
+            return new CustomTag(tags.bestTagId, tagNames.get(tags.bestTagId));
+        }
+    }
+
+    /**
+     * Tags purchase counts of one user. Leading tag has the biggest count, if counts are equal - the least id.
+     */
+    private static final class UserTags {
+
+        private final Map<Long, Long> counts = new HashMap<>();
+        private Long bestTagId;
+        private long bestCount;
+
+        private void add(long tagId, long count) {
+            offer(tagId, counts.merge(tagId, count, Long::sum));
+        }
+
+        private void remove(long tagId) {
+            if (counts.remove(tagId) != null && bestTagId == tagId) {
+                bestTagId = null;
+                bestCount = 0;
+                counts.forEach(this::offer);
+            }
+        }
+
+        private void offer(long tagId, long count) {
+            if (bestTagId == null || count > bestCount || count == bestCount && tagId < bestTagId) {
+                bestTagId = tagId;
+                bestCount = count;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.esm.service;
+
+import com.epam.esm.service.dto.CacheRegionDto;
+
+import java.util.List;
+
+/**
+ * Interface contains service methods for work with second-level cache
+ */
+public interface CacheService {
+
+    /**
+     * Evict GiftCertificate and its tags collection from cache, after current transaction commit
+     *
+     * @param id GiftCertificate id
+     */
+    void evictCertificate(long id);
+
+    /**
+     * Evict CustomTag, all cached GiftCertificate tags collections and cached tag queries,
+     * after current transaction commit
+     *
+     * @param id CustomTag id
+     */
+    void evictTag(long id);
+
+    /**
+     * Evict cached tag queries, after current transaction commit
+     */
+    void evictTagQueries();
+
+    /**
+     * Find hit/miss statistics of all cache regions
+     *
+     * @return list of region statistics
+     */
+    List<CacheRegionDto> findAllRegionStatistics();
+}
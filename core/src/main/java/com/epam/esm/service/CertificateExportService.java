@@ -0,0 +1,26 @@
+package com.epam.esm.service;
+
+import com.epam.esm.enumeration.ExportFormat;
+import com.epam.esm.exception.CustomException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface contains service methods for export of the whole GiftCertificates catalog
+ */
+public interface CertificateExportService {
+
+    /**
+     * Write all active GiftCertificates ordered by id to output stream.
+     * GiftCertificates are read through database cursor and written one by one,
+     * so memory usage does not depend on catalog size.
+     *
+     * @param out    output stream
+     * @param format output format
+     * @return quantity of written GiftCertificates
+     * @throws CustomException if output or format have not valid value
+     * @throws IOException     if output can not be written
+     */
+    long exportAll(OutputStream out, ExportFormat format) throws CustomException, IOException;
+}
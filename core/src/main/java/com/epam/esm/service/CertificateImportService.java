@@ -0,0 +1,34 @@
+package com.epam.esm.service;
+
+import com.epam.esm.enumeration.ImportFormat;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.dto.ImportJobDto;
+
+import java.io.InputStream;
+
+/**
+ * Interface contains service methods for bulk import of GiftCertificates
+ */
+public interface CertificateImportService {
+
+    /**
+     * Start import of GiftCertificates from input stream. Input is copied to temporary file and imported
+     * in background: it is read incrementally and written in bounded chunks, every chunk in its own transaction.
+     * Not valid GiftCertificates and duplicates of existing ones are skipped. Also create new CustomTags if it needed.
+     *
+     * @param in     input stream with JSON array or CSV of GiftCertificates
+     * @param format input format
+     * @return progress of started import job as ImportJobDto
+     * @throws CustomException if input or format have not valid value or too many import jobs are queued
+     */
+    ImportJobDto importCertificates(InputStream in, ImportFormat format) throws CustomException;
+
+    /**
+     * Find progress of import job by id
+     *
+     * @param id import job id
+     * @return progress of import job as ImportJobDto
+     * @throws CustomException if id has not valid value or import job was not found
+     */
+    ImportJobDto findJobById(long id) throws CustomException;
+}
@@ -3,6 +3,7 @@ package com.epam.esm.service;
 import com.epam.esm.enumeration.SearchParameterName;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.PageDto;
 
 import java.util.List;
 import java.util.Map;
@@ -21,16 +22,6 @@ public interface CertificateService {
      */
     CertificateDto findById(long id) throws CustomException;
 
-    /**
-     * Find all active GiftCertificate with pagination
-     *
-     * @param page page
-     * @param size page size
-     * @return GiftCertificate list as GiftCertificateDto list or empty list if no one GiftCertificate was not found
-     * @throws CustomException if page or size have not valid value
-     */
-    List<CertificateDto> findAll(int page, int size) throws CustomException;
-
     /**
      * Delete GiftCertificate by id. If GiftCertificate has links to another resource, it will deactivate.
      *
@@ -61,56 +52,67 @@ public interface CertificateService {
     CertificateDto update(long id, CertificateDto certificateDto) throws CustomException;
 
     /**
-     * Find active GiftCertificates by parameters with pagination
+     * Find page of active GiftCertificates together with the last page number
+     *
+     * @param page page
+     * @param size page size
+     * @return PageDto of GiftCertificates as GiftCertificateDto
+     * @throws CustomException if page or size have not valid value
+     */
+    PageDto<CertificateDto> findAllPage(int page, int size) throws CustomException;
+
+    /**
+     * Find page of active GiftCertificates by parameters together with the last page number
      *
+     * @param parameters search parameters
      * @param page       page
      * @param size       page size
-     * @param parameters search parameters
-     * @return list of GiftCertificates as GiftCertificateDto or empty list if no one GiftCertificate was not found
+     * @return PageDto of GiftCertificates as GiftCertificateDto
      * @throws CustomException if parameters, page or size have not valid value
      */
-    List<CertificateDto> findAllByParameters(Map<SearchParameterName, String> parameters, int page, int size)
+    PageDto<CertificateDto> findAllByParametersPage(Map<SearchParameterName, String> parameters, int page, int size)
             throws CustomException;
 
     /**
-     * Find active GiftCertificates by tags with pagination
+     * Find page of active GiftCertificates by tags together with the last page number
      *
+     * @param tags tags names for search
      * @param page page
      * @param size page size
-     * @param tags tags names for search
-     * @return list of GiftCertificates as GiftCertificateDto or empty list if no one GiftCertificate was not found
+     * @return PageDto of GiftCertificates as GiftCertificateDto
      * @throws CustomException if tags, page or size have not valid value
      */
-    List<CertificateDto> findAllByTags(String[] tags, int page, int size) throws CustomException;
+    PageDto<CertificateDto> findAllByTagsPage(String[] tags, int page, int size) throws CustomException;
 
     /**
-     * Find the last page by all active GiftCertificates
+     * Find all active GiftCertificates with keyset (seek) pagination ordered by create date
      *
-     * @param size page size
-     * @return last page value
-     * @throws CustomException if size has not valid value
+     * @param cursor continuation token of the previous page or empty string for the first page
+     * @param size   page size
+     * @return list of GiftCertificates as GiftCertificateDto or empty list if no one GiftCertificate was not found
+     * @throws CustomException if cursor or size have not valid value
      */
-    int findAllLastPage(int size) throws CustomException;
+    List<CertificateDto> findAllByCursor(String cursor, int size) throws CustomException;
 
     /**
-     * Find the last page by all active GiftCertificates by parameters
+     * Find active GiftCertificates by parameters with keyset (seek) pagination
      *
      * @param parameters search parameters
+     * @param cursor     continuation token of the previous page or empty string for the first page
      * @param size       page size
-     * @return last page value
-     * @throws CustomException if parameters or size have not valid value
+     * @return list of GiftCertificates as GiftCertificateDto or empty list if no one GiftCertificate was not found
+     * @throws CustomException if parameters, cursor or size have not valid value
      */
-    int findAllByParametersLastPage(Map<SearchParameterName, String> parameters, int size) throws CustomException;
-
+    List<CertificateDto> findAllByParametersAndCursor(Map<SearchParameterName, String> parameters,
+                                                      String cursor,
+                                                      int size) throws CustomException;
 
     /**
-     * Find the last page by all active GiftCertificates by tags names
+     * Find version of GiftCertificates catalog. It is changed by every modification of GiftCertificates
+     * or CustomTags, so an unchanged version means unchanged representations of the catalog.
+     * In estimated pagination mode version includes epoch of cached total quantities.
      *
-     * @param tags tags names for search
-     * @param size page size
-     * @return last page value
-     * @throws CustomException if tags name or size have not valid value
+     * @return catalog version
      */
-    int findAllByTagsLastPage(String[] tags, int size) throws CustomException;
-
+    String findCatalogVersion();
 }
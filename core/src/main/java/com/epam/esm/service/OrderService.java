@@ -3,6 +3,8 @@ package com.epam.esm.service;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
+import com.epam.esm.service.dto.OrderResultDto;
+import com.epam.esm.service.dto.PageDto;
 
 import java.util.List;
 
@@ -12,25 +14,15 @@ import java.util.List;
 public interface OrderService {
 
     /**
-     * Find all orders by user id.
+     * Find page of orders by user id together with the last page number
      *
      * @param userId user id
      * @param page   page
      * @param size   page size
-     * @return Order list as OrderDto list or empty list if no one Order was not found
+     * @return PageDto of Orders as OrderDto
      * @throws CustomException if userId, page, size have not valid value
      */
-    List<OrderDto> findAllByUser(long userId, int page, int size) throws CustomException;
-
-    /**
-     * Find the last page by all orders by user id
-     *
-     * @param userId user id
-     * @param size   page size
-     * @return last page value
-     * @throws CustomException if userId or size have not valid value
-     */
-    int findAllByUserLastPage(long userId, int size) throws CustomException;
+    PageDto<OrderDto> findAllByUserPage(long userId, int page, int size) throws CustomException;
 
     /**
      * Find Order by id and by user id
@@ -54,4 +46,26 @@ public interface OrderService {
      */
     OrderDto create(long userId, List<CertificateDto> certificates) throws CustomException;
 
+    /**
+     * Create several Orders of one User.
+     * All GiftCertificates are validated before writing, valid Orders are written in bounded chunks,
+     * every chunk in its own transaction.
+     *
+     * @param userId user id
+     * @param orders list of certificate lists, one for every Order
+     * @return result for every Order in request order: id of created Order or error
+     * @throws CustomException if id or orders list have not valid value or User was not found
+     */
+    List<OrderResultDto> createAll(long userId, List<List<CertificateDto>> orders) throws CustomException;
+
+    /**
+     * Find version of Orders of User. Orders are never changed or deleted,
+     * so their quantity changes with every new Order.
+     * In estimated pagination mode version includes epoch of cached total quantities.
+     *
+     * @param userId user id
+     * @return version of User Orders
+     * @throws CustomException if id has not valid value
+     */
+    String findAllByUserVersion(long userId) throws CustomException;
 }
@@ -1,10 +1,9 @@
 package com.epam.esm.service;
 
 import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 
-import java.util.List;
-
 /**
  * Interface contains service methods for work with CustomTag entity
  */
@@ -20,13 +19,14 @@ public interface TagService {
     TagDto findById(long id) throws CustomException;
 
     /**
-     * Find all CustomTags with pagination
+     * Find page of CustomTags together with the last page number
      *
      * @param page page
      * @param size page size
-     * @return CustomTag list as TagDto list or empty list if no one CustomTag was not found
+     * @return PageDto of CustomTags as TagDto
+     * @throws CustomException if page or size have not valid value
      */
-    List<TagDto> findAll(int page, int size) throws CustomException;
+    PageDto<TagDto> findAllPage(int page, int size) throws CustomException;
 
     /**
      * Delete CustomTag by id
@@ -55,11 +55,18 @@ public interface TagService {
     TagDto findTheMostWidelyTag();
 
     /**
-     * Find the last page by all tags
+     * Recompute usage statistics of tags from all Orders and find the most widely tag
+     * of a user with the highest cost of all orders.
      *
-     * @param size page size
-     * @return last page value
-     * @throws CustomException if size has not valid value
+     * @return CustomTag as TagDto
+     */
+    TagDto recomputeTheMostWidelyTag();
+
+    /**
+     * Find version of CustomTags catalog. It is changed by every modification of GiftCertificates
+     * or CustomTags. In estimated pagination mode version includes epoch of cached total quantities.
+     *
+     * @return catalog version
      */
-    int findAllLastPage(int size) throws CustomException;
+    String findCatalogVersion();
 }
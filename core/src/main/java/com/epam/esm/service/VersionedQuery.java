@@ -0,0 +1,20 @@
+package com.epam.esm.service;
+
+import com.epam.esm.exception.CustomException;
+
+/**
+ * Service call reading a version or content of a representation
+ *
+ * @param <T> result type
+ */
+@FunctionalInterface
+public interface VersionedQuery<T> {
+
+    /**
+     * Run the call
+     *
+     * @return call result
+     * @throws CustomException if the call fails
+     */
+    T find() throws CustomException;
+}
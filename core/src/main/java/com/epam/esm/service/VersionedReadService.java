@@ -0,0 +1,28 @@
+package com.epam.esm.service;
+
+import com.epam.esm.exception.CustomException;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Interface contains conditional reads of representations.
+ * Version and content are read in one read-only transaction, so with replicas they come from one database
+ * and content always matches its version (entity tag).
+ */
+public interface VersionedReadService {
+
+    /**
+     * Find version and, unless the caller has representation of this version, content.
+     *
+     * @param version     query of version
+     * @param notModified check of version, true if representation of the caller is not modified
+     * @param content     query of content
+     * @param <T>         content type
+     * @return content or empty Optional if representation is not modified
+     * @throws CustomException if any query fails
+     */
+    <T> Optional<T> findIfModified(VersionedQuery<String> version,
+                                   Predicate<String> notModified,
+                                   VersionedQuery<T> content) throws CustomException;
+}
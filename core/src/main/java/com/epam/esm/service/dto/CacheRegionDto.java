@@ -0,0 +1,20 @@
+package com.epam.esm.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Class represent hit/miss statistics of one second-level cache region.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionDto {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long size;
+}
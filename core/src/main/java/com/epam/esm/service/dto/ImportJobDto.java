@@ -0,0 +1,33 @@
+package com.epam.esm.service.dto;
+
+import com.epam.esm.enumeration.ImportJobStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Class represent progress of GiftCertificates import job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDto extends RepresentationModel<ImportJobDto> {
+
+    private long id;
+    private ImportJobStatus status;
+    private long processed;
+    private long created;
+    private long duplicates;
+    private long failed;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startDate;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endDate;
+    private List<String> errors;
+
+}
@@ -0,0 +1,37 @@
+package com.epam.esm.service.dto;
+
+import com.epam.esm.exception.CustomErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Class represent result of one Order of bulk creation: id of created Order or error.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderResultDto {
+
+    private int index;
+    private Long orderId;
+    private BigDecimal amount;
+    private Integer errorCode;
+    private String errorMessage;
+
+    /**
+     * Create result of not created Order.
+     *
+     * @param index     Order position in request
+     * @param message   error message
+     * @param errorCode error code
+     * @return OrderResultDto
+     */
+    public static OrderResultDto failed(int index, String message, CustomErrorCode errorCode) {
+        return new OrderResultDto(index, null, null, errorCode.getCode(), message);
+    }
+}
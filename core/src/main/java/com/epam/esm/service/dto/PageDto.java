@@ -0,0 +1,37 @@
+package com.epam.esm.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Class represent one page of collection together with last page number.
+ *
+ * @param <T> page element type
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+
+    private List<T> content;
+    private int lastPage;
+
+    /**
+     * Create page by content and total elements quantity.
+     *
+     * @param content page content
+     * @param total   total elements quantity
+     * @param size    page size
+     * @param <T>     page element type
+     * @return PageDto
+     */
+    public static <T> PageDto<T> of(List<T> content, long total, int size) {
+        int lastPage = (int) (total % size == 0
+                ? total / size
+                : total / size + 1);
+        return new PageDto<>(content, lastPage);
+    }
+}
@@ -0,0 +1,99 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.dao.CacheRegion;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.service.CacheService;
+import com.epam.esm.service.dto.CacheRegionDto;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CacheServiceImpl implements CacheService {
+
+    private static final String CERTIFICATE_TAGS_ROLE = GiftCertificate.class.getName() + ".tags";
+    private static final List<String> DOMAIN_REGIONS =
+            List.of(CacheRegion.CERTIFICATE, CacheRegion.CERTIFICATE_TAGS, CacheRegion.TAG);
+    private static final List<String> QUERY_REGIONS = List.of(CacheRegion.TAG_BY_NAME);
+
+    private SessionFactory sessionFactory;
+
+    @Autowired
+    public CacheServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public void evictCertificate(long id) {
+        afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(GiftCertificate.class, id);
+            cache.evictCollectionData(CERTIFICATE_TAGS_ROLE, id);
+        });
+    }
+
+    @Override
+    public void evictTag(long id) {
+        afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(CustomTag.class, id);
+            cache.evictCollectionData(CERTIFICATE_TAGS_ROLE);
+            cache.evictQueryRegion(CacheRegion.TAG_BY_NAME);
+        });
+    }
+
+    @Override
+    public void evictTagQueries() {
+        afterCommit(() -> sessionFactory.getCache().evictQueryRegion(CacheRegion.TAG_BY_NAME));
+    }
+
+    @Override
+    public List<CacheRegionDto> findAllRegionStatistics() {
+        List<CacheRegionDto> regions = new ArrayList<>();
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return regions;
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : DOMAIN_REGIONS) {
+            regions.add(convert(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : QUERY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.add(convert(region, regionStatistics));
+            }
+        }
+        return regions;
+    }
+
+    private CacheRegionDto convert(String region, CacheRegionStatistics statistics) {
+        return new CacheRegionDto(region,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
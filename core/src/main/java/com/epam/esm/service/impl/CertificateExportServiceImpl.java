@@ -0,0 +1,59 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.enumeration.ExportFormat;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.CertificateExportService;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.util.CertificateWriter;
+import com.epam.esm.util.impl.CsvCertificateWriter;
+import com.epam.esm.util.impl.NdjsonCertificateWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.epam.esm.exception.CustomErrorCode.NOT_VALID_DATA;
+
+@Service
+public class CertificateExportServiceImpl implements CertificateExportService {
+
+    private GiftCertificateDao certificateDao;
+    private ObjectMapper mapper;
+    private int fetchSize;
+
+    @Autowired
+    public CertificateExportServiceImpl(GiftCertificateDao certificateDao,
+                                        ObjectMapper mapper,
+                                        @Value("${esm.export.fetch-size:1000}") int fetchSize) {
+        this.certificateDao = certificateDao;
+        this.mapper = mapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAll(OutputStream out, ExportFormat format) throws CustomException, IOException {
+        if (out == null || format == null) {
+            throw new CustomException("format=" + format, NOT_VALID_DATA);
+        }
+        long quantity = 0;
+        try (Stream<CertificateDto> certificates = certificateDao.streamAllActiveAsDto(fetchSize);
+             CertificateWriter writer = format == ExportFormat.NDJSON
+                     ? new NdjsonCertificateWriter(out, mapper.getFactory())
+                     : new CsvCertificateWriter(out)) {
+            Iterator<CertificateDto> iterator = certificates.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                quantity++;
+            }
+        }
+        return quantity;
+    }
+}
@@ -0,0 +1,371 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.config.ImportExecutorConfig;
+import com.epam.esm.dao.CatalogVersionDao;
+import com.epam.esm.dao.CustomTagDao;
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.entity.CatalogVersion;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.enumeration.ImportFormat;
+import com.epam.esm.exception.CustomErrorCode;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.index.TagBitmapIndex;
+import com.epam.esm.service.CacheService;
+import com.epam.esm.service.CertificateImportService;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.ImportJobDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.service.validator.CustomValidator;
+import com.epam.esm.util.CertificateKey;
+import com.epam.esm.util.CertificateReader;
+import com.epam.esm.util.Collation;
+import com.epam.esm.util.ImportJobRegistry;
+import com.epam.esm.util.ImportJobRegistry.ImportJob;
+import com.epam.esm.util.TotalCountCache;
+import com.epam.esm.util.impl.CsvCertificateReader;
+import com.epam.esm.util.impl.JsonCertificateReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import static com.epam.esm.exception.CustomErrorCode.INTERNAL_SERVER_EXCEPTION;
+import static com.epam.esm.exception.CustomErrorCode.NOT_READABLE;
+import static com.epam.esm.exception.CustomErrorCode.NOT_VALID_DATA;
+import static com.epam.esm.exception.CustomErrorCode.PAYLOAD_TOO_LARGE;
+import static com.epam.esm.exception.CustomErrorCode.RESOURCE_NOT_FOUND;
+import static com.epam.esm.exception.CustomErrorCode.TOO_MANY_REQUESTS;
+
+@Service
+public class CertificateImportServiceImpl implements CertificateImportService {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final String COUNT_KEY_PREFIX = "certificates:";
+    private static final String TEMP_FILE_PREFIX = "certificates-import-";
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private GiftCertificateDao certificateDao;
+    private CustomTagDao tagDao;
+    private CustomValidator validator;
+    private TotalCountCache countCache;
+    private TagBitmapIndex tagIndex;
+    private CacheService cacheService;
+    private CatalogVersionDao versionDao;
+    private ImportJobRegistry jobRegistry;
+    private TransactionTemplate transactionTemplate;
+    private Executor importExecutor;
+    private ObjectMapper mapper;
+    private int chunkSize;
+    private long maxBytes;
+    private Semaphore jobSlots;
+
+    @Autowired
+    public CertificateImportServiceImpl(GiftCertificateDao certificateDao,
+                                        CustomTagDao tagDao,
+                                        CustomValidator validator,
+                                        TotalCountCache countCache,
+                                        TagBitmapIndex tagIndex,
+                                        CacheService cacheService,
+                                        CatalogVersionDao versionDao,
+                                        ImportJobRegistry jobRegistry,
+                                        TransactionTemplate transactionTemplate,
+                                        @Qualifier(ImportExecutorConfig.IMPORT_EXECUTOR) Executor importExecutor,
+                                        ObjectMapper mapper,
+                                        @Value("${esm.import.chunk-size:1000}") int chunkSize,
+                                        @Value("${esm.import.max-bytes:104857600}") long maxBytes,
+                                        @Value("${esm.import.threads:2}") int threads,
+                                        @Value("${esm.import.queue-capacity:10}") int queueCapacity) {
+        this.certificateDao = certificateDao;
+        this.tagDao = tagDao;
+        this.validator = validator;
+        this.countCache = countCache;
+        this.tagIndex = tagIndex;
+        this.cacheService = cacheService;
+        this.versionDao = versionDao;
+        this.jobRegistry = jobRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.importExecutor = importExecutor;
+        this.mapper = mapper;
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        this.jobSlots = new Semaphore(threads + queueCapacity);
+    }
+
+    @Override
+    public ImportJobDto importCertificates(InputStream in, ImportFormat format) throws CustomException {
+        if (in == null || format == null) {
+            throw new CustomException("format=" + format, NOT_VALID_DATA);
+        }
+        if (!jobSlots.tryAcquire()) {
+            throw new CustomException("import queue is full", TOO_MANY_REQUESTS);
+        }
+        ImportJob job = jobRegistry.start();
+        Path file;
+        try {
+            file = Files.createTempFile(TEMP_FILE_PREFIX, null);
+        } catch (IOException e) {
+            jobSlots.release();
+            logger.error("Import job {} was not started", job.getId(), e);
+            job.fail(rowError(0, INTERNAL_SERVER_EXCEPTION, "temporary file was not created"));
+            return job.toDto();
+        }
+        try {
+            copy(in, file);
+            importExecutor.execute(() -> importFile(file, format, job));
+        } catch (IOException e) {
+            logger.warn("Import job {} input was not received: {}", job.getId(), e.getMessage());
+            releaseFile(file);
+            job.fail(rowError(0, NOT_READABLE, e.getMessage()));
+        } catch (CustomException e) {
+            releaseFile(file);
+            job.fail(rowError(0, e.getCustomErrorCode(), e.getMessage()));
+            throw e;
+        } catch (RejectedExecutionException e) {
+            releaseFile(file);
+            job.fail(rowError(0, TOO_MANY_REQUESTS, "import queue is full"));
+            throw new CustomException("import job id=" + job.getId(), TOO_MANY_REQUESTS);
+        }
+        return job.toDto();
+    }
+
+    @Override
+    public ImportJobDto findJobById(long id) throws CustomException {
+        boolean isValid = validator.validateEntityId(id);
+        if (!isValid) {
+            throw new CustomException("id=" + id, NOT_VALID_DATA);
+        }
+        return jobRegistry.find(id)
+                .orElseThrow(() -> new CustomException("import job id=" + id, RESOURCE_NOT_FOUND));
+    }
+
+    private void importFile(Path file, ImportFormat format, ImportJob job) {
+        try (InputStream in = Files.newInputStream(file)) {
+            importStream(in, format, job);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Import job {} failed", job.getId(), e);
+            job.fail(rowError(job.toDto().getProcessed(), INTERNAL_SERVER_EXCEPTION, "import failed"));
+        } finally {
+            releaseFile(file);
+        }
+    }
+
+    /**
+     * Copy input to file, failing as soon as the limit of size is exceeded.
+     */
+    private void copy(InputStream in, Path file) throws IOException, CustomException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long copied = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                copied += read;
+                if (copied > maxBytes) {
+                    throw new CustomException(String.valueOf(maxBytes), PAYLOAD_TOO_LARGE);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Delete file of finished or not started import job and free its slot.
+     */
+    private void releaseFile(Path file) {
+        deleteFile(file);
+        jobSlots.release();
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Import file {} was not deleted: {}", file, e.getMessage());
+        }
+    }
+
+    private void importStream(InputStream in, ImportFormat format, ImportJob job) {
+        List<CertificateDto> chunk = new ArrayList<>(chunkSize);
+        long firstRow = 0;
+        try (CertificateReader reader = format == ImportFormat.JSON
+                ? new JsonCertificateReader(in, mapper)
+                : new CsvCertificateReader(in)) {
+            CertificateDto dto;
+            while ((dto = reader.next()) != null) {
+                chunk.add(dto);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, firstRow, job);
+                    firstRow += chunk.size();
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, firstRow, job);
+            job.complete();
+        } catch (IOException e) {
+            long row = firstRow + chunk.size();
+            logger.warn("Import job {} stopped on row {}: {}", job.getId(), row, e.getMessage());
+            importChunk(chunk, firstRow, job);
+            job.fail(rowError(row, NOT_READABLE, e.getMessage()));
+        } finally {
+            cacheService.evictTagQueries();
+            countCache.invalidate(COUNT_KEY_PREFIX);
+            versionDao.incrementVersion(CatalogVersion.CATALOG);
+        }
+    }
+
+    private void importChunk(List<CertificateDto> chunk, long firstRow, ImportJob job) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<CertificateDto> valid = new ArrayList<>();
+        List<Long> validRows = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CertificateDto dto = chunk.get(i);
+            if (dto.getId() == null && validator.validateCertificateDtoCreate(dto)) {
+                valid.add(dto);
+                validRows.add(firstRow + i);
+            } else {
+                job.addFailed(rowError(firstRow + i, NOT_VALID_DATA, "name=" + dto.getName()
+                        + "; description=" + dto.getDescription()
+                        + "; price=" + dto.getPrice()
+                        + "; duration=" + dto.getDuration()
+                        + "; tags=" + dto.getTags()));
+            }
+        }
+        if (!valid.isEmpty()) {
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> writeChunk(valid, validRows));
+                job.addCreated(result.created());
+                job.addDuplicates(result.duplicates());
+                result.errors().forEach(job::addFailed);
+            } catch (RuntimeException e) {
+                logger.error("Import job {} failed to write rows {}-{}", job.getId(), firstRow,
+                        firstRow + chunk.size() - 1, e);
+                for (Long row : validRows) {
+                    job.addFailed(rowError(row, INTERNAL_SERVER_EXCEPTION, "row was not saved"));
+                }
+            }
+        }
+        job.addProcessed(chunk.size());
+    }
+
+    private ChunkResult writeChunk(List<CertificateDto> dtos, List<Long> rows) {
+        Set<String> names = dtos.stream()
+                .map(CertificateDto::getName)
+                .collect(Collectors.toSet());
+        Set<CertificateKey> existingKeys = new HashSet<>(certificateDao.findAllKeysByNameIn(names));
+        Map<Long, CustomTag> tagsById = findTagsById(dtos);
+        Map<String, CustomTag> tagsByName = findOrCreateTagsByName(dtos);
+
+        List<GiftCertificate> certificates = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        long duplicates = 0;
+        for (int i = 0; i < dtos.size(); i++) {
+            CertificateDto dto = dtos.get(i);
+            CertificateKey key = new CertificateKey(dto.getName(), dto.getDescription(), dto.getPrice(),
+                    dto.getDuration());
+            if (!existingKeys.add(key)) {
+                duplicates++;
+                continue;
+            }
+            try {
+                certificates.add(toCertificate(dto, tagsById, tagsByName));
+            } catch (CustomException e) {
+                errors.add(rowError(rows.get(i), e.getCustomErrorCode(), e.getMessage()));
+            }
+        }
+        if (!certificates.isEmpty()) {
+            certificateDao.saveAllInBatch(certificates);
+            certificates.forEach(c -> tagIndex.add(c.getId(), c.getTags()));
+        }
+        return new ChunkResult(certificates.size(), duplicates, errors);
+    }
+
+    private Map<Long, CustomTag> findTagsById(List<CertificateDto> dtos) {
+        Set<Long> ids = dtos.stream()
+                .flatMap(d -> d.getTags().stream())
+                .map(TagDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, CustomTag> tags = new HashMap<>();
+        if (!ids.isEmpty()) {
+            tagDao.findAllById(ids).forEach(t -> tags.put(t.getId(), t));
+        }
+        return tags;
+    }
+
+    /**
+     * Find or create CustomTags by names. Names are compared as database compares them (by collation key),
+     * so names differing only in case refer to one CustomTag and the first of them is used for a new one.
+     *
+     * @return CustomTags by collation keys of names
+     */
+    private Map<String, CustomTag> findOrCreateTagsByName(List<CertificateDto> dtos) {
+        Map<String, String> names = new HashMap<>();
+        dtos.stream()
+                .flatMap(d -> d.getTags().stream())
+                .filter(t -> t.getId() == null)
+                .map(TagDto::getName)
+                .forEach(name -> names.putIfAbsent(Collation.key(name), name));
+        Map<String, CustomTag> tags = new HashMap<>();
+        if (names.isEmpty()) {
+            return tags;
+        }
+        tagDao.findAllByNameIn(new HashSet<>(names.values())).forEach(t -> tags.put(Collation.key(t.getName()), t));
+        List<CustomTag> newTags = names.entrySet().stream()
+                .filter(entry -> !tags.containsKey(entry.getKey()))
+                .map(entry -> new CustomTag(entry.getValue()))
+                .toList();
+        if (!newTags.isEmpty()) {
+            tagDao.saveAll(newTags).forEach(t -> tags.put(Collation.key(t.getName()), t));
+        }
+        return tags;
+    }
+
+    private GiftCertificate toCertificate(CertificateDto dto, Map<Long, CustomTag> tagsById,
+                                          Map<String, CustomTag> tagsByName) throws CustomException {
+        GiftCertificate certificate = new GiftCertificate();
+        certificate.setName(dto.getName());
+        certificate.setDescription(dto.getDescription());
+        certificate.setPrice(dto.getPrice());
+        certificate.setDuration(dto.getDuration());
+        for (TagDto tagDto : dto.getTags()) {
+            CustomTag tag = tagDto.getId() != null
+                    ? tagsById.get(tagDto.getId())
+                    : tagsByName.get(Collation.key(tagDto.getName()));
+            if (tag == null) {
+                throw new CustomException("tag id=" + tagDto.getId(), RESOURCE_NOT_FOUND);
+            }
+            certificate.getTags().add(tag);
+        }
+        return certificate;
+    }
+
+    private String rowError(long row, CustomErrorCode errorCode, String message) {
+        return "row " + row + " (" + errorCode.getCode() + "): " + message;
+    }
+
+    private record ChunkResult(long created, long duplicates, List<String> errors) {
+    }
+}
@@ -1,20 +1,29 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dao.CatalogVersionDao;
 import com.epam.esm.dao.CustomTagDao;
 import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.entity.CatalogVersion;
 import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.GiftCertificate_;
 import com.epam.esm.enumeration.SearchParameterName;
 import com.epam.esm.enumeration.SortingType;
 import com.epam.esm.exception.CustomException;
+import com.epam.esm.index.TagBitmapIndex;
+import com.epam.esm.service.CacheService;
 import com.epam.esm.service.CertificateService;
 import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.service.validator.CustomValidator;
 import com.epam.esm.specification.SpecificationCreator;
+import com.epam.esm.util.ContinuationToken;
 import com.epam.esm.util.DtoEntityConvector;
+import com.epam.esm.util.TotalCountCache;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,12 +32,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,19 +54,37 @@ import static com.epam.esm.exception.CustomErrorCode.RESOURCE_NOT_FOUND;
 @Service
 public class CertificateServiceImpl implements CertificateService {
 
+    private static final String COUNT_KEY_PREFIX = "certificates:";
+
     private GiftCertificateDao certificateDao;
     private CustomValidator validator;
     private CustomTagDao tagDao;
+    private TotalCountCache countCache;
+    private TagBitmapIndex tagIndex;
+    private CacheService cacheService;
+    private CatalogVersionDao versionDao;
+    private boolean fullTextSearch;
 
     @Autowired
     public CertificateServiceImpl(GiftCertificateDao certificateDao,
                                   CustomValidator validator,
-                                  CustomTagDao tagDao) {
+                                  CustomTagDao tagDao,
+                                  TotalCountCache countCache,
+                                  TagBitmapIndex tagIndex,
+                                  CacheService cacheService,
+                                  CatalogVersionDao versionDao,
+                                  @Value("${esm.search.full-text:false}") boolean fullTextSearch) {
         this.certificateDao = certificateDao;
         this.validator = validator;
         this.tagDao = tagDao;
+        this.countCache = countCache;
+        this.tagIndex = tagIndex;
+        this.cacheService = cacheService;
+        this.versionDao = versionDao;
+        this.fullTextSearch = fullTextSearch;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public CertificateDto findById(long id) throws CustomException {
         boolean isValid = validator.validateEntityId(id);
@@ -65,17 +98,7 @@ public class CertificateServiceImpl implements CertificateService {
     }
 
     @Override
-    public List<CertificateDto> findAll(int page, int size) throws CustomException {
-        boolean isValidPageSize = validator.validatePageSize(page, size);
-        if (!isValidPageSize) {
-            throw new CustomException("page=" + page + "; size=" + size, NOT_VALID_DATA);
-        }
-        Pageable paging = PageRequest.of(page - 1, size);
-        List<GiftCertificate> certificates = certificateDao.findAllByActive(true, paging).toList();
-        return DtoEntityConvector.convertCertificates(certificates);
-    }
-
-    @Override
+    @Transactional
     public void delete(long id) throws CustomException {
         boolean isValid = validator.validateEntityId(id);
         if (!isValid) {
@@ -91,6 +114,10 @@ public class CertificateServiceImpl implements CertificateService {
         } else {
             certificateDao.delete(certificate);
         }
+        tagIndex.remove(certificate.getId(), certificate.getTags());
+        cacheService.evictCertificate(id);
+        countCache.invalidate(COUNT_KEY_PREFIX);
+        versionDao.incrementVersion(CatalogVersion.CATALOG);
     }
 
     @Override
@@ -124,10 +151,15 @@ public class CertificateServiceImpl implements CertificateService {
         GiftCertificate certificate = DtoEntityConvector.convert(dto);
         certificate.setActive(true);
         GiftCertificate newCertificate = certificateDao.save(certificate);
+        tagIndex.add(newCertificate.getId(), newCertificate.getTags());
+        cacheService.evictTagQueries();
+        countCache.invalidate(COUNT_KEY_PREFIX);
+        versionDao.incrementVersion(CatalogVersion.CATALOG);
         return DtoEntityConvector.convert(newCertificate);
     }
 
     @Override
+    @Transactional
     public CertificateDto update(long id, CertificateDto dto) throws CustomException {
         boolean isValidId = validator.validateEntityId(id);
         if (!isValidId) {
@@ -144,14 +176,38 @@ public class CertificateServiceImpl implements CertificateService {
         }
         GiftCertificate oldCertificate = certificateDao.findByIdAndActive(id, true)
                 .orElseThrow(() -> new CustomException("id=" + id, RESOURCE_NOT_FOUND));
+        Set<CustomTag> oldTags = new HashSet<>(oldCertificate.getTags());
         refreshGiftCertificate(dto, oldCertificate);
         GiftCertificate updatedCertificate = certificateDao.save(oldCertificate);
+        tagIndex.replace(id, oldTags, updatedCertificate.getTags());
+        cacheService.evictCertificate(id);
+        cacheService.evictTagQueries();
+        countCache.invalidate(COUNT_KEY_PREFIX);
+        versionDao.incrementVersion(CatalogVersion.CATALOG);
         return DtoEntityConvector.convert(updatedCertificate);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public PageDto<CertificateDto> findAllPage(int page, int size) throws CustomException {
+        boolean isValidPageSize = validator.validatePageSize(page, size);
+        if (!isValidPageSize) {
+            throw new CustomException("page=" + page + "; size=" + size, NOT_VALID_DATA);
+        }
+        Pageable paging = PageRequest.of(page - 1, size);
+        Specification<GiftCertificate> specification =
+                SpecificationCreator.getSpecification(Map.of(SearchParameterName.ACTIVE, Boolean.TRUE.toString()));
+        List<CertificateDto> certificates = certificateDao.findAllAsDto(specification, paging);
+        long total = countCache.count(COUNT_KEY_PREFIX, paging, certificates.size(),
+                () -> certificateDao.countByActive(true));
+        return PageDto.of(certificates, total, size);
+    }
+
+    @Transactional(readOnly = true)
     @Override
-    public List<CertificateDto> findAllByParameters(Map<SearchParameterName, String> parameters, int page, int size)
-            throws CustomException {
+    public PageDto<CertificateDto> findAllByParametersPage(Map<SearchParameterName, String> parameters,
+                                                           int page,
+                                                           int size) throws CustomException {
         boolean isValidPageSize = validator.validatePageSize(page, size);
         if (!isValidPageSize) {
             throw new CustomException("page=" + page + "; size=" + size, NOT_VALID_DATA);
@@ -162,13 +218,19 @@ public class CertificateServiceImpl implements CertificateService {
         }
         Sort sorting = getSorting(parameters.get(SearchParameterName.SORT_BY));
         Pageable paging = PageRequest.of(page - 1, size, sorting);
-        Specification<GiftCertificate> specification = SpecificationCreator.getSpecification(parameters);
-        List<GiftCertificate> certificates = certificateDao.findAll(specification, paging).toList();
-        return DtoEntityConvector.convertCertificates(certificates);
+        Specification<GiftCertificate> specification =
+                SpecificationCreator.getSpecification(prepareSearchParameters(parameters));
+        List<CertificateDto> certificates = certificateDao.findAllAsDto(specification, paging);
+        Map<SearchParameterName, String> filters = new TreeMap<>(parameters);
+        filters.remove(SearchParameterName.SORT_BY);
+        long total = countCache.count(COUNT_KEY_PREFIX + filters, paging, certificates.size(),
+                () -> certificateDao.count(specification));
+        return PageDto.of(certificates, total, size);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<CertificateDto> findAllByTags(String[] tags, int page, int size) throws CustomException {
+    public PageDto<CertificateDto> findAllByTagsPage(String[] tags, int page, int size) throws CustomException {
         boolean isValidPageSize = validator.validatePageSize(page, size);
         if (!isValidPageSize) {
             throw new CustomException("page=" + page + "; size=" + size, NOT_VALID_DATA);
@@ -181,57 +243,61 @@ public class CertificateServiceImpl implements CertificateService {
             throw new CustomException("tags=" + Arrays.toString(tags), NOT_VALID_DATA);
         }
         Pageable paging = PageRequest.of(page - 1, size);
+        Optional<RoaringBitmap> ids = tagIndex.findAllByTagsNames(tags);
+        if (ids.isPresent()) {
+            List<GiftCertificate> certificates = findAllByIds(ids.get(), paging);
+            return PageDto.of(DtoEntityConvector.convertCertificates(certificates), ids.get().getLongCardinality(),
+                    size);
+        }
         List<GiftCertificate> certificates = certificateDao.findAllByTagsNamesAndActive(tags, true, paging);
-        return DtoEntityConvector.convertCertificates(certificates);
+        String key = COUNT_KEY_PREFIX + "tags=" + new TreeSet<>(Arrays.asList(tags));
+        long total = countCache.count(key, paging, certificates.size(),
+                () -> certificateDao.countByTagsNamesAndActive(tags, true));
+        return PageDto.of(DtoEntityConvector.convertCertificates(certificates), total, size);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public int findAllLastPage(int size) throws CustomException {
+    public List<CertificateDto> findAllByCursor(String cursor, int size) throws CustomException {
         if (size < 1) {
             throw new CustomException("size=" + size, NOT_VALID_DATA);
         }
-        int quantity = (int) certificateDao.countByActive(true);
-        int lastPage = quantity % size == 0
-                ? quantity / size
-                : quantity / size + 1;
-        return lastPage;
+        ContinuationToken token = decodeCursor(cursor, SortingType.DATE_ASC);
+        Specification<GiftCertificate> specification =
+                SpecificationCreator.getSpecification(Map.of(SearchParameterName.ACTIVE, Boolean.TRUE.toString()));
+        List<GiftCertificate> certificates =
+                certificateDao.findAllByKeyset(specification, SortingType.DATE_ASC, token, size);
+        return DtoEntityConvector.convertCertificates(certificates);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public int findAllByParametersLastPage(Map<SearchParameterName, String> parameters, int size)
-            throws CustomException {
+    public List<CertificateDto> findAllByParametersAndCursor(Map<SearchParameterName, String> parameters,
+                                                             String cursor,
+                                                             int size) throws CustomException {
+        if (size < 1) {
+            throw new CustomException("size=" + size, NOT_VALID_DATA);
+        }
         boolean isValid = validator.validateSearchParameters(parameters);
         if (!isValid) {
             throw new CustomException(parameters.toString(), NOT_VALID_DATA);
         }
-        if (size < 1) {
-            throw new CustomException("size=" + size, NOT_VALID_DATA);
+        SortingType sortingType = SortingType.getSortingType(parameters.get(SearchParameterName.SORT_BY));
+        if (sortingType == SortingType.RELEVANCE) {
+            throw new CustomException("sort_by=" + sortingType.getType() + " with cursor", NOT_VALID_DATA);
         }
-        Specification<GiftCertificate> specification = SpecificationCreator.getSpecification(parameters);
-        int quantity = (int) certificateDao.count(specification);
-        int lastPage = quantity % size == 0
-                ? quantity / size
-                : quantity / size + 1;
-        return lastPage;
+        ContinuationToken token = decodeCursor(cursor, sortingType);
+        Specification<GiftCertificate> specification =
+                SpecificationCreator.getSpecification(prepareSearchParameters(parameters));
+        List<GiftCertificate> certificates =
+                certificateDao.findAllByKeyset(specification, sortingType, token, size);
+        return DtoEntityConvector.convertCertificates(certificates);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public int findAllByTagsLastPage(String[] tags, int size) throws CustomException {
-        Set<TagDto> dtos = Stream.of(tags)
-                .map(TagDto::new)
-                .collect(Collectors.toSet());
-        boolean isValidTags = dtos.stream().allMatch(validator::validateTagDto);
-        if (!isValidTags || tags.length == 0) {
-            throw new CustomException("tags=" + Arrays.toString(tags), NOT_VALID_DATA);
-        }
-        if (size < 1) {
-            throw new CustomException("size=" + size, NOT_VALID_DATA);
-        }
-        int quantity = certificateDao.countByTagsNamesAndActive(tags, true);
-        int lastPage = quantity % size == 0
-                ? quantity / size
-                : quantity / size + 1;
-        return lastPage;
+    public String findCatalogVersion() {
+        return countCache.versionOf(versionDao.findVersion(CatalogVersion.CATALOG));
     }
 
     private void refreshGiftCertificate(CertificateDto dto, GiftCertificate certificate) throws CustomException {
@@ -279,6 +345,68 @@ public class CertificateServiceImpl implements CertificateService {
         return editedTags;
     }
 
+    /**
+     * Find page of active GiftCertificates ordered by id, as database search orders them.
+     * Index may still hold ids of just deactivated GiftCertificates, such ids are skipped
+     * and the page is topped up with the following ones.
+     */
+    private List<GiftCertificate> findAllByIds(RoaringBitmap ids, Pageable paging) {
+        PrimitiveIterator.OfInt iterator = ids.stream()
+                .skip(paging.getOffset())
+                .iterator();
+        List<GiftCertificate> page = new ArrayList<>(paging.getPageSize());
+        while (page.size() < paging.getPageSize() && iterator.hasNext()) {
+            List<Long> chunkIds = new ArrayList<>();
+            while (chunkIds.size() < paging.getPageSize() - page.size() && iterator.hasNext()) {
+                chunkIds.add((long) iterator.nextInt());
+            }
+            List<GiftCertificate> chunk = new ArrayList<>();
+            certificateDao.findAllById(chunkIds).forEach(chunk::add);
+            chunk.stream()
+                    .filter(GiftCertificate::isActive)
+                    .sorted(Comparator.comparing(GiftCertificate::getId))
+                    .forEach(page::add);
+        }
+        return page;
+    }
+
+    private ContinuationToken decodeCursor(String cursor, SortingType sortingType) throws CustomException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        ContinuationToken token;
+        try {
+            token = ContinuationToken.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("cursor=" + cursor, NOT_VALID_DATA);
+        }
+        // tuple of another sorting would skip or repeat rows
+        if (token.getSortingType() != sortingType) {
+            throw new CustomException("cursor=" + cursor, NOT_VALID_DATA);
+        }
+        return token;
+    }
+
+    /**
+     * Replace LIKE search by name and description with full-text search, if it is switched on.
+     */
+    private Map<SearchParameterName, String> prepareSearchParameters(Map<SearchParameterName, String> parameters) {
+        if (!fullTextSearch) {
+            return parameters;
+        }
+        Map<SearchParameterName, String> prepared = new EnumMap<>(SearchParameterName.class);
+        prepared.putAll(parameters);
+        String name = prepared.remove(SearchParameterName.NAME);
+        if (name != null) {
+            prepared.put(SearchParameterName.NAME_FULL_TEXT, name);
+        }
+        String description = prepared.remove(SearchParameterName.DESCRIPTION);
+        if (description != null) {
+            prepared.put(SearchParameterName.DESCRIPTION_FULL_TEXT, description);
+        }
+        return prepared;
+    }
+
     private Sort getSorting(String sorting) {
         SortingType type = SortingType.getSortingType(sorting);
         Sort sort =
@@ -289,6 +417,7 @@ public class CertificateServiceImpl implements CertificateService {
                     case DATE_DESC -> Sort.by(Sort.Direction.DESC, GiftCertificate_.CREATE_DATE);
                     case DATE_DESC_NAME_ASC -> Sort.by(Sort.Direction.DESC, GiftCertificate_.CREATE_DATE)
                             .and(Sort.by(Sort.Direction.ASC, GiftCertificate_.NAME));
+                    case RELEVANCE -> Sort.unsorted();
                 };
         return sort;
     }
@@ -6,45 +6,79 @@ import com.epam.esm.dao.UserDao;
 import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.Order;
 import com.epam.esm.dao.entity.User;
+import com.epam.esm.event.OrderOutbox;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.OrderService;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
+import com.epam.esm.service.dto.OrderResultDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.validator.CustomValidator;
 import com.epam.esm.util.DtoEntityConvector;
+import com.epam.esm.util.TotalCountCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.epam.esm.exception.CustomErrorCode.DIFFERENT_CONDITION;
+import static com.epam.esm.exception.CustomErrorCode.INTERNAL_SERVER_EXCEPTION;
 import static com.epam.esm.exception.CustomErrorCode.NOT_VALID_DATA;
 import static com.epam.esm.exception.CustomErrorCode.RESOURCE_NOT_FOUND;
 
 @Service
 public class OrderServiceImpl implements OrderService {
 
+    private static final Logger logger = LogManager.getLogger();
+    private static final String NOT_SAVED_MESSAGE = "order was not saved";
+    private static final String COUNT_KEY_PREFIX = "orders:";
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private OrderDao orderDao;
     private CustomValidator validator;
     private GiftCertificateDao certificateDao;
     private UserDao userDao;
+    private TotalCountCache countCache;
+    private OrderOutbox outbox;
+    private TransactionTemplate transactionTemplate;
+    private int bulkChunkSize;
 
     @Autowired
     public OrderServiceImpl(OrderDao orderDao, CustomValidator validator,
-                            GiftCertificateDao certificateDao, UserDao userDao) {
+                            GiftCertificateDao certificateDao, UserDao userDao,
+                            TotalCountCache countCache, OrderOutbox outbox,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${esm.orders.bulk-chunk-size:500}") int bulkChunkSize) {
         this.orderDao = orderDao;
         this.validator = validator;
         this.certificateDao = certificateDao;
         this.userDao = userDao;
+        this.countCache = countCache;
+        this.outbox = outbox;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<OrderDto> findAllByUser(long userId, int page, int size) throws CustomException {
+    public PageDto<OrderDto> findAllByUserPage(long userId, int page, int size) throws CustomException {
         boolean isValidId = validator.validateEntityId(userId);
         if (!isValidId) {
             throw new CustomException("id=" + userId, NOT_VALID_DATA);
@@ -55,25 +89,12 @@ public class OrderServiceImpl implements OrderService {
         }
         Pageable paging = PageRequest.of(page - 1, size);
         List<Order> orders = orderDao.findAllByUserId(userId, paging);
-        return DtoEntityConvector.convertOrders(orders);
-    }
-
-    @Override
-    public int findAllByUserLastPage(long userId, int size) throws CustomException {
-        boolean isValidId = validator.validateEntityId(userId);
-        if (!isValidId) {
-            throw new CustomException("id=" + userId, NOT_VALID_DATA);
-        }
-        if (size < 1) {
-            throw new CustomException("size=" + size, NOT_VALID_DATA);
-        }
-        int quantity = orderDao.countByUserId(userId);
-        int lastPage = quantity % size == 0
-                ? quantity / size
-                : quantity / size + 1;
-        return lastPage;
+        long total = countCache.count(getCountKey(userId), paging, orders.size(),
+                () -> orderDao.countByUserId(userId));
+        return PageDto.of(DtoEntityConvector.convertOrders(orders), total, size);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public OrderDto findByIdAndByUser(long orderId, long userId) throws CustomException {
         boolean isValidOrderId = validator.validateEntityId(orderId);
@@ -100,25 +121,145 @@ public class OrderServiceImpl implements OrderService {
         }
         Optional<User> userOptional = userDao.findById(userId);
         User user = userOptional.orElseThrow(() -> new CustomException("user id=" + userId, RESOURCE_NOT_FOUND));
+        Set<Long> ids = certificates.stream()
+                .map(CertificateDto::getId)
+                .collect(Collectors.toSet());
+        List<GiftCertificate> certificatesForOrder = prepareCertificates(certificates, findCertificates(ids));
+        Order order = buildOrder(user, certificatesForOrder);
+        Order newOrder = transactionTemplate.execute(status -> {
+            Order savedOrder = orderDao.save(order);
+            outbox.append(List.of(savedOrder));
+            return savedOrder;
+        });
+        countCache.invalidate(getCountKey(userId));
+        return DtoEntityConvector.convert(newOrder);
+    }
+
+    @Override
+    public List<OrderResultDto> createAll(long userId, List<List<CertificateDto>> orders) throws CustomException {
+        boolean isValidUserId = validator.validateEntityId(userId);
+        if (!isValidUserId || orders == null || orders.isEmpty()) {
+            throw new CustomException("user id=" + userId + "; orders=" + (orders != null ? orders.size() : null),
+                    NOT_VALID_DATA);
+        }
+        Optional<User> userOptional = userDao.findById(userId);
+        User user = userOptional.orElseThrow(() -> new CustomException("user id=" + userId, RESOURCE_NOT_FOUND));
+        Set<Long> ids = orders.stream()
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .map(CertificateDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, GiftCertificate> foundCertificates = findCertificates(ids);
+
+        List<OrderResultDto> results = new ArrayList<>(orders.size());
+        List<Order> validOrders = new ArrayList<>();
+        List<OrderResultDto> validResults = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            List<CertificateDto> certificates = orders.get(i);
+            try {
+                if (certificates == null || certificates.contains(null)
+                        || !validator.validateCertificateList(certificates)) {
+                    throw new CustomException("certificates=" + certificates, NOT_VALID_DATA);
+                }
+                Order order = buildOrder(user, prepareCertificates(certificates, foundCertificates));
+                OrderResultDto result = new OrderResultDto(i, null, order.getAmount(), null, null);
+                validOrders.add(order);
+                validResults.add(result);
+                results.add(result);
+            } catch (CustomException e) {
+                results.add(OrderResultDto.failed(i, e.getMessage(), e.getCustomErrorCode()));
+            }
+        }
+
+        for (int from = 0; from < validOrders.size(); from += bulkChunkSize) {
+            int to = Math.min(from + bulkChunkSize, validOrders.size());
+            List<Order> chunk = validOrders.subList(from, to);
+            List<OrderResultDto> chunkResults = validResults.subList(from, to);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    orderDao.saveAllInBatch(chunk);
+                    outbox.append(chunk);
+                });
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunkResults.get(i).setOrderId(chunk.get(i).getId());
+                }
+            } catch (RuntimeException e) {
+                logger.error("Orders of user id={} were not saved", userId, e);
+                for (OrderResultDto result : chunkResults) {
+                    result.setAmount(null);
+                    result.setErrorCode(INTERNAL_SERVER_EXCEPTION.getCode());
+                    result.setErrorMessage(NOT_SAVED_MESSAGE);
+                }
+            }
+        }
+        countCache.invalidate(getCountKey(userId));
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String findAllByUserVersion(long userId) throws CustomException {
+        boolean isValidId = validator.validateEntityId(userId);
+        if (!isValidId) {
+            throw new CustomException("id=" + userId, NOT_VALID_DATA);
+        }
+        return countCache.versionOf(orderDao.countByUserId(userId));
+    }
+
+    private Map<Long, GiftCertificate> findCertificates(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        Map<Long, GiftCertificate> certificates = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, idList.size()));
+            certificateDao.findAllByIdInAndActive(chunk, true)
+                    .forEach(c -> certificates.put(c.getId(), c));
+        }
+        return certificates;
+    }
+
+    private List<GiftCertificate> prepareCertificates(List<CertificateDto> certificates,
+                                                      Map<Long, GiftCertificate> foundCertificates)
+            throws CustomException {
+        List<Long> notFoundIds = certificates.stream()
+                .map(CertificateDto::getId)
+                .filter(id -> !foundCertificates.containsKey(id))
+                .distinct()
+                .sorted()
+                .toList();
+        if (!notFoundIds.isEmpty()) {
+            throw new CustomException("certificate id=" + notFoundIds, RESOURCE_NOT_FOUND);
+        }
         List<GiftCertificate> certificatesForOrder = new ArrayList<>();
+        List<String> differentPrices = new ArrayList<>();
         for (CertificateDto dto : certificates) {
-            Optional<GiftCertificate> certificateOptional = certificateDao.findByIdAndActive(dto.getId(), true);
-            GiftCertificate certificate = certificateOptional
-                    .orElseThrow(() -> new CustomException("certificate id=" + dto.getId(), RESOURCE_NOT_FOUND));
+            GiftCertificate certificate = foundCertificates.get(dto.getId());
             if (!dto.getPrice().equals(certificate.getPrice())) {
-                throw new CustomException("certificate id=" + dto.getId() + "; old price=" + dto.getPrice()
-                        + "; new price=" + certificate.getPrice(), DIFFERENT_CONDITION);
+                differentPrices.add("certificate id=" + dto.getId() + "; old price=" + dto.getPrice()
+                        + "; new price=" + certificate.getPrice());
             }
             certificatesForOrder.add(certificate);
         }
+        if (!differentPrices.isEmpty()) {
+            throw new CustomException(String.join(", ", differentPrices), DIFFERENT_CONDITION);
+        }
+        return certificatesForOrder;
+    }
+
+    private Order buildOrder(User user, List<GiftCertificate> certificates) {
         Order order = new Order();
         order.setUser(user);
-        order.setGiftCertificatesList(certificatesForOrder);
-        BigDecimal amount = certificatesForOrder.stream()
+        order.setGiftCertificatesList(certificates);
+        BigDecimal amount = certificates.stream()
                 .map(GiftCertificate::getPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         order.setAmount(amount);
-        Order newOrder = orderDao.save(order);
-        return DtoEntityConvector.convert(newOrder);
+        order.setPurchaseDate(LocalDateTime.now());
+        return order;
+    }
+
+    private String getCountKey(long userId) {
+        return COUNT_KEY_PREFIX + userId + ";";
     }
 }
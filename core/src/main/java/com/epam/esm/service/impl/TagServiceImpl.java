@@ -1,16 +1,25 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dao.CatalogVersionDao;
 import com.epam.esm.dao.CustomTagDao;
+import com.epam.esm.dao.entity.CatalogVersion;
 import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.exception.CustomException;
+import com.epam.esm.index.TagBitmapIndex;
+import com.epam.esm.index.TagUsageStatistics;
+import com.epam.esm.service.CacheService;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.service.validator.CustomValidator;
 import com.epam.esm.util.DtoEntityConvector;
+import com.epam.esm.util.TotalCountCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,15 +31,31 @@ import static com.epam.esm.exception.CustomErrorCode.RESOURCE_NOT_FOUND;
 @Service
 public class TagServiceImpl implements TagService {
 
+    private static final String COUNT_KEY = "tags:";
+    private static final String CERTIFICATE_COUNT_KEY_PREFIX = "certificates:";
+
     private CustomTagDao dao;
     private CustomValidator validator;
+    private TotalCountCache countCache;
+    private TagBitmapIndex tagIndex;
+    private CacheService cacheService;
+    private TagUsageStatistics tagStatistics;
+    private CatalogVersionDao versionDao;
 
     @Autowired
-    public TagServiceImpl(CustomTagDao dao, CustomValidator validator) {
+    public TagServiceImpl(CustomTagDao dao, CustomValidator validator, TotalCountCache countCache,
+                          TagBitmapIndex tagIndex, CacheService cacheService, TagUsageStatistics tagStatistics,
+                          CatalogVersionDao versionDao) {
         this.dao = dao;
         this.validator = validator;
+        this.countCache = countCache;
+        this.tagIndex = tagIndex;
+        this.cacheService = cacheService;
+        this.tagStatistics = tagStatistics;
+        this.versionDao = versionDao;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public TagDto findById(long id) throws CustomException {
         boolean isValid = validator.validateEntityId(id);
@@ -43,18 +68,25 @@ public class TagServiceImpl implements TagService {
         return DtoEntityConvector.convert(tag);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<TagDto> findAll(int page, int size) throws CustomException {
+    public PageDto<TagDto> findAllPage(int page, int size) throws CustomException {
         boolean isValidPageSize = validator.validatePageSize(page, size);
         if (!isValidPageSize) {
             throw new CustomException("page=" + page + "; size=" + size, NOT_VALID_DATA);
         }
         Pageable paging = PageRequest.of(page - 1, size);
-        List<CustomTag> tags = dao.findAll(paging).toList();
-        return DtoEntityConvector.convertTags(tags);
+        if (!countCache.isEstimated()) {
+            Page<CustomTag> tags = dao.findAll(paging);
+            return PageDto.of(DtoEntityConvector.convertTags(tags.toList()), tags.getTotalElements(), size);
+        }
+        List<CustomTag> tags = dao.findAllWithoutCount(paging).toList();
+        long total = countCache.count(COUNT_KEY, paging, tags.size(), dao::count);
+        return PageDto.of(DtoEntityConvector.convertTags(tags), total, size);
     }
 
     @Override
+    @Transactional
     public void delete(long id) throws CustomException {
         boolean isValid = validator.validateEntityId(id);
         if (!isValid) {
@@ -64,9 +96,17 @@ public class TagServiceImpl implements TagService {
         CustomTag tag = tagOptional
                 .orElseThrow(() -> new CustomException("id=" + id, RESOURCE_NOT_FOUND));
         dao.delete(tag);
+        tagIndex.removeTag(tag);
+        cacheService.evictTag(id);
+        tagStatistics.removeTag(id);
+        countCache.invalidate(COUNT_KEY);
+        // quantities of certificates found by the tag
+        countCache.invalidate(CERTIFICATE_COUNT_KEY_PREFIX);
+        versionDao.incrementVersion(CatalogVersion.CATALOG);
     }
 
     @Override
+    @Transactional
     public TagDto create(TagDto dto) throws CustomException {
         boolean isValid = validator.validateTagDto(dto);
         if (!isValid || dto.getId() != null) {
@@ -78,23 +118,29 @@ public class TagServiceImpl implements TagService {
                     RESOURCE_ALREADY_EXIST);
         }
         CustomTag tag = dao.save(DtoEntityConvector.convert(dto));
+        cacheService.evictTagQueries();
+        countCache.invalidate(COUNT_KEY);
+        versionDao.incrementVersion(CatalogVersion.CATALOG);
         return DtoEntityConvector.convert(tag);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public TagDto findTheMostWidelyTag() {
-        CustomTag tag = dao.findTheMostWidelyTag();
+        CustomTag tag = tagStatistics.findTheMostWidelyTag()
+                .orElseGet(dao::findTheMostWidelyTag);
         return DtoEntityConvector.convert(tag);
     }
 
     @Override
-    public int findAllLastPage(int size) throws CustomException {
-        if (size < 1) {
-            throw new CustomException("size=" + size, NOT_VALID_DATA);
-        }
-        int quantity = (int) dao.count();
-        return quantity % size == 0
-                ? quantity / size
-                : quantity / size + 1;
+    public TagDto recomputeTheMostWidelyTag() {
+        tagStatistics.rebuild();
+        return findTheMostWidelyTag();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String findCatalogVersion() {
+        return countCache.versionOf(versionDao.findVersion(CatalogVersion.CATALOG));
     }
 }
@@ -11,8 +11,9 @@ import com.epam.esm.service.dto.UserDto;
 import com.epam.esm.service.validator.CustomValidator;
 import com.epam.esm.util.DtoEntityConvector;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -24,13 +25,16 @@ public class UserServiceImpl implements UserService {
 
     private UserDao userDao;
     private CustomValidator validator;
+    private PasswordEncoder passwordEncoder;
 
     @Autowired
-    public UserServiceImpl(UserDao userDao, CustomValidator validator) {
+    public UserServiceImpl(UserDao userDao, CustomValidator validator, PasswordEncoder passwordEncoder) {
         this.userDao = userDao;
         this.validator = validator;
+        this.passwordEncoder = passwordEncoder;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public UserDto findById(long id) throws CustomException {
         boolean isValid = validator.validateEntityId(id);
@@ -58,8 +62,7 @@ public class UserServiceImpl implements UserService {
             throw new CustomException("name=" + registrationForm.getName()
                     + "; password=" + registrationForm.getPassword(), NOT_VALID_DATA);
         }
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        String secretPassword = encoder.encode(registrationForm.getPassword());
+        String secretPassword = passwordEncoder.encode(registrationForm.getPassword());
         registrationForm.setPassword(secretPassword);
         User newUser = DtoEntityConvector.convert(registrationForm);
         newUser.setRole(UserRole.ROLE_USER);
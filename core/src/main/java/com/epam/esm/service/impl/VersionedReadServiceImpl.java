@@ -0,0 +1,25 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.VersionedQuery;
+import com.epam.esm.service.VersionedReadService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+@Service
+public class VersionedReadServiceImpl implements VersionedReadService {
+
+    @Transactional(readOnly = true)
+    @Override
+    public <T> Optional<T> findIfModified(VersionedQuery<String> version,
+                                          Predicate<String> notModified,
+                                          VersionedQuery<T> content) throws CustomException {
+        if (notModified.test(version.find())) {
+            return Optional.empty();
+        }
+        return Optional.of(content.find());
+    }
+}
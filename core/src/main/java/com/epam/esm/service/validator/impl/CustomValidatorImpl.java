@@ -13,8 +13,6 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,20 +24,9 @@ public class CustomValidatorImpl implements CustomValidator {
     private static final int MAX_DURATION = 180;
     private static final String SORTING_TYPE_SPLITTER = ",";
 
-    private static final Pattern TAG_NAME_PATTERN = Pattern.compile("\\w+");
-    private static final Pattern CERTIFICATE_NAME_PATTERN = Pattern.compile("[\\w\\s]+");
-    private static final Pattern DESCRIPTION_PATTERN = Pattern.compile("[\\p{Graph}\\s]+");
-    private static final Pattern USERNAME_PATTERN =
-            Pattern.compile("([\\d\\p{Lower}_\\-\\.]+)@[\\d\\p{Lower}_\\-]{2,}\\.\\p{Lower}{2,6}");
-    private static final Pattern PASSWORD_PATTERN = Pattern.compile("[\\p{Graph}&&[^\\<\\>]]{1,8}");
-    private static final Pattern NAME_OF_USER_PATTERN = Pattern.compile("[\\w\\s]+");
-
-    private static final Matcher tagNameMatcher = TAG_NAME_PATTERN.matcher("");
-    private static final Matcher certificateNameMatcher = CERTIFICATE_NAME_PATTERN.matcher("");
-    private static final Matcher descriptionMatcher = DESCRIPTION_PATTERN.matcher("");
-    private static final Matcher usernameMatcher = USERNAME_PATTERN.matcher("");
-    private static final Matcher passwordMatcher = PASSWORD_PATTERN.matcher("");
-    private static final Matcher nameOfUserMatcher = NAME_OF_USER_PATTERN.matcher("");
+    private static final Set<String> SORTING_TYPES = EnumSet.allOf(SortingType.class).stream()
+            .map(SortingType::getType)
+            .collect(Collectors.toUnmodifiableSet());
 
     @Override
     public boolean validateEntityId(Long id) {
@@ -49,17 +36,17 @@ public class CustomValidatorImpl implements CustomValidator {
     @Override
     public boolean validateTagDto(TagDto dto) {
         String name = dto.getName();
-        return name != null && tagNameMatcher.reset(name).matches();
+        return name != null && TextScanner.isWord(name);
     }
 
     @Override
     public boolean validateCertificateDtoCreate(CertificateDto dto) {
         String name = dto.getName();
-        if (name == null || !certificateNameMatcher.reset(name).matches()) {
+        if (name == null || !TextScanner.isWordOrSpace(name)) {
             return false;
         }
         String description = dto.getDescription();
-        if (description == null || !descriptionMatcher.reset(description).matches()) {
+        if (description == null || !TextScanner.isGraphOrSpace(description)) {
             return false;
         }
         BigDecimal price = dto.getPrice();
@@ -77,11 +64,11 @@ public class CustomValidatorImpl implements CustomValidator {
     @Override
     public boolean validateCertificateDtoUpdate(CertificateDto dto) {
         String name = dto.getName();
-        if (name != null && !certificateNameMatcher.reset(name).matches()) {
+        if (name != null && !TextScanner.isWordOrSpace(name)) {
             return false;
         }
         String description = dto.getDescription();
-        if (description != null && !descriptionMatcher.reset(description).matches()) {
+        if (description != null && !TextScanner.isGraphOrSpace(description)) {
             return false;
         }
         BigDecimal price = dto.getPrice();
@@ -111,15 +98,15 @@ public class CustomValidatorImpl implements CustomValidator {
         }
 
         String tag = parameters.get(SearchParameterName.TAG);
-        if (tag != null && !tagNameMatcher.reset(tag).matches()) {
+        if (tag != null && !TextScanner.isWord(tag)) {
             return false;
         }
         String name = parameters.get(SearchParameterName.NAME);
-        if (name != null && !certificateNameMatcher.reset(name).matches()) {
+        if (name != null && !TextScanner.isWordOrSpace(name)) {
             return false;
         }
         String description = parameters.get(SearchParameterName.DESCRIPTION);
-        if (description != null && !descriptionMatcher.reset(description).matches()) {
+        if (description != null && !TextScanner.isGraphOrSpace(description)) {
             return false;
         }
         String sortBy = parameters.get(SearchParameterName.SORT_BY);//fixme change sort
@@ -129,17 +116,17 @@ public class CustomValidatorImpl implements CustomValidator {
 
     @Override
     public boolean validateUsername(String username) {
-        return username != null && usernameMatcher.reset(username).matches();
+        return username != null && TextScanner.isUsername(username);
     }
 
     @Override
     public boolean validateRegistrationForm(RegistrationFormDto registrationForm) {
         String password = registrationForm.getPassword();
         String name = registrationForm.getName();
-        if (password == null || !passwordMatcher.reset(password).matches()) {
+        if (password == null || !TextScanner.isPassword(password)) {
             return false;
         }
-        return name != null && nameOfUserMatcher.reset(name).matches();
+        return name != null && TextScanner.isWordOrSpace(name);
     }
 
     @Override
@@ -168,9 +155,6 @@ public class CustomValidatorImpl implements CustomValidator {
             return false;
         }
         String[] types = sortBy.split(SORTING_TYPE_SPLITTER);
-        Set<String> sortingTypes = EnumSet.allOf(SortingType.class).stream()
-                .map(SortingType::getType)
-                .collect(Collectors.toSet());
-        return Stream.of(types).allMatch(sortingTypes::contains);
+        return Stream.of(types).allMatch(SORTING_TYPES::contains);
     }
 }
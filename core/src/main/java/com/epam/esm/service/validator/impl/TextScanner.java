@@ -0,0 +1,144 @@
+package com.epam.esm.service.validator.impl;
+
+/**
+ * Util class with allocation-free and thread-safe checks of strings against character classes used by validator.
+ * Character classes follow java.util.regex semantics without UNICODE_CHARACTER_CLASS flag (ASCII only).
+ */
+final class TextScanner {
+
+    private static final int MIN_PASSWORD_LENGTH = 1;
+    private static final int MAX_PASSWORD_LENGTH = 8;
+    private static final int MIN_DOMAIN_LENGTH = 2;
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+    private static final int MAX_TOP_LEVEL_DOMAIN_LENGTH = 6;
+
+    private TextScanner() {
+    }
+
+    /**
+     * Check string against \w+
+     */
+    static boolean isWord(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isWordChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check string against [\w\s]+
+     */
+    static boolean isWordOrSpace(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isWordChar(c) && !isSpaceChar(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check string against [\p{Graph}\s]+
+     */
+    static boolean isGraphOrSpace(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isGraphChar(c) && !isSpaceChar(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check string against [\p{Graph}&&[^\<\>]]{1,8}
+     */
+    static boolean isPassword(String value) {
+        int length = value.length();
+        if (length < MIN_PASSWORD_LENGTH || length > MAX_PASSWORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isGraphChar(c) || c == '<' || c == '>') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check string against ([\d\p{Lower}_\-\.]+)@[\d\p{Lower}_\-]{2,}\.\p{Lower}{2,6}
+     */
+    static boolean isUsername(String value) {
+        int length = value.length();
+        int at = value.indexOf('@');
+        if (at < 1) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (!isDomainChar(c) && c != '.') {
+                return false;
+            }
+        }
+        int dot = value.indexOf('.', at + 1);
+        if (dot < 0 || dot - at - 1 < MIN_DOMAIN_LENGTH) {
+            return false;
+        }
+        for (int i = at + 1; i < dot; i++) {
+            if (!isDomainChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        int topLevelDomainLength = length - dot - 1;
+        if (topLevelDomainLength < MIN_TOP_LEVEL_DOMAIN_LENGTH || topLevelDomainLength > MAX_TOP_LEVEL_DOMAIN_LENGTH) {
+            return false;
+        }
+        for (int i = dot + 1; i < length; i++) {
+            if (!isLowerChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return isLowerChar(c) || (c >= 'A' && c <= 'Z') || isDigitChar(c) || c == '_';
+    }
+
+    private static boolean isSpaceChar(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isGraphChar(char c) {
+        return c >= '!' && c <= '~';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isLowerChar(c) || isDigitChar(c) || c == '_' || c == '-';
+    }
+
+    private static boolean isLowerChar(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigitChar(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
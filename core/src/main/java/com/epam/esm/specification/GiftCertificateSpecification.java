@@ -1,5 +1,6 @@
 package com.epam.esm.specification;
 
+import com.epam.esm.dao.dialect.FullTextMySQLDialect;
 import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.dao.entity.CustomTag_;
 import com.epam.esm.dao.entity.GiftCertificate;
@@ -9,9 +10,15 @@ import org.springframework.data.jpa.domain.Specification;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class represent custom GiftCertificate specification.
@@ -19,6 +26,10 @@ import javax.persistence.criteria.Root;
 public class GiftCertificateSpecification implements Specification<GiftCertificate> {
 
     private static final String PERCENT_SIGN = "%";
+    private static final String REQUIRED_SIGN = "+";
+    private static final String PREFIX_SIGN = "*";
+    private static final String WHITESPACE_REGEX = "\\s+";
+    private static final String BOOLEAN_MODE_OPERATORS_REGEX = "[+\\-<>()~*\"@]";
     private SearchCriteria criteria;
 
     public GiftCertificateSpecification(SearchCriteria criteria) {
@@ -38,6 +49,9 @@ public class GiftCertificateSpecification implements Specification<GiftCertifica
                     .like(root.get(GiftCertificate_.name), PERCENT_SIGN + criteria.getValue() + PERCENT_SIGN);
             case DESCRIPTION -> predicate = builder
                     .like(root.get(GiftCertificate_.description), PERCENT_SIGN + criteria.getValue() + PERCENT_SIGN);
+            case NAME_FULL_TEXT -> predicate = matchAgainst(root.get(GiftCertificate_.name), query, builder);
+            case DESCRIPTION_FULL_TEXT ->
+                    predicate = matchAgainst(root.get(GiftCertificate_.description), query, builder);
             case ACTIVE -> {
                 int tinyintValue = Boolean.TRUE.toString().equals(criteria.getValue()) ? 1 : 0;
                 predicate = builder
@@ -47,4 +61,30 @@ public class GiftCertificateSpecification implements Specification<GiftCertifica
         }
         return predicate;
     }
+
+    /**
+     * Full-text predicate. Every word of value is required and matched as prefix.
+     * Results are ordered by relevance; this order is kept only when pagination does not define its own sorting
+     * (count queries drop it). Value of operators only has no words to match, it is searched by LIKE.
+     */
+    private Predicate matchAgainst(Expression<String> path, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        String booleanModeQuery = toBooleanModeQuery(criteria.getValue());
+        if (booleanModeQuery.isEmpty()) {
+            return builder.like(path, PERCENT_SIGN + criteria.getValue() + PERCENT_SIGN);
+        }
+        Expression<Double> relevance = builder.function(FullTextMySQLDialect.MATCH_AGAINST_FUNCTION, Double.class,
+                path, builder.literal(booleanModeQuery));
+        List<Order> orders = new ArrayList<>(query.getOrderList());
+        orders.add(builder.desc(relevance));
+        query.orderBy(orders);
+        return builder.greaterThan(relevance, 0.0);
+    }
+
+    private String toBooleanModeQuery(String value) {
+        return Stream.of(value.split(WHITESPACE_REGEX))
+                .map(word -> word.replaceAll(BOOLEAN_MODE_OPERATORS_REGEX, ""))
+                .filter(word -> !word.isEmpty())
+                .map(word -> REQUIRED_SIGN + word + PREFIX_SIGN)
+                .collect(Collectors.joining(" "));
+    }
 }
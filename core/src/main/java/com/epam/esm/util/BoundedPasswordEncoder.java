@@ -0,0 +1,162 @@
+package com.epam.esm.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PasswordEncoder decorator runs hashing on a bounded executor.
+ * The number of threads limits CPU spent on hashing, and a full queue rejects new work instead of piling it up.
+ * Successful verifications are remembered for a short time, keyed by HMAC of the encoded and the raw
+ * password with a key generated at startup, so repeated logins of the same user skip the slow hash.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    static final String HASH_TIMER = "esm.password.hash";
+    static final String QUEUE_GAUGE = "esm.password.queue";
+    static final String ACTIVE_GAUGE = "esm.password.active";
+    static final String REJECTED_COUNTER = "esm.password.rejected";
+    static final String VERIFICATION_CACHE_HIT_COUNTER = "esm.password.cache.hit";
+    private static final String OPERATION_TAG = "operation";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '\0';
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Cache<String, Boolean> verifiedPasswords;
+    private final SecretKey cacheKey;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter cacheHitCounter;
+
+    /**
+     * @param delegate  password encoder doing the hashing
+     * @param executor  bounded executor, owned by this encoder
+     * @param timeout   max time to wait for the hashing result
+     * @param cacheTtl  how long successful verification is remembered, zero disables the cache
+     * @param cacheSize max number of remembered verifications
+     * @param registry  meter registry
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  ThreadPoolExecutor executor,
+                                  Duration timeout,
+                                  Duration cacheTtl,
+                                  long cacheSize,
+                                  MeterRegistry registry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.verifiedPasswords = cacheTtl.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .build();
+        this.cacheKey = verifiedPasswords == null ? null : generateKey();
+        this.encodeTimer = Timer.builder(HASH_TIMER).tag(OPERATION_TAG, "encode").register(registry);
+        this.matchesTimer = Timer.builder(HASH_TIMER).tag(OPERATION_TAG, "matches").register(registry);
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER).register(registry);
+        this.cacheHitCounter = Counter.builder(VERIFICATION_CACHE_HIT_COUNTER).register(registry);
+        Gauge.builder(QUEUE_GAUGE, executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder(ACTIVE_GAUGE, executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        String key = verifiedPasswords == null ? null : verificationKey(rawPassword, encodedPassword);
+        if (key != null && verifiedPasswords.getIfPresent(key) != null) {
+            cacheHitCounter.increment();
+            return true;
+        }
+        boolean matches = execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword,
+                encodedPassword)));
+        if (matches && key != null) {
+            verifiedPasswords.put(key, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stop hashing threads
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new InternalAuthenticationServiceException("Password hashing queue is full, try again later", e);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InternalAuthenticationServiceException("Password hashing was interrupted", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new InternalAuthenticationServiceException("Password hashing timed out", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalAuthenticationServiceException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private String verificationKey(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(cacheKey);
+            String value = encodedPassword + SEPARATOR + rawPassword;
+            return Base64.getEncoder().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    private static SecretKey generateKey() {
+        try {
+            return KeyGenerator.getInstance(HMAC_ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.epam.esm.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Natural key of GiftCertificate: name, description, price and duration.
+ * Price is normalized, so keys of the same price with different scale are equal and have the same hash code.
+ * Name and description are replaced by collation keys, so keys are equal when database finds them equal.
+ */
+public record CertificateKey(String name, String description, BigDecimal price, int duration) {
+
+    public CertificateKey {
+        name = Collation.key(name);
+        description = Collation.key(description);
+        price = price.stripTrailingZeros();
+    }
+}
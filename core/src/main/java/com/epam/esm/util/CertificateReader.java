@@ -0,0 +1,21 @@
+package com.epam.esm.util;
+
+import com.epam.esm.service.dto.CertificateDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Interface for incremental reading of GiftCertificates from input stream.
+ * Only one GiftCertificate is kept in memory at a time.
+ */
+public interface CertificateReader extends Closeable {
+
+    /**
+     * Read next GiftCertificate
+     *
+     * @return next GiftCertificate as CertificateDto or null, if input is over
+     * @throws IOException if input can not be read or has not valid structure
+     */
+    CertificateDto next() throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.epam.esm.util;
+
+import com.epam.esm.service.dto.CertificateDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Interface for incremental writing of GiftCertificates to output stream.
+ * Only one GiftCertificate is kept in memory at a time.
+ */
+public interface CertificateWriter extends Closeable {
+
+    /**
+     * Write GiftCertificate
+     *
+     * @param certificate GiftCertificate as CertificateDto
+     * @throws IOException if output can not be written
+     */
+    void write(CertificateDto certificate) throws IOException;
+}
@@ -0,0 +1,31 @@
+package com.epam.esm.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Util class comparing strings the way database default collation does (utf8mb4_0900_ai_ci):
+ * case and accent insensitive.
+ */
+public final class Collation {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private Collation() {
+    }
+
+    /**
+     * Key of string: strings equal by collation have equal keys.
+     *
+     * @param value string
+     * @return lower case string without accents
+     */
+    public static String key(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
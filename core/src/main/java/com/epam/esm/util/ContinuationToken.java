@@ -0,0 +1,86 @@
+package com.epam.esm.util;
+
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.service.dto.CertificateDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Class represent opaque continuation token for keyset (seek) pagination.
+ * Token keeps (create_date, name, id) tuple of the last GiftCertificate of the page
+ * and sorting type the tuple is valid for.
+ */
+@Data
+@AllArgsConstructor
+public class ContinuationToken {
+
+    private static final String SPLITTER = "|";
+    private static final String SPLITTER_REGEX = "\\|";
+    private static final int TOKEN_PARTS = 4;
+
+    private SortingType sortingType;
+    private LocalDateTime createDate;
+    private String name;
+    private long id;
+
+    /**
+     * Encode (create_date, name, id) tuple to opaque token
+     *
+     * @param sortingType sorting type of the pages
+     * @param createDate  GiftCertificate create date
+     * @param name        GiftCertificate name
+     * @param id          GiftCertificate id
+     * @return token as url-safe string
+     */
+    public static String encode(SortingType sortingType, LocalDateTime createDate, String name, long id) {
+        String raw = sortingType.name() + SPLITTER + createDate + SPLITTER + id + SPLITTER + name;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encode token to the page next after given one.
+     *
+     * @param certificates current page
+     * @param size         page size
+     * @param sortingType  sorting type of the pages
+     * @return token or null, if current page is not full and there is no next page
+     */
+    public static String encodeNext(List<CertificateDto> certificates, int size, SortingType sortingType) {
+        if (certificates.isEmpty() || certificates.size() < size) {
+            return null;
+        }
+        CertificateDto last = certificates.get(certificates.size() - 1);
+        return encode(sortingType, last.getCreateDate(), last.getName(), last.getId());
+    }
+
+    /**
+     * Decode opaque token
+     *
+     * @param token token as url-safe string
+     * @return ContinuationToken
+     * @throws IllegalArgumentException if token is damaged
+     */
+    public static ContinuationToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SPLITTER_REGEX, TOKEN_PARTS);
+            if (parts.length != TOKEN_PARTS) {
+                throw new IllegalArgumentException("Not valid continuation token: " + token);
+            }
+            SortingType sortingType = SortingType.valueOf(parts[0]);
+            LocalDateTime createDate = LocalDateTime.parse(parts[1]);
+            long id = Long.parseLong(parts[2]);
+            return new ContinuationToken(sortingType, createDate, parts[3], id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Not valid continuation token: " + token, e);
+        }
+    }
+}
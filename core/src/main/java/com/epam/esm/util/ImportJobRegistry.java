@@ -0,0 +1,147 @@
+package com.epam.esm.util;
+
+import com.epam.esm.enumeration.ImportJobStatus;
+import com.epam.esm.service.dto.ImportJobDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class keeps progress of GiftCertificates import jobs in memory.
+ * Only the latest jobs are kept, the oldest finished jobs are forgotten when the limit is reached.
+ */
+@Component
+public class ImportJobRegistry {
+
+    private static final int MAX_JOBS = 100;
+    private static final int MAX_ERRORS = 100;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Deque<Long> order = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Register new running job
+     *
+     * @return new ImportJob
+     */
+    public ImportJob start() {
+        ImportJob job = new ImportJob(sequence.incrementAndGet());
+        jobs.put(job.id, job);
+        order.addLast(job.id);
+        evictFinished();
+        return job;
+    }
+
+    /**
+     * Find job progress by id
+     *
+     * @param id job id
+     * @return Optional representation of job progress or empty Optional, if job was not found
+     */
+    public Optional<ImportJobDto> find(long id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::toDto);
+    }
+
+    private void evictFinished() {
+        Iterator<Long> iterator = order.iterator();
+        while (jobs.size() > MAX_JOBS && iterator.hasNext()) {
+            Long id = iterator.next();
+            ImportJob job = jobs.get(id);
+            if (job == null || job.status != ImportJobStatus.RUNNING) {
+                jobs.remove(id);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Class represent progress of one import job. Counters are updated by importing thread
+     * and may be read by any thread at any moment.
+     */
+    public static class ImportJob {
+
+        private final long id;
+        private final LocalDateTime startDate = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private volatile ImportJobStatus status = ImportJobStatus.RUNNING;
+        private volatile LocalDateTime endDate;
+
+        private ImportJob(long id) {
+            this.id = id;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void addProcessed(long quantity) {
+            processed.addAndGet(quantity);
+        }
+
+        public void addCreated(long quantity) {
+            created.addAndGet(quantity);
+        }
+
+        public void addDuplicates(long quantity) {
+            duplicates.addAndGet(quantity);
+        }
+
+        /**
+         * Count failed item and remember its error message, if the limit of kept messages is not reached
+         *
+         * @param message error message
+         */
+        public void addFailed(String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add(message);
+                }
+            }
+        }
+
+        public void complete() {
+            finish(ImportJobStatus.COMPLETED);
+        }
+
+        /**
+         * Stop job because the rest of input can not be read
+         *
+         * @param message error message
+         */
+        public void fail(String message) {
+            synchronized (errors) {
+                errors.add(message);
+            }
+            finish(ImportJobStatus.FAILED);
+        }
+
+        public ImportJobDto toDto() {
+            List<String> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = List.copyOf(errors);
+            }
+            return new ImportJobDto(id, status, processed.get(), created.get(), duplicates.get(), failed.get(),
+                    startDate, endDate, errorsCopy);
+        }
+
+        private void finish(ImportJobStatus finalStatus) {
+            endDate = LocalDateTime.now();
+            status = finalStatus;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.epam.esm.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Class keeps total elements quantity of paged collections.
+ * In exact mode (default) every count goes to the database.
+ * In estimated mode count is cached by key and refreshed when it becomes older than configured ttl,
+ * so lastPage of the frequently requested collections may be slightly out of date.
+ * Every change of cached quantity changes epoch of this cache, so versions of data extended by epoch
+ * identify representations with lastPage.
+ */
+@Component
+public class TotalCountCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final String VERSION_DELIMITER = ".";
+    private static final int INSTANCE_RADIX = 36;
+
+    private final boolean estimated;
+    private final long ttlMillis;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE,
+            INSTANCE_RADIX);
+    private final AtomicLong epoch = new AtomicLong();
+
+    @Autowired
+    public TotalCountCache(@Value("${esm.pagination.estimated-total:false}") boolean estimated,
+                           @Value("${esm.pagination.count-ttl-seconds:30}") long ttlSeconds) {
+        this.estimated = estimated;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * @return true if total quantity may be taken from cache
+     */
+    public boolean isEstimated() {
+        return estimated;
+    }
+
+    /**
+     * Get total elements quantity. If page is not full the quantity is calculated from page itself
+     * and counter is not called.
+     *
+     * @param key         collection key
+     * @param paging      pagination parameters
+     * @param contentSize current page size
+     * @param counter     database count
+     * @return total elements quantity
+     */
+    public long count(String key, Pageable paging, int contentSize, LongSupplier counter) {
+        if (contentSize > 0 && contentSize < paging.getPageSize()) {
+            return paging.getOffset() + contentSize;
+        }
+        if (!estimated) {
+            return counter.getAsLong();
+        }
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.created() < ttlMillis) {
+            return cached.count();
+        }
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        long count = counter.getAsLong();
+        CachedCount old = counts.put(key, new CachedCount(count, now));
+        if (old == null || old.count() != count) {
+            epoch.incrementAndGet();
+        }
+        return count;
+    }
+
+    /**
+     * Extend version of data by epoch of cached quantities. In exact mode version is not changed.
+     * Epoch is local for application instance, so instance id is added too.
+     *
+     * @param version version of data
+     * @return version of representation with lastPage
+     */
+    public String versionOf(long version) {
+        if (!estimated) {
+            return String.valueOf(version);
+        }
+        return version + VERSION_DELIMITER + instance + VERSION_DELIMITER + epoch.get();
+    }
+
+    /**
+     * Remove all cached quantities which key starts with prefix.
+     *
+     * @param prefix collection key prefix
+     */
+    public void invalidate(String prefix) {
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private record CachedCount(long count, long created) {
+    }
+}
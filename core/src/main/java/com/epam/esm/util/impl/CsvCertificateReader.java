@@ -0,0 +1,160 @@
+package com.epam.esm.util.impl;
+
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.util.CertificateReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class reads GiftCertificates from CSV (RFC 4180) line by line.
+ * The first record is a header with columns name, description, price, duration and optional tags.
+ * Tags names are separated by semicolon. Values which can not be parsed are read as null.
+ */
+public class CsvCertificateReader implements CertificateReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String TAGS_SEPARATOR = ";";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String DURATION = "duration";
+    private static final String TAGS = "tags";
+    private static final Set<String> REQUIRED_COLUMNS = Set.of(NAME, DESCRIPTION, PRICE, DURATION);
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final StringBuilder field = new StringBuilder();
+    private long recordNumber;
+
+    public CsvCertificateReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException("CSV header expected");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (columns.put(column, i) != null) {
+                throw new IOException("CSV header has duplicate column: " + column);
+            }
+        }
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new IOException("CSV header must contain columns " + REQUIRED_COLUMNS + ": " + header);
+        }
+    }
+
+    @Override
+    public CertificateDto next() throws IOException {
+        List<String> record = readRecord();
+        while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+            record = readRecord();
+        }
+        if (record == null) {
+            return null;
+        }
+        if (record.size() != columns.size()) {
+            throw new IOException("CSV record " + recordNumber + " has " + record.size()
+                    + " fields, but header has " + columns.size());
+        }
+        CertificateDto dto = new CertificateDto();
+        dto.setName(record.get(columns.get(NAME)));
+        dto.setDescription(record.get(columns.get(DESCRIPTION)));
+        dto.setPrice(parsePrice(record.get(columns.get(PRICE))));
+        dto.setDuration(parseDuration(record.get(columns.get(DURATION))));
+        Integer tagsColumn = columns.get(TAGS);
+        dto.setTags(tagsColumn != null ? parseTags(record.get(tagsColumn)) : new LinkedHashSet<>());
+        return dto;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordNumber++;
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("CSV record " + recordNumber + " has not closed quote");
+                }
+                if (c == QUOTE) {
+                    reader.mark(1);
+                    if (reader.read() == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE && field.length() == 0) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private BigDecimal parsePrice(String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Integer parseDuration(String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Set<TagDto> parseTags(String value) {
+        Set<TagDto> tags = new LinkedHashSet<>();
+        for (String name : value.split(TAGS_SEPARATOR)) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                tags.add(new TagDto(trimmed));
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.esm.util.impl;
+
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.util.CertificateWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+/**
+ * Class writes GiftCertificates as CSV (RFC 4180) with header.
+ * Columns are compatible with CsvCertificateReader, tags names are separated by semicolon.
+ */
+public class CsvCertificateWriter implements CertificateWriter {
+
+    private static final String HEADER = "id,name,description,price,duration,create_date,last_update_date,tags";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String TAGS_SEPARATOR = ";";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final Writer writer;
+
+    public CsvCertificateWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(CertificateDto certificate) throws IOException {
+        writer.write(String.valueOf(certificate.getId()));
+        writer.write(SEPARATOR);
+        writeField(certificate.getName());
+        writer.write(SEPARATOR);
+        writeField(certificate.getDescription());
+        writer.write(SEPARATOR);
+        writer.write(certificate.getPrice().toPlainString());
+        writer.write(SEPARATOR);
+        writer.write(String.valueOf(certificate.getDuration()));
+        writer.write(SEPARATOR);
+        writer.write(DATE_FORMATTER.format(certificate.getCreateDate()));
+        writer.write(SEPARATOR);
+        writer.write(DATE_FORMATTER.format(certificate.getLastUpdateDate()));
+        writer.write(SEPARATOR);
+        writeField(certificate.getTags().stream()
+                .map(TagDto::getName)
+                .collect(Collectors.joining(TAGS_SEPARATOR)));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quoted = value.indexOf(SEPARATOR) >= 0 || value.indexOf(QUOTE) >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        writer.write(value.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+}
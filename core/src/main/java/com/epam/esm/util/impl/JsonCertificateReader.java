@@ -0,0 +1,45 @@
+package com.epam.esm.util.impl;
+
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.util.CertificateReader;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Class reads GiftCertificates from JSON array element by element with streaming parser
+ */
+public class JsonCertificateReader implements CertificateReader {
+
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+
+    public JsonCertificateReader(InputStream in, ObjectMapper mapper) throws IOException {
+        this.mapper = mapper;
+        this.parser = mapper.getFactory().createParser(in);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "JSON array of certificates expected");
+        }
+    }
+
+    @Override
+    public CertificateDto next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "JSON object of certificate expected");
+        }
+        return mapper.readValue(parser, CertificateDto.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,54 @@
+package com.epam.esm.util.impl;
+
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.TagDto;
+import com.epam.esm.util.CertificateWriter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Class writes GiftCertificates as newline delimited JSON, one object per line
+ */
+public class NdjsonCertificateWriter implements CertificateWriter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final JsonGenerator generator;
+
+    public NdjsonCertificateWriter(OutputStream out, JsonFactory factory) throws IOException {
+        this.generator = factory.createGenerator(out, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(CertificateDto certificate) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", certificate.getId());
+        generator.writeStringField("name", certificate.getName());
+        generator.writeStringField("description", certificate.getDescription());
+        generator.writeNumberField("price", certificate.getPrice());
+        generator.writeNumberField("duration", certificate.getDuration());
+        generator.writeStringField("createDate", DATE_FORMATTER.format(certificate.getCreateDate()));
+        generator.writeStringField("lastUpdateDate", DATE_FORMATTER.format(certificate.getLastUpdateDate()));
+        generator.writeArrayFieldStart("tags");
+        for (TagDto tag : certificate.getTags()) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", tag.getId());
+            generator.writeStringField("name", tag.getName());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
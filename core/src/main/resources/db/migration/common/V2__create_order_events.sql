@@ -0,0 +1,3 @@
+-- Outbox of created orders drained by OrderOutboxRelay
+CREATE TABLE `order_events` ( `id` bigint NOT NULL AUTO_INCREMENT, `id_order` bigint NOT NULL, `id_user` bigint NOT NULL, `amount` decimal(10,2) NOT NULL, `payload` text NOT NULL, `create_date` datetime NOT NULL, `published` tinyint NOT NULL, PRIMARY KEY (`id`));
+CREATE INDEX idx_order_events_published ON order_events (published, id);
@@ -0,0 +1,12 @@
+-- Active certificates paging and counting ordered by creation date
+CREATE INDEX idx_gift_certificates_active_create_date ON gift_certificates (active, create_date);
+-- Duplicate detection of certificates import
+CREATE INDEX idx_gift_certificates_name ON gift_certificates (name);
+-- Lookups by natural keys
+CREATE UNIQUE INDEX uq_tags_name ON tags (name);
+CREATE UNIQUE INDEX uq_users_login ON users (login);
+-- Orders of a user, covers paging by purchase date and sums of amounts
+CREATE INDEX idx_orders_user_purchase_date ON orders (id_user, purchase_date, amount);
+-- Reverse sides of link tables: certificates by tag and certificates of an order
+CREATE INDEX idx_gift_certificates_tags_tag ON gift_certificates_tags (id_tag, id_gift_certificate);
+CREATE INDEX idx_orders_gift_certificates_order ON orders_gift_certificates (id_order, id_gift_certificate);
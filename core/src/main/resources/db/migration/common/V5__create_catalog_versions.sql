@@ -0,0 +1,3 @@
+-- Modification counters of cached representations (ETags)
+CREATE TABLE `catalog_versions` ( `name` varchar(50) NOT NULL, `version` bigint NOT NULL, PRIMARY KEY (`name`));
+INSERT INTO `catalog_versions` (`name`, `version`) VALUES ('catalog', 0);
@@ -0,0 +1,3 @@
+-- Full-text indexes required by esm.search.full-text=true (InnoDB)
+ALTER TABLE gift_certificates ADD FULLTEXT INDEX ft_gift_certificates_name (name);
+ALTER TABLE gift_certificates ADD FULLTEXT INDEX ft_gift_certificates_description (description);
@@ -0,0 +1,4 @@
+-- Outbox is read by every instance with its own cursor and cleaned by age, published flag is not used
+DROP INDEX idx_order_events_published ON order_events;
+ALTER TABLE order_events DROP COLUMN published;
+CREATE INDEX idx_order_events_create_date ON order_events (create_date);
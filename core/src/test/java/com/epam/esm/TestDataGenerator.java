@@ -19,7 +19,7 @@ import java.util.Set;
 
 class TestDataGenerator {
 
-    private static final Path PATH_TO_DATA = Paths.get("src\\test\\resources\\data.sql");
+    private static final Path PATH_TO_DATA = Paths.get("src\\test\\resources\\db\\testdata\\R__test_data.sql");
 
     private static final int num_10000 = 10000;
     private static final int num_1000 = 1000;
@@ -41,6 +41,7 @@ class TestDataGenerator {
 
     //@Test 
     public void generateData() throws IOException {
+        Files.createDirectories(PATH_TO_DATA.getParent());
         generateTags(PATH_TO_DATA);
         generateGiftCertificates(PATH_TO_DATA, StandardOpenOption.APPEND);
         generateGiftCertificateTagCoupling(PATH_TO_DATA, StandardOpenOption.APPEND);
@@ -0,0 +1,57 @@
+package com.epam.esm.aspect;
+
+import com.epam.esm.exception.CustomErrorCode;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.TagService;
+import com.epam.esm.service.dto.TagDto;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class MetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private TagService serviceMock;
+    private TagService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        serviceMock = Mockito.mock(TagService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(serviceMock);
+        factory.addInterface(TagService.class);
+        factory.addAspect(new MetricsAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void timeService() throws CustomException {
+        Mockito.when(serviceMock.findById(1L)).thenReturn(new TagDto("tag"));
+        service.findById(1L);
+        service.findById(1L);
+        Timer timer = registry.find(MetricsAspect.SERVICE_TIMER)
+                .tag(MetricsAspect.COMPONENT_TAG, "TagService")
+                .tag(MetricsAspect.METHOD_TAG, "findById")
+                .tag(MetricsAspect.EXCEPTION_TAG, MetricsAspect.NO_EXCEPTION)
+                .timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(2, timer.count());
+    }
+
+    @Test
+    void timeServiceException() throws CustomException {
+        Mockito.when(serviceMock.findById(1L))
+                .thenThrow(new CustomException("id=1", CustomErrorCode.RESOURCE_NOT_FOUND));
+        Assertions.assertThrows(CustomException.class, () -> service.findById(1L));
+        Timer timer = registry.find(MetricsAspect.SERVICE_TIMER)
+                .tag(MetricsAspect.METHOD_TAG, "findById")
+                .tag(MetricsAspect.EXCEPTION_TAG, "CustomException")
+                .timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+}
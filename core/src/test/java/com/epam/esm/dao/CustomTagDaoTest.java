@@ -1,6 +1,8 @@
 package com.epam.esm.dao;
 
 import com.epam.esm.dao.entity.CustomTag;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -9,6 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
 import java.util.Optional;
 
 @SpringBootTest
@@ -17,6 +21,8 @@ class CustomTagDaoTest {
 
     @Autowired
     private CustomTagDao dao;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     public static Object[][] findByNameDataProvider() {
         return new Object[][]{
@@ -33,6 +39,26 @@ class CustomTagDaoTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void findByNameFromQueryCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Optional<CustomTag> expected = dao.findByName("tag_2");
+        statistics.clear();
+
+        Optional<CustomTag> actual = dao.findByName("tag_2");
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(1, statistics.getQueryCacheHitCount());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByNameIn() {
+        List<CustomTag> actual = dao.findAllByNameIn(List.of("tag_2", "tag_975", "not_existing_tag"));
+
+        Assertions.assertEquals(2, actual.size());
+    }
+
     @Test
     void findTheMostWidelyTag() {
         CustomTag expected = new CustomTag(975L, "tag_975");
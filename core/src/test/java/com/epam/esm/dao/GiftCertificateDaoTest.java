@@ -1,10 +1,19 @@
 package com.epam.esm.dao;
 
+import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.GiftCertificate_;
 import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.enumeration.SortingType;
+import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.specification.SpecificationCreator;
+import com.epam.esm.util.CertificateKey;
+import com.epam.esm.util.ContinuationToken;
+import com.epam.esm.util.DtoEntityConvector;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,21 +23,31 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @SpringBootTest
 @ActiveProfiles("test")
 class GiftCertificateDaoTest {
 
+    private static final String TAGS_ROLE = GiftCertificate.class.getName() + ".tags";
+
     @Autowired
     private GiftCertificateDao dao;
     @Autowired
     private CustomTagDao tagDao;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     public static Object[][] findByIdAndActiveDataProvider() {
         return new Object[][]{
@@ -114,6 +133,33 @@ class GiftCertificateDaoTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @ParameterizedTest
+    @MethodSource("findAllDataProvider")
+    void findAllAsDto(Specification<GiftCertificate> specification, Pageable paging, int expected) {
+        List<CertificateDto> certificates = dao.findAllAsDto(specification, paging);
+        int actual = certificates.size();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("findAllQueryCountDataProvider")
+    void findAllAsDtoWithoutEntitiesLoading(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<SearchParameterName, String> parameters = Map.of(SearchParameterName.ACTIVE, "true");
+        Specification<GiftCertificate> specification = SpecificationCreator.getSpecification(parameters);
+        Pageable paging = PageRequest.of(1, size, Sort.by(GiftCertificate_.NAME));
+        List<CertificateDto> expected =
+                DtoEntityConvector.convertCertificates(dao.findAll(specification, paging).toList());
+        statistics.clear();
+
+        List<CertificateDto> actual = dao.findAllAsDto(specification, paging);
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
     public static Object[][] countDataProvider() {
         Map<SearchParameterName, String> param1 = new HashMap<>();
         param1.put(SearchParameterName.TAG, "tag_1");
@@ -145,6 +191,18 @@ class GiftCertificateDaoTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void countByFullTextOfOperatorsOnly() {
+        Map<SearchParameterName, String> parameters = new HashMap<>();
+        parameters.put(SearchParameterName.DESCRIPTION_FULL_TEXT, "+-*");
+        parameters.put(SearchParameterName.ACTIVE, "true");
+        Specification<GiftCertificate> specification = SpecificationCreator.getSpecification(parameters);
+
+        long actual = dao.count(specification);
+
+        Assertions.assertEquals(0L, actual);
+    }
+
     public static Object[][] findAllByTagsNamesAndActiveDataProvider() {
         Pageable paging = PageRequest.of(0, 10);
         String[] tagsNames1 = {"tag_999", "tag_1000"};
@@ -166,6 +224,15 @@ class GiftCertificateDaoTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void findAllByTagsNamesAndActiveOrderedById() {
+        String[] tagsNames = {"tag_999", "tag_1000"};
+        List<GiftCertificate> certificates = dao.findAllByTagsNamesAndActive(tagsNames, true, PageRequest.of(0, 10));
+        List<Long> actual = certificates.stream().map(GiftCertificate::getId).toList();
+        List<Long> expected = actual.stream().sorted().toList();
+        Assertions.assertEquals(expected, actual);
+    }
+
     public static Object[][] countByTagsNamesAndActiveDataProvider() {
         String[] tagsNames1 = {"tag_999", "tag_1000"};
         String[] tagsNames2 = {"tag_998", "tag_999", "tag_1000"};
@@ -185,6 +252,20 @@ class GiftCertificateDaoTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @ParameterizedTest
+    @MethodSource("countByTagsNamesAndActiveDataProvider")
+    void countByTagsNamesAndActiveWithoutEntitiesLoading(String[] tagsNames, boolean active, int expected) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        int actual = dao.countByTagsNamesAndActive(tagsNames, active);
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     public static Object[][] findByNameAndDescriptionAndPriceAndDurationAndActiveDataProvider() {
         return new Object[][]{
                 {"certificate 1", "description 1", new BigDecimal("110"), 60, true, true},
@@ -209,4 +290,153 @@ class GiftCertificateDaoTest {
         boolean actual = certificate.isPresent();
         Assertions.assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    public static Object[][] findAllByKeysetDataProvider() {
+        return new Object[][]{
+                {SortingType.DATE_ASC, Sort.by(Sort.Direction.ASC, GiftCertificate_.CREATE_DATE, GiftCertificate_.ID)},
+                {SortingType.NAME_DESC, Sort.by(Sort.Direction.DESC, GiftCertificate_.NAME, GiftCertificate_.ID)}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("findAllByKeysetDataProvider")
+    void findAllByKeyset(SortingType sortingType, Sort sorting) {
+        Map<SearchParameterName, String> parameters = Map.of(SearchParameterName.ACTIVE, "true");
+        Specification<GiftCertificate> specification = SpecificationCreator.getSpecification(parameters);
+        List<GiftCertificate> firstPage = dao.findAllByKeyset(specification, sortingType, null, 5);
+        GiftCertificate last = firstPage.get(firstPage.size() - 1);
+        ContinuationToken token = new ContinuationToken(last.getCreateDate(), last.getName(), last.getId());
+
+        List<GiftCertificate> expected = dao.findAll(specification, PageRequest.of(1, 5, sorting)).toList();
+        List<GiftCertificate> actual = dao.findAllByKeyset(specification, sortingType, token, 5);
+        Assertions.assertEquals(expected.stream().map(GiftCertificate::getId).toList(),
+                actual.stream().map(GiftCertificate::getId).toList());
+    }
+
+    public static Object[][] findAllQueryCountDataProvider() {
+        return new Object[][]{
+                {10},
+                {50}
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("findAllQueryCountDataProvider")
+    void findAllByActiveQueryCount(int size) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        List<GiftCertificate> certificates = dao.findAllByActive(true, PageRequest.of(1, size)).toList();
+        certificates.forEach(c -> c.getTags().size());
+
+        Assertions.assertEquals(size, certificates.size());
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getCollectionStatistics(TAGS_ROLE).getFetchCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("findAllQueryCountDataProvider")
+    void findAllBySpecificationQueryCount(int size) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<SearchParameterName, String> parameters = Map.of(SearchParameterName.ACTIVE, "true");
+        Specification<GiftCertificate> specification = SpecificationCreator.getSpecification(parameters);
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        List<GiftCertificate> certificates = dao.findAll(specification, PageRequest.of(1, size)).toList();
+        certificates.forEach(c -> c.getTags().size());
+
+        Assertions.assertEquals(size, certificates.size());
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getCollectionStatistics(TAGS_ROLE).getFetchCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("findAllQueryCountDataProvider")
+    void findAllByIdInAndActiveQueryCount(int size) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        List<Long> ids = LongStream.rangeClosed(1, size).boxed().toList();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        List<GiftCertificate> certificates = dao.findAllByIdInAndActive(ids, true);
+        certificates.forEach(c -> c.getTags().size());
+
+        Assertions.assertEquals(size, certificates.size());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getCollectionStatistics(TAGS_ROLE).getFetchCount());
+    }
+
+    @Test
+    void findAllKeysByNameIn() {
+        GiftCertificate certificate = dao.findByIdAndActive(1L, true).orElseThrow();
+        CertificateKey expected = new CertificateKey(certificate.getName(), certificate.getDescription(),
+                certificate.getPrice(), certificate.getDuration());
+
+        List<CertificateKey> actual = dao.findAllKeysByNameIn(List.of(certificate.getName(), "not existing name"));
+
+        Assertions.assertTrue(actual.contains(expected));
+    }
+
+    @Test
+    @Transactional
+    void saveAllInBatch() {
+        CustomTag tag = tagDao.findById(1L).orElseThrow();
+        List<GiftCertificate> certificates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            GiftCertificate certificate = new GiftCertificate();
+            certificate.setName("imported_" + i);
+            certificate.setDescription("imported description");
+            certificate.setPrice(new BigDecimal("10.00"));
+            certificate.setDuration(5);
+            certificate.getTags().add(tag);
+            certificates.add(certificate);
+        }
+        long countBefore = dao.countByActive(true);
+
+        dao.saveAllInBatch(certificates);
+
+        Assertions.assertTrue(certificates.stream().allMatch(c -> c.getId() != null));
+        Assertions.assertEquals(countBefore + 3, dao.countByActive(true));
+        Assertions.assertEquals(3, dao.findAllKeysByNameIn(List.of("imported_0", "imported_1", "imported_2")).size());
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    void streamAllActiveAsDto() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long expected = dao.countByActive(true);
+        statistics.clear();
+
+        List<CertificateDto> actual;
+        try (Stream<CertificateDto> certificates = dao.streamAllActiveAsDto(100)) {
+            actual = certificates.toList();
+        }
+
+        Assertions.assertEquals(expected, actual.size());
+        Assertions.assertTrue(IntStream.range(1, actual.size())
+                .allMatch(i -> actual.get(i - 1).getId() < actual.get(i).getId()));
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    void streamAllActiveTagLinks() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Object[]> actual;
+        try (Stream<Object[]> links = dao.streamAllActiveTagLinks(100)) {
+            actual = links.toList();
+        }
+
+        Assertions.assertFalse(actual.isEmpty());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
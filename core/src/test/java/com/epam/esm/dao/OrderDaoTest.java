@@ -1,7 +1,12 @@
 package com.epam.esm.dao;
 
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.Order;
+import com.epam.esm.dao.entity.User;
+import com.epam.esm.index.TagUsageStatistics;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,7 +14,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +28,16 @@ class OrderDaoTest {
 
     @Autowired
     private OrderDao dao;
+    @Autowired
+    private CustomTagDao tagDao;
+    @Autowired
+    private UserDao userDao;
+    @Autowired
+    private GiftCertificateDao certificateDao;
+    @Autowired
+    private OrderEventDao eventDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     public static Object[][] findAllByUserIdDataProvider() {
         Pageable paging = PageRequest.of(0, 10);
@@ -65,4 +84,38 @@ class OrderDaoTest {
         boolean actual = order.isPresent();
         Assertions.assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    void aggregatesGiveTheSameMostWidelyTag() {
+        TagUsageStatistics statistics = new TagUsageStatistics(dao, eventDao, transactionManager, true, true);
+        statistics.rebuild();
+
+        CustomTag expected = tagDao.findTheMostWidelyTag();
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    @Transactional
+    void saveAllInBatch() {
+        User user = userDao.findById(1L).orElseThrow();
+        GiftCertificate certificate = certificateDao.findById(1L).orElseThrow();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = new Order();
+            order.setUser(user);
+            order.setAmount(certificate.getPrice());
+            order.setPurchaseDate(LocalDateTime.now());
+            order.setGiftCertificatesList(List.of(certificate));
+            orders.add(order);
+        }
+        int countBefore = dao.countByUserId(1L);
+
+        dao.saveAllInBatch(orders);
+
+        Assertions.assertTrue(orders.stream().allMatch(o -> o.getId() != null));
+        Assertions.assertEquals(3, orders.stream().map(Order::getId).distinct().count());
+        Assertions.assertEquals(countBefore + 3, dao.countByUserId(1L));
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.dao.entity.OrderEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderEventDaoTest {
+
+    @Autowired
+    private OrderEventDao dao;
+
+    @Test
+    @Transactional
+    void saveAllInBatchAndFindAfterCursor() {
+        List<OrderEvent> events = new ArrayList<>();
+        for (long i = 1; i <= 3; i++) {
+            OrderEvent event = new OrderEvent();
+            event.setOrderId(i);
+            event.setUserId(1L);
+            event.setAmount(new BigDecimal("10.00"));
+            event.setPayload("[]");
+            event.setCreateDate(LocalDateTime.now());
+            events.add(event);
+        }
+
+        dao.saveAllInBatch(events);
+        List<Long> ids = events.stream().map(OrderEvent::getId).toList();
+        List<Long> afterFirst = dao.findAllByIdGreaterThanOrderByIdAsc(ids.get(0), PageRequest.of(0, 10)).stream()
+                .map(OrderEvent::getId)
+                .toList();
+
+        Assertions.assertEquals(ids.subList(1, 3), afterFirst);
+        Assertions.assertEquals((long) ids.get(2), dao.findLastSequence());
+        Assertions.assertEquals(Set.copyOf(ids.subList(1, 3)), Set.copyOf(dao.findAllIdsGreaterThan(ids.get(0))));
+        dao.deleteCreatedBefore(LocalDateTime.now().plusMinutes(1));
+        Assertions.assertTrue(dao.findAllIdsGreaterThan(ids.get(0) - 1).isEmpty());
+    }
+}
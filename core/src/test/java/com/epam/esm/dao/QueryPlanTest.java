@@ -0,0 +1,186 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.dao.entity.GiftCertificate_;
+import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.specification.SpecificationCreator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Runs EXPLAIN for SQL of DAO queries and fails when any table is read by full scan.
+ * Reports and unfiltered listings read whole tables by design and are not checked.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.epam.esm.dao.QueryPlanTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+class QueryPlanTest {
+
+    private static final String TABLE_SCAN = ".tableScan";
+    private static final String EXPLAIN = "EXPLAIN ";
+    private static final List<String> EXPLAINED_STATEMENTS = List.of("select", "update", "delete");
+
+    @Autowired
+    private GiftCertificateDao certificateDao;
+    @Autowired
+    private CustomTagDao tagDao;
+    @Autowired
+    private UserDao userDao;
+    @Autowired
+    private OrderDao orderDao;
+    @Autowired
+    private OrderEventDao eventDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findCertificateByIdAndActive() {
+        assertIndexed(() -> certificateDao.findByIdAndActive(1L, true));
+    }
+
+    @Test
+    void findAllCertificatesByIdInAndActive() {
+        assertIndexed(() -> certificateDao.findAllByIdInAndActive(List.of(1L, 2L), true));
+    }
+
+    @Test
+    void findAllCertificatesByActive() {
+        Pageable paging = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, GiftCertificate_.CREATE_DATE));
+        assertIndexed(() -> certificateDao.findAllByActive(true, paging));
+    }
+
+    @Test
+    void countCertificatesByActive() {
+        assertIndexed(() -> certificateDao.countByActive(true));
+    }
+
+    @Test
+    void findAllCertificatesBySpecification() {
+        Pageable paging = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, GiftCertificate_.CREATE_DATE));
+        assertIndexed(() -> certificateDao.findAll(getTagSpecification(), paging));
+    }
+
+    @Test
+    void findAllCertificatesAsDtoBySpecification() {
+        Pageable paging = PageRequest.of(0, 5, Sort.by(GiftCertificate_.NAME));
+        assertIndexed(() -> certificateDao.findAllAsDto(getTagSpecification(), paging));
+    }
+
+    @Test
+    void countCertificatesBySpecification() {
+        assertIndexed(() -> certificateDao.count(getTagSpecification()));
+    }
+
+    @Test
+    void findAllCertificateKeysByNameIn() {
+        assertIndexed(() -> certificateDao.findAllKeysByNameIn(List.of("certificate 1", "certificate 2")));
+    }
+
+    @Test
+    void findAllCertificatesByTagsNamesAndActive() {
+        String[] tagsNames = {"tag_999", "tag_1000"};
+        assertIndexed(() -> certificateDao.findAllByTagsNamesAndActive(tagsNames, true, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void countCertificatesByTagsNamesAndActive() {
+        String[] tagsNames = {"tag_999", "tag_1000"};
+        assertIndexed(() -> certificateDao.countByTagsNamesAndActive(tagsNames, true));
+    }
+
+    @Test
+    void findTagByName() {
+        assertIndexed(() -> tagDao.findByName("tag_1"));
+    }
+
+    @Test
+    void findAllTagsByNameIn() {
+        assertIndexed(() -> tagDao.findAllByNameIn(List.of("tag_1", "tag_2")));
+    }
+
+    @Test
+    void findUserByLogin() {
+        assertIndexed(() -> userDao.findByLogin("1@gmail.com"));
+    }
+
+    @Test
+    void findAllOrdersByUserId() {
+        assertIndexed(() -> orderDao.findAllByUserId(1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void countOrdersByUserId() {
+        assertIndexed(() -> orderDao.countByUserId(1L));
+    }
+
+    @Test
+    void findOrderByIdAndUserId() {
+        assertIndexed(() -> orderDao.findByIdAndUserId(159L, 1L));
+    }
+
+    @Test
+    void findAllOrderEventsAfterCursor() {
+        assertIndexed(() -> eventDao.findAllByIdGreaterThanOrderByIdAsc(1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void findAllLateOrderEvents() {
+        assertIndexed(() -> eventDao.findAllByIdInOrderByIdAsc(List.of(1L, 2L)));
+    }
+
+    @Test
+    void deleteOldOrderEvents() {
+        assertIndexed(() -> eventDao.deleteCreatedBefore(LocalDateTime.now()));
+    }
+
+    private Specification<GiftCertificate> getTagSpecification() {
+        return SpecificationCreator.getSpecification(Map.of(
+                SearchParameterName.TAG, "tag_1",
+                SearchParameterName.ACTIVE, "true"));
+    }
+
+    private void assertIndexed(Runnable query) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        query.run();
+        List<String> statements = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> EXPLAINED_STATEMENTS.stream()
+                        .anyMatch(sql.stripLeading().toLowerCase(Locale.ROOT)::startsWith))
+                .toList();
+        Assertions.assertFalse(statements.isEmpty());
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForObject(EXPLAIN + sql, String.class);
+            Assertions.assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+    }
+
+    /**
+     * Collects SQL prepared by Hibernate.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
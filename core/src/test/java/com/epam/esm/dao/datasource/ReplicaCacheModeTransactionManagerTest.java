@@ -0,0 +1,42 @@
+package com.epam.esm.dao.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+
+class ReplicaCacheModeTransactionManagerTest {
+
+    private Session session;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+        EntityManager entityManager = Mockito.mock(EntityManager.class);
+        session = Mockito.mock(Session.class);
+        Mockito.when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        Mockito.when(entityManager.getTransaction()).thenReturn(Mockito.mock(EntityTransaction.class));
+        Mockito.when(entityManager.isOpen()).thenReturn(true);
+        Mockito.when(entityManager.unwrap(Session.class)).thenReturn(session);
+        transactionTemplate = new TransactionTemplate(new ReplicaCacheModeTransactionManager(entityManagerFactory));
+    }
+
+    @Test
+    void readOnlyTransactionDoesNotPutIntoCache() {
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> Mockito.verify(session).setCacheMode(CacheMode.GET));
+    }
+
+    @Test
+    void readWriteTransactionUsesCache() {
+        transactionTemplate.executeWithoutResult(status -> Mockito.verify(session).setCacheMode(CacheMode.NORMAL));
+        Mockito.verify(session, Mockito.never()).setCacheMode(CacheMode.GET);
+    }
+}
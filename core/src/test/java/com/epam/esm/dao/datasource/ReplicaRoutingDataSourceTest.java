@@ -0,0 +1,139 @@
+package com.epam.esm.dao.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_NAME = "SELECT name FROM db_name";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica),
+                new RecentWrites(Duration.ZERO));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        Assertions.assertEquals("replica", selectName(dataSource, true));
+        Assertions.assertEquals("primary", selectName(dataSource, false));
+    }
+
+    @Test
+    void readOnlyTransactionAfterWriteGoesToPrimary() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica),
+                new RecentWrites(Duration.ofMinutes(1)));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        authenticate("writer");
+        Assertions.assertEquals("replica", selectName(dataSource, true));
+
+        transactionTemplate(dataSource, false).executeWithoutResult(status ->
+                new JdbcTemplate(dataSource).update("UPDATE db_name SET name = name"));
+
+        Assertions.assertEquals("primary", selectName(dataSource, true));
+        authenticate("reader");
+        Assertions.assertEquals("replica", selectName(dataSource, true));
+    }
+
+    @Test
+    void failedReplicaIsEjected() throws SQLException {
+        DataSource brokenReplica = Mockito.mock(DataSource.class);
+        Mockito.when(brokenReplica.getConnection()).thenThrow(new SQLException("replica is down"));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(brokenReplica, replica),
+                new RecentWrites(Duration.ZERO));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals("replica", selectName(dataSource, true));
+        }
+        Assertions.assertEquals(1, routing.getHealthyReplicaCount());
+        Mockito.verify(brokenReplica, Mockito.times(1)).getConnection();
+    }
+
+    @Test
+    void withoutHealthyReplicasPrimaryIsUsed() throws SQLException {
+        DataSource brokenReplica = Mockito.mock(DataSource.class);
+        Mockito.when(brokenReplica.getConnection()).thenThrow(new SQLException("replica is down"));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(brokenReplica),
+                new RecentWrites(Duration.ZERO));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        Assertions.assertEquals("primary", selectName(dataSource, true));
+        Assertions.assertEquals(0, routing.getHealthyReplicaCount());
+    }
+
+    @Test
+    void checkReplicasReturnsRecoveredReplica() throws SQLException {
+        DataSource flakyReplica = Mockito.mock(DataSource.class);
+        Mockito.when(flakyReplica.getConnection())
+                .thenThrow(new SQLException("replica is down"))
+                .thenAnswer(invocation -> replica.getConnection());
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(flakyReplica),
+                new RecentWrites(Duration.ZERO));
+
+        routing.checkReplicas();
+        Assertions.assertEquals(0, routing.getHealthyReplicaCount());
+        routing.checkReplicas();
+        Assertions.assertEquals(1, routing.getHealthyReplicaCount());
+        Assertions.assertEquals("replica", selectName(new LazyConnectionDataSourceProxy(routing), true));
+    }
+
+    private static String selectName(DataSource dataSource, boolean readOnly) {
+        return transactionTemplate(dataSource, readOnly).execute(status ->
+                new JdbcTemplate(dataSource).queryForObject(SELECT_NAME, String.class));
+    }
+
+    private static TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private static void authenticate(String user) {
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(user, null);
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE db_name (name varchar(20))");
+        jdbcTemplate.update("INSERT INTO db_name VALUES (?)", name);
+        return database;
+    }
+}
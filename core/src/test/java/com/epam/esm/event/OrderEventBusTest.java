@@ -0,0 +1,86 @@
+package com.epam.esm.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OrderEventBusTest {
+
+    @Test
+    void dispatchInSequenceOrder() throws InterruptedException {
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+        OrderEventBus bus = new OrderEventBus(List.of(event -> {
+            received.add(event.sequence());
+            done.countDown();
+        }), 8);
+        bus.start();
+        for (long sequence = 1; sequence <= 100; sequence++) {
+            while (!bus.offer(event(sequence))) {
+                Thread.onSpinWait();
+            }
+        }
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        bus.stop();
+        Assertions.assertEquals(100, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            Assertions.assertEquals(i + 1L, received.get(i));
+        }
+    }
+
+    @Test
+    void offerFullBuffer() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        OrderEventBus bus = new OrderEventBus(List.of(event -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), 2);
+
+        Assertions.assertTrue(bus.offer(event(1)));
+        Assertions.assertTrue(bus.offer(event(2)));
+        Assertions.assertFalse(bus.offer(event(3)));
+        Assertions.assertEquals(2, bus.size());
+        bus.start();
+        release.countDown();
+        bus.stop();
+    }
+
+    @Test
+    void consumerExceptionRetried() throws InterruptedException {
+        AtomicInteger failures = new AtomicInteger();
+        List<Long> firstReceived = new CopyOnWriteArrayList<>();
+        List<Long> secondReceived = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        OrderEventBus bus = new OrderEventBus(List.of(
+                event -> firstReceived.add(event.sequence()),
+                event -> {
+                    if (event.sequence() == 1 && failures.getAndIncrement() == 0) {
+                        throw new IllegalStateException("consumer error");
+                    }
+                    secondReceived.add(event.sequence());
+                    done.countDown();
+                }), 4);
+        bus.start();
+        bus.offer(event(1));
+        bus.offer(event(2));
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        bus.stop();
+        Assertions.assertEquals(List.of(1L, 2L), firstReceived);
+        Assertions.assertEquals(List.of(1L, 2L), secondReceived);
+    }
+
+    private static OrderCreatedEvent event(long sequence) {
+        return new OrderCreatedEvent(sequence, sequence, 1L, BigDecimal.ONE, List.of());
+    }
+}
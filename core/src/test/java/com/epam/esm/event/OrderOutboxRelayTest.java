@@ -0,0 +1,144 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.OrderEventDao;
+import com.epam.esm.dao.entity.OrderEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class OrderOutboxRelayTest {
+
+    private OrderEventDao eventDaoMock;
+    private OrderEventBus busMock;
+    private OrderOutboxRelay relay;
+
+    public OrderOutboxRelayTest() {
+        this.eventDaoMock = Mockito.mock(OrderEventDao.class);
+        this.busMock = Mockito.mock(OrderEventBus.class);
+        this.relay = new OrderOutboxRelay(eventDaoMock, new OrderOutbox(eventDaoMock), busMock,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), true, 10, 24, 60000L);
+        Mockito.when(busMock.acceptsEvents()).thenReturn(true);
+    }
+
+    @Test
+    void relay() {
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(2L)));
+        Mockito.when(busMock.offer(Mockito.any())).thenReturn(true);
+
+        int actual = relay.relay();
+
+        Assertions.assertEquals(2, actual);
+        Mockito.verify(busMock).offer(new OrderCreatedEvent(1L, 10L, 5L, new BigDecimal("20.00"),
+                List.of(new OrderCreatedEvent.TagCount(3L, "tag_3", 2L))));
+    }
+
+    @Test
+    void relayWaitsForConsumers() {
+        Mockito.when(busMock.acceptsEvents()).thenReturn(false);
+
+        int actual = relay.relay();
+
+        Assertions.assertEquals(0, actual);
+        Mockito.verifyNoInteractions(eventDaoMock);
+    }
+
+    @Test
+    void relayContinuesFromCursor() {
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(2L)));
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(2L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(3L)));
+        Mockito.when(busMock.offer(Mockito.any())).thenReturn(true);
+
+        int first = relay.relay();
+        int second = relay.relay();
+
+        Assertions.assertEquals(2, first);
+        Assertions.assertEquals(1, second);
+        Mockito.verify(busMock, Mockito.times(3)).offer(Mockito.any());
+    }
+
+    @Test
+    void relayStopsWhenBusIsFull() {
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(2L), outboxEvent(3L)));
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(1L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(2L), outboxEvent(3L)));
+        Mockito.when(busMock.offer(Mockito.any())).thenReturn(true, false, true);
+
+        int first = relay.relay();
+        int second = relay.relay();
+
+        Assertions.assertEquals(1, first);
+        Assertions.assertEquals(2, second);
+        Mockito.verify(busMock, Mockito.times(2)).offer(Mockito.argThat(event -> event.sequence() == 2L));
+    }
+
+    @Test
+    void relayOffersLateCommittedEvent() {
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(3L)));
+        Mockito.when(eventDaoMock.findAllByIdInOrderByIdAsc(List.of(2L)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(outboxEvent(2L)));
+        Mockito.when(busMock.offer(Mockito.any())).thenReturn(true);
+
+        int first = relay.relay();
+        int second = relay.relay();
+        int third = relay.relay();
+        int fourth = relay.relay();
+
+        Assertions.assertEquals(2, first);
+        Assertions.assertEquals(0, second);
+        Assertions.assertEquals(1, third);
+        Assertions.assertEquals(0, fourth);
+        Mockito.verify(eventDaoMock, Mockito.times(2)).findAllByIdInOrderByIdAsc(Mockito.anyCollection());
+    }
+
+    @Test
+    void relayForgetsGapAfterLateCommitTimeout() {
+        OrderOutboxRelay noWait = new OrderOutboxRelay(eventDaoMock, new OrderOutbox(eventDaoMock), busMock,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), true, 10, 24, -1L);
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(3L)));
+        Mockito.when(busMock.offer(Mockito.any())).thenReturn(true);
+
+        noWait.relay();
+        noWait.relay();
+
+        Mockito.verify(eventDaoMock, Mockito.never()).findAllByIdInOrderByIdAsc(Mockito.anyCollection());
+    }
+
+    @Test
+    void relaySkipsNotReadableEvent() {
+        OrderEvent broken = outboxEvent(1L);
+        broken.setPayload("not json");
+        Mockito.when(eventDaoMock.findAllByIdGreaterThanOrderByIdAsc(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(broken, outboxEvent(2L)));
+        Mockito.when(busMock.offer(Mockito.any())).thenReturn(true);
+
+        int actual = relay.relay();
+
+        Assertions.assertEquals(2, actual);
+        Mockito.verify(busMock, Mockito.times(1)).offer(Mockito.any());
+    }
+
+    private static OrderEvent outboxEvent(long id) {
+        OrderEvent event = new OrderEvent();
+        event.setId(id);
+        event.setOrderId(10L);
+        event.setUserId(5L);
+        event.setAmount(new BigDecimal("20.00"));
+        event.setPayload("[{\"tagId\":3,\"tagName\":\"tag_3\",\"count\":2}]");
+        event.setCreateDate(LocalDateTime.now());
+        return event;
+    }
+}
@@ -0,0 +1,127 @@
+package com.epam.esm.index;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.entity.CustomTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+class TagBitmapIndexTest {
+
+    private GiftCertificateDao daoMock;
+    private TagBitmapIndex index;
+    private List<Object[]> links;
+
+    public TagBitmapIndexTest() {
+        this.daoMock = Mockito.mock(GiftCertificateDao.class);
+        this.index = new TagBitmapIndex(daoMock, Mockito.mock(PlatformTransactionManager.class), true, 100);
+        this.links = new ArrayList<>();
+        links.add(new Object[]{1L, 1L, "tag_1"});
+        links.add(new Object[]{1L, 2L, "tag_2"});
+        links.add(new Object[]{2L, 1L, "tag_1"});
+        links.add(new Object[]{3L, 2L, "tag_2"});
+        links.add(new Object[]{4L, 1L, "tag_1"});
+        links.add(new Object[]{4L, 2L, "tag_2"});
+        Mockito.when(daoMock.streamAllActiveTagLinks(100)).thenAnswer(invocation -> links.stream());
+    }
+
+    @Test
+    void findAllByTagsNamesNotReady() {
+        Optional<RoaringBitmap> actual = index.findAllByTagsNames(new String[]{"tag_1"});
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void findAllByTagsNames() {
+        index.rebuild();
+
+        RoaringBitmap expected = RoaringBitmap.bitmapOf(1, 4);
+        RoaringBitmap actual = index.findAllByTagsNames(new String[]{"tag_1", "tag_2"}).orElseThrow();
+
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void findAllByTagsNamesUnknownTag() {
+        index.rebuild();
+
+        RoaringBitmap actual = index.findAllByTagsNames(new String[]{"tag_1", "tag_999"}).orElseThrow();
+
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void replace() {
+        index.rebuild();
+        CustomTag tag1 = new CustomTag(1L, "tag_1");
+        CustomTag tag2 = new CustomTag(2L, "tag_2");
+        CustomTag tag3 = new CustomTag(3L, "tag_3");
+
+        index.replace(2L, Set.of(tag1), Set.of(tag2, tag3));
+        index.remove(4L, Set.of(tag1, tag2));
+
+        Assertions.assertEquals(RoaringBitmap.bitmapOf(1),
+                index.findAllByTagsNames(new String[]{"tag_1"}).orElseThrow());
+        Assertions.assertEquals(RoaringBitmap.bitmapOf(2),
+                index.findAllByTagsNames(new String[]{"tag_2", "tag_3"}).orElseThrow());
+    }
+
+    @Test
+    void checkConsistency() {
+        index.rebuild();
+        index.add(5L, Set.of(new CustomTag(1L, "tag_1")));
+
+        boolean actual = index.checkConsistency();
+
+        Assertions.assertFalse(actual);
+        Assertions.assertEquals(RoaringBitmap.bitmapOf(1, 2, 4),
+                index.findAllByTagsNames(new String[]{"tag_1"}).orElseThrow());
+        Assertions.assertTrue(index.checkConsistency());
+    }
+
+    @Test
+    void findAllByTagsNamesIgnoreCase() {
+        index.rebuild();
+
+        RoaringBitmap actual = index.findAllByTagsNames(new String[]{"TAG_1", "Tag_2"}).orElseThrow();
+
+        Assertions.assertEquals(RoaringBitmap.bitmapOf(1, 4), actual);
+    }
+
+    @Test
+    void rebuildKeepsChangesCommittedDuringLoad() {
+        List<Object[]> loaded = new ArrayList<>();
+        loaded.add(new Object[]{1L, 1L, "tag_1"});
+        Mockito.when(daoMock.streamAllActiveTagLinks(100)).thenAnswer(invocation -> {
+            index.add(7L, Set.of(new CustomTag(1L, "tag_1")));
+            return loaded.stream();
+        });
+
+        index.rebuild();
+
+        Assertions.assertEquals(RoaringBitmap.bitmapOf(1, 7),
+                index.findAllByTagsNames(new String[]{"tag_1"}).orElseThrow());
+    }
+
+    @Test
+    void checkConsistencyKeepsChangesCommittedDuringLoad() {
+        index.rebuild();
+        Mockito.when(daoMock.streamAllActiveTagLinks(100)).thenAnswer(invocation -> {
+            index.remove(2L, Set.of(new CustomTag(1L, "tag_1")));
+            return links.stream();
+        });
+
+        boolean actual = index.checkConsistency();
+
+        Assertions.assertTrue(actual);
+        Assertions.assertEquals(RoaringBitmap.bitmapOf(1, 4),
+                index.findAllByTagsNames(new String[]{"tag_1"}).orElseThrow());
+    }
+}
@@ -0,0 +1,175 @@
+package com.epam.esm.index;
+
+import com.epam.esm.dao.OrderDao;
+import com.epam.esm.dao.OrderEventDao;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.event.OrderCreatedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+class TagUsageStatisticsTest {
+
+    private OrderDao daoMock;
+    private OrderEventDao eventDaoMock;
+    private TagUsageStatistics statistics;
+    private List<Object[]> spends;
+
+    public TagUsageStatisticsTest() {
+        this.daoMock = Mockito.mock(OrderDao.class);
+        this.eventDaoMock = Mockito.mock(OrderEventDao.class);
+        this.statistics = new TagUsageStatistics(daoMock, eventDaoMock,
+                Mockito.mock(PlatformTransactionManager.class), true, true);
+        this.spends = new ArrayList<>();
+        spends.add(new Object[]{1L, new BigDecimal("100.00")});
+        spends.add(new Object[]{2L, new BigDecimal("50.00")});
+        List<Object[]> tags = new ArrayList<>();
+        tags.add(new Object[]{1L, 1L, "tag_1", 2L});
+        tags.add(new Object[]{1L, 2L, "tag_2", 3L});
+        tags.add(new Object[]{2L, 3L, "tag_3", 5L});
+        Mockito.when(daoMock.sumAmountGroupByUser()).thenReturn(spends);
+        Mockito.when(daoMock.countTagsGroupByUser()).thenReturn(tags);
+        Mockito.when(eventDaoMock.findLastSequence()).thenReturn(10L);
+        Mockito.when(eventDaoMock.findAllIdsGreaterThan(0L))
+                .thenReturn(LongStream.rangeClosed(1L, 10L).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void findTheMostWidelyTagNotReady() {
+        Optional<CustomTag> actual = statistics.findTheMostWidelyTag();
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void findTheMostWidelyTag() {
+        statistics.rebuild();
+
+        CustomTag expected = new CustomTag(2L, "tag_2");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void onOrderCreatedChangesTopSpender() {
+        statistics.rebuild();
+
+        statistics.onOrderCreated(new OrderCreatedEvent(11L, 1L, 2L, new BigDecimal("60.00"),
+                List.of(new OrderCreatedEvent.TagCount(3L, "tag_3", 1L))));
+
+        CustomTag expected = new CustomTag(3L, "tag_3");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void onOrderCreatedWithEqualCountsTakesLeastTagId() {
+        statistics.rebuild();
+
+        statistics.onOrderCreated(new OrderCreatedEvent(11L, 1L, 1L, BigDecimal.TEN,
+                List.of(new OrderCreatedEvent.TagCount(1L, "tag_1", 1L))));
+
+        CustomTag expected = new CustomTag(1L, "tag_1");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void onOrderCreatedSkipsCountedEvents() {
+        statistics.rebuild();
+        OrderCreatedEvent counted = new OrderCreatedEvent(10L, 1L, 2L, new BigDecimal("60.00"),
+                List.of(new OrderCreatedEvent.TagCount(3L, "tag_3", 1L)));
+        OrderCreatedEvent event = new OrderCreatedEvent(11L, 2L, 2L, new BigDecimal("60.00"),
+                List.of(new OrderCreatedEvent.TagCount(3L, "tag_3", 1L)));
+
+        statistics.onOrderCreated(counted);
+        statistics.onOrderCreated(event);
+
+        CustomTag expected = new CustomTag(3L, "tag_3");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+        Assertions.assertEquals(expected, actual);
+        statistics.onOrderCreated(new OrderCreatedEvent(12L, 3L, 1L, new BigDecimal("15.00"), List.of()));
+        Assertions.assertEquals(new CustomTag(2L, "tag_2"), statistics.findTheMostWidelyTag().orElseThrow());
+        statistics.onOrderCreated(counted);
+        Assertions.assertEquals(new CustomTag(2L, "tag_2"), statistics.findTheMostWidelyTag().orElseThrow());
+    }
+
+    @Test
+    void onOrderCreatedDuringLoadIsReplayed() {
+        Mockito.when(daoMock.sumAmountGroupByUser()).thenAnswer(invocation -> {
+            statistics.onOrderCreated(new OrderCreatedEvent(11L, 1L, 2L, new BigDecimal("60.00"),
+                    List.of(new OrderCreatedEvent.TagCount(3L, "tag_3", 1L))));
+            return spends;
+        });
+
+        statistics.rebuild();
+
+        CustomTag expected = new CustomTag(3L, "tag_3");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void onOrderCreatedCountsLateCommittedEventOnce() {
+        Mockito.when(eventDaoMock.findAllIdsGreaterThan(0L)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 10L));
+        statistics.rebuild();
+        OrderCreatedEvent late = new OrderCreatedEvent(9L, 1L, 2L, new BigDecimal("60.00"),
+                List.of(new OrderCreatedEvent.TagCount(3L, "tag_3", 1L)));
+
+        statistics.onOrderCreated(late);
+        statistics.onOrderCreated(late);
+        statistics.onOrderCreated(new OrderCreatedEvent(12L, 2L, 1L, new BigDecimal("15.00"), List.of()));
+
+        CustomTag expected = new CustomTag(2L, "tag_2");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void removeTag() {
+        statistics.rebuild();
+
+        statistics.removeTag(2L);
+
+        CustomTag expected = new CustomTag(1L, "tag_1");
+        CustomTag actual = statistics.findTheMostWidelyTag().orElseThrow();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void disabled() {
+        TagUsageStatistics disabled = new TagUsageStatistics(daoMock, eventDaoMock,
+                Mockito.mock(PlatformTransactionManager.class), false, false);
+
+        disabled.rebuild();
+
+        Assertions.assertTrue(disabled.findTheMostWidelyTag().isEmpty());
+        Mockito.verify(daoMock, Mockito.never()).sumAmountGroupByUser();
+        Assertions.assertTrue(disabled.acceptsEvents());
+    }
+
+    @Test
+    void acceptsEventsWhenBuilt() {
+        Assertions.assertFalse(statistics.acceptsEvents());
+
+        statistics.rebuild();
+
+        Assertions.assertTrue(statistics.acceptsEvents());
+    }
+
+    @Test
+    void enabledWithoutRelay() {
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> new TagUsageStatistics(daoMock, eventDaoMock, transactionManager, true, false));
+    }
+}
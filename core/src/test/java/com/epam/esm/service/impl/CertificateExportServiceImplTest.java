@@ -0,0 +1,87 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.enumeration.ExportFormat;
+import com.epam.esm.exception.CustomErrorCode;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.CertificateExportService;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.TagDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+class CertificateExportServiceImplTest {
+
+    private GiftCertificateDao daoMock;
+    private CertificateExportService service;
+
+    public CertificateExportServiceImplTest() {
+        this.daoMock = Mockito.mock(GiftCertificateDao.class);
+        this.service = new CertificateExportServiceImpl(daoMock, new ObjectMapper(), 100);
+    }
+
+    @Test
+    void exportAllNdjson() throws CustomException, IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Mockito.when(daoMock.streamAllActiveAsDto(100))
+                .thenReturn(getCertificates().stream().onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long actual = service.exportAll(out, ExportFormat.NDJSON);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, actual);
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals("{\"id\":1,\"name\":\"a\",\"description\":\"d, \\\"quoted\\\"\",\"price\":10.50,"
+                + "\"duration\":5,\"createDate\":\"2022-04-01T10:00:00\",\"lastUpdateDate\":\"2022-04-01T10:00:00\","
+                + "\"tags\":[{\"id\":1,\"name\":\"tag_1\"},{\"id\":2,\"name\":\"tag_2\"}]}", lines[0]);
+        Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    void exportAllCsv() throws CustomException, IOException {
+        Mockito.when(daoMock.streamAllActiveAsDto(100)).thenReturn(getCertificates().stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long actual = service.exportAll(out, ExportFormat.CSV);
+
+        String expected = "id,name,description,price,duration,create_date,last_update_date,tags\r\n"
+                + "1,a,\"d, \"\"quoted\"\"\",10.50,5,2022-04-01T10:00:00,2022-04-01T10:00:00,tag_1;tag_2\r\n"
+                + "2,b,d,20.00,5,2022-04-01T10:00:00,2022-04-01T10:00:00,\r\n";
+        Assertions.assertEquals(2, actual);
+        Assertions.assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportAllNotValidException() {
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.exportAll(new ByteArrayOutputStream(), null));
+
+        Mockito.verify(daoMock, Mockito.never()).streamAllActiveAsDto(Mockito.anyInt());
+        Assertions.assertEquals(CustomErrorCode.NOT_VALID_DATA, e.getCustomErrorCode());
+    }
+
+    private List<CertificateDto> getCertificates() {
+        LocalDateTime date = LocalDateTime.of(2022, 4, 1, 10, 0);
+        LinkedHashSet<TagDto> tags = new LinkedHashSet<>();
+        tags.add(new TagDto(1L, "tag_1"));
+        tags.add(new TagDto(2L, "tag_2"));
+        CertificateDto certificate1 = new CertificateDto(1L, "a", "d, \"quoted\"", new BigDecimal("10.50"), 5,
+                date, date, tags);
+        CertificateDto certificate2 = new CertificateDto(2L, "b", "d", new BigDecimal("20.00"), 5,
+                date, date, new LinkedHashSet<>());
+        return List.of(certificate1, certificate2);
+    }
+}
@@ -0,0 +1,277 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.dao.CatalogVersionDao;
+import com.epam.esm.dao.CustomTagDao;
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.entity.CustomTag;
+import com.epam.esm.dao.entity.GiftCertificate;
+import com.epam.esm.enumeration.ImportFormat;
+import com.epam.esm.enumeration.ImportJobStatus;
+import com.epam.esm.exception.CustomErrorCode;
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.index.TagBitmapIndex;
+import com.epam.esm.service.CacheService;
+import com.epam.esm.service.CertificateImportService;
+import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.ImportJobDto;
+import com.epam.esm.service.validator.CustomValidator;
+import com.epam.esm.util.CertificateKey;
+import com.epam.esm.util.ImportJobRegistry;
+import com.epam.esm.util.TotalCountCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+class CertificateImportServiceImplTest {
+
+    private GiftCertificateDao daoMock;
+    private CustomTagDao tagDaoMock;
+    private CustomValidator validatorMock;
+    private CertificateImportService service;
+
+    public CertificateImportServiceImplTest() {
+        this.daoMock = Mockito.mock(GiftCertificateDao.class);
+        this.tagDaoMock = Mockito.mock(CustomTagDao.class);
+        this.validatorMock = Mockito.mock(CustomValidator.class);
+        this.service = createService(Runnable::run);
+        Mockito.when(validatorMock.validateCertificateDtoCreate(Mockito.any())).thenReturn(true);
+        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void importCertificatesJson() throws CustomException {
+        String json = """
+                [
+                {"name":"a","description":"d","price":10,"duration":5,"tags":[{"name":"tag_1"},{"name":"new"}]},
+                {"name":"b","description":"d","price":20.00,"duration":5,"tags":[]},
+                {"name":"a","description":"d","price":10.00,"duration":5,"tags":[]},
+                {"name":"c","description":"d","price":30,"duration":5,"tags":[]}
+                ]""";
+        CustomTag existingTag = new CustomTag(1L, "tag_1");
+        CustomTag newTag = new CustomTag(2L, "new");
+        Mockito.when(tagDaoMock.findAllByNameIn(Mockito.anyCollection())).thenReturn(List.of(existingTag));
+        Mockito.when(tagDaoMock.saveAll(Mockito.anyIterable())).thenReturn(List.of(newTag));
+        List<List<GiftCertificate>> written = captureWritten();
+        Mockito.when(daoMock.findAllKeysByNameIn(Mockito.anyCollection())).thenAnswer(invocation -> {
+            List<CertificateKey> keys = new ArrayList<>();
+            keys.add(new CertificateKey("c", "d", new BigDecimal("30.00"), 5));
+            written.stream()
+                    .flatMap(List::stream)
+                    .map(c -> new CertificateKey(c.getName(), c.getDescription(), c.getPrice(), c.getDuration()))
+                    .forEach(keys::add);
+            return keys;
+        });
+
+        ImportJobDto actual = service.importCertificates(toStream(json), ImportFormat.JSON);
+
+        Mockito.verify(tagDaoMock, Mockito.times(1)).findAllByNameIn(Mockito.eq(Set.of("tag_1", "new")));
+        Mockito.verify(tagDaoMock, Mockito.never()).findByName(Mockito.anyString());
+        Mockito.verify(daoMock, Mockito.never()).save(Mockito.any());
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, actual.getStatus());
+        Assertions.assertEquals(4, actual.getProcessed());
+        Assertions.assertEquals(2, actual.getCreated());
+        Assertions.assertEquals(2, actual.getDuplicates());
+        Assertions.assertEquals(0, actual.getFailed());
+        Assertions.assertEquals(Set.of(existingTag, newTag), written.get(0).get(0).getTags());
+    }
+
+    @Test
+    void importCertificatesCsv() throws CustomException {
+        String csv = """
+                name,description,price,duration,tags\r
+                "a, quoted","say ""hi""
+                twice",10.00,5,tag_1; tag_2\r
+                b,plain,abc,5,
+                """;
+        Mockito.when(validatorMock.validateCertificateDtoCreate(Mockito.any()))
+                .thenAnswer(invocation -> ((CertificateDto) invocation.getArgument(0)).getPrice() != null);
+        Mockito.when(tagDaoMock.findAllByNameIn(Mockito.anyCollection()))
+                .thenReturn(List.of(new CustomTag(1L, "tag_1"), new CustomTag(2L, "tag_2")));
+        List<List<GiftCertificate>> written = captureWritten();
+
+        ImportJobDto actual = service.importCertificates(toStream(csv), ImportFormat.CSV);
+
+        GiftCertificate certificate = written.get(0).get(0);
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, actual.getStatus());
+        Assertions.assertEquals(1, actual.getCreated());
+        Assertions.assertEquals(1, actual.getFailed());
+        Assertions.assertTrue(actual.getErrors().get(0).startsWith("row 1 (40001)"));
+        Assertions.assertEquals("a, quoted", certificate.getName());
+        Assertions.assertEquals("say \"hi\"\ntwice", certificate.getDescription());
+        Assertions.assertEquals(2, certificate.getTags().size());
+    }
+
+    @Test
+    void importCertificatesBrokenInput() throws CustomException {
+        String json = """
+                [
+                {"name":"a","description":"d","price":10,"duration":5,"tags":[]},
+                {"name":"b","description":"d","price":20,"duration":5,"tags":[]},
+                {"name":"c","description":"d","price":30,"duration":5,"tags":[]},
+                {"name":"d",
+                """;
+        List<List<GiftCertificate>> written = captureWritten();
+
+        ImportJobDto actual = service.importCertificates(toStream(json), ImportFormat.JSON);
+
+        Assertions.assertEquals(ImportJobStatus.FAILED, actual.getStatus());
+        Assertions.assertEquals(3, actual.getCreated());
+        Assertions.assertEquals(2, written.size());
+        Assertions.assertTrue(actual.getErrors().get(0).startsWith("row 3 (40003)"));
+    }
+
+    @Test
+    void importCertificatesFailedChunk() throws CustomException {
+        String json = """
+                [
+                {"name":"a","description":"d","price":10,"duration":5,"tags":[]},
+                {"name":"b","description":"d","price":20,"duration":5,"tags":[]},
+                {"name":"c","description":"d","price":30,"duration":5,"tags":[]}
+                ]""";
+        Mockito.doThrow(new IllegalStateException("batch failed"))
+                .doNothing()
+                .when(daoMock).saveAllInBatch(Mockito.anyList());
+
+        ImportJobDto actual = service.importCertificates(toStream(json), ImportFormat.JSON);
+
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, actual.getStatus());
+        Assertions.assertEquals(3, actual.getProcessed());
+        Assertions.assertEquals(1, actual.getCreated());
+        Assertions.assertEquals(2, actual.getFailed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCertificatesIgnoreCase() throws CustomException {
+        String json = """
+                [
+                {"name":"a","description":"d","price":10,"duration":5,"tags":[{"name":"Spa"},{"name":"TAG_1"}]},
+                {"name":"b","description":"d","price":10,"duration":5,"tags":[{"name":"spa"}]},
+                {"name":"A","description":"D","price":10,"duration":5,"tags":[]}
+                ]""";
+        CustomTag existingTag = new CustomTag(1L, "tag_1");
+        CustomTag newTag = new CustomTag(2L, "Spa");
+        Mockito.when(tagDaoMock.findAllByNameIn(Mockito.anyCollection())).thenReturn(List.of(existingTag));
+        Mockito.when(tagDaoMock.saveAll(Mockito.anyIterable())).thenReturn(List.of(newTag));
+        List<List<GiftCertificate>> written = captureWritten();
+        Mockito.when(daoMock.findAllKeysByNameIn(Mockito.anyCollection())).thenAnswer(invocation ->
+                written.stream()
+                        .flatMap(List::stream)
+                        .map(c -> new CertificateKey(c.getName(), c.getDescription(), c.getPrice(), c.getDuration()))
+                        .toList());
+
+        ImportJobDto actual = service.importCertificates(toStream(json), ImportFormat.JSON);
+
+        ArgumentCaptor<Iterable<CustomTag>> newTags = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(tagDaoMock).saveAll(newTags.capture());
+        Assertions.assertEquals(1, ((List<CustomTag>) newTags.getValue()).size());
+        Assertions.assertEquals(2, actual.getCreated());
+        Assertions.assertEquals(1, actual.getDuplicates());
+        Assertions.assertEquals(Set.of(newTag, existingTag), written.get(0).get(0).getTags());
+        Assertions.assertEquals(Set.of(newTag), written.get(0).get(1).getTags());
+    }
+
+    @Test
+    void importCertificatesInBackground() throws CustomException {
+        List<Runnable> tasks = new ArrayList<>();
+        CertificateImportService backgroundService = createService(tasks::add);
+
+        ImportJobDto started = backgroundService.importCertificates(toStream("[]"), ImportFormat.JSON);
+        tasks.forEach(Runnable::run);
+        ImportJobDto finished = backgroundService.findJobById(started.getId());
+
+        Assertions.assertEquals(ImportJobStatus.RUNNING, started.getStatus());
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, finished.getStatus());
+    }
+
+    @Test
+    void importCertificatesQueueFullException() {
+        CertificateImportService busyService = createService(task -> {
+            throw new RejectedExecutionException("queue is full");
+        });
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> busyService.importCertificates(toStream("[]"), ImportFormat.JSON));
+
+        Assertions.assertEquals(CustomErrorCode.TOO_MANY_REQUESTS, e.getCustomErrorCode());
+    }
+
+    @Test
+    void importCertificatesNoFreeSlotException() throws CustomException {
+        CertificateImportService busyService = createService(task -> {
+        });
+        busyService.importCertificates(toStream("[]"), ImportFormat.JSON);
+        busyService.importCertificates(toStream("[]"), ImportFormat.JSON);
+        InputStream notRead = Mockito.mock(InputStream.class);
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> busyService.importCertificates(notRead, ImportFormat.JSON));
+
+        Assertions.assertEquals(CustomErrorCode.TOO_MANY_REQUESTS, e.getCustomErrorCode());
+        Mockito.verifyNoInteractions(notRead);
+    }
+
+    @Test
+    void importCertificatesTooLargeException() throws CustomException {
+        for (int i = 0; i < 3; i++) {
+            CustomException e = Assertions.assertThrows(CustomException.class,
+                    () -> service.importCertificates(new ByteArrayInputStream(new byte[2048]), ImportFormat.JSON));
+
+            Assertions.assertEquals(CustomErrorCode.PAYLOAD_TOO_LARGE, e.getCustomErrorCode());
+        }
+        ImportJobDto next = service.importCertificates(toStream("[]"), ImportFormat.JSON);
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, next.getStatus());
+    }
+
+    @Test
+    void findJobById() throws CustomException {
+        ImportJobDto job = service.importCertificates(toStream("[]"), ImportFormat.JSON);
+
+        ImportJobDto actual = service.findJobById(job.getId());
+
+        Assertions.assertEquals(job, actual);
+    }
+
+    @Test
+    void findJobByIdNotFoundException() {
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.findJobById(99999L));
+
+        Assertions.assertEquals(CustomErrorCode.RESOURCE_NOT_FOUND, e.getCustomErrorCode());
+    }
+
+    private CertificateImportService createService(Executor executor) {
+        return new CertificateImportServiceImpl(daoMock, tagDaoMock, validatorMock,
+                new TotalCountCache(false, 30), Mockito.mock(TagBitmapIndex.class), Mockito.mock(CacheService.class),
+                Mockito.mock(CatalogVersionDao.class),
+                new ImportJobRegistry(), new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                executor, new ObjectMapper().findAndRegisterModules(), 2, 1024, 1, 1);
+    }
+
+    private List<List<GiftCertificate>> captureWritten() {
+        List<List<GiftCertificate>> written = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            written.add(new ArrayList<>(invocation.getArgument(0)));
+            return null;
+        }).when(daoMock).saveAllInBatch(Mockito.anyList());
+        return written;
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
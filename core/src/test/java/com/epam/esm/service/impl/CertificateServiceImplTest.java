@@ -1,26 +1,37 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dao.CatalogVersionDao;
 import com.epam.esm.dao.CustomTagDao;
 import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.dao.entity.CatalogVersion;
 import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.Order;
 import com.epam.esm.enumeration.SearchParameterName;
+import com.epam.esm.enumeration.SortingType;
 import com.epam.esm.exception.CustomErrorCode;
 import com.epam.esm.exception.CustomException;
+import com.epam.esm.index.TagBitmapIndex;
+import com.epam.esm.service.CacheService;
 import com.epam.esm.service.CertificateService;
 import com.epam.esm.service.dto.CertificateDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.service.validator.CustomValidator;
+import com.epam.esm.util.ContinuationToken;
 import com.epam.esm.util.DtoEntityConvector;
+import com.epam.esm.util.TotalCountCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,13 +43,20 @@ class CertificateServiceImplTest {
     private GiftCertificateDao daoMock;
     private CustomTagDao tagDaoMock;
     private CustomValidator validatorMock;
+    private TagBitmapIndex tagIndexMock;
+    private CacheService cacheServiceMock;
+    private CatalogVersionDao versionDaoMock;
     private CertificateService service;
 
     public CertificateServiceImplTest() {
         this.daoMock = Mockito.mock(GiftCertificateDao.class);
         this.tagDaoMock = Mockito.mock(CustomTagDao.class);
         this.validatorMock = Mockito.mock(CustomValidator.class);
-        this.service = new CertificateServiceImpl(daoMock, validatorMock, tagDaoMock);
+        this.tagIndexMock = Mockito.mock(TagBitmapIndex.class);
+        this.cacheServiceMock = Mockito.mock(CacheService.class);
+        this.versionDaoMock = Mockito.mock(CatalogVersionDao.class);
+        this.service = new CertificateServiceImpl(daoMock, validatorMock, tagDaoMock, new TotalCountCache(false, 30),
+                tagIndexMock, cacheServiceMock, versionDaoMock, false);
     }
 
     @Test
@@ -87,37 +105,80 @@ class CertificateServiceImplTest {
     }
 
     @Test
-    void findAll() throws CustomException {
+    void findAllPageNotValidException() {
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.findAllPage(-1, -5));
+        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
+        CustomErrorCode actual = e.getCustomErrorCode();
+
+        Mockito.verify(validatorMock, Mockito.times(1))
+                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void findAllByCursor() throws CustomException {
         GiftCertificate certificate1 = new GiftCertificate();
-        certificate1.setId(1L);
+        certificate1.setId(3L);
         GiftCertificate certificate2 = new GiftCertificate();
-        certificate1.setId(2L);
-        Page<GiftCertificate> certificates = new PageImpl<>(List.of(certificate1, certificate2));
-        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
-        Mockito.when(daoMock.findAllByActive(Mockito.eq(true), Mockito.any(Pageable.class)))
+        certificate2.setId(4L);
+        List<GiftCertificate> certificates = List.of(certificate1, certificate2);
+        String cursor = ContinuationToken.encode(SortingType.DATE_ASC, LocalDateTime.parse("2022-02-01T12:00:00"),
+                "name", 2L);
+        Mockito.when(daoMock.findAllByKeyset(Mockito.any(), Mockito.eq(SortingType.DATE_ASC),
+                        Mockito.any(ContinuationToken.class), Mockito.eq(2)))
                 .thenReturn(certificates);
 
-        List<CertificateDto> expected = DtoEntityConvector.convertCertificates(certificates.toList());
-        List<CertificateDto> actual = service.findAll(1, 5);
+        List<CertificateDto> expected = DtoEntityConvector.convertCertificates(certificates);
+        List<CertificateDto> actual = service.findAllByCursor(cursor, 2);
 
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(daoMock, Mockito.times(1))
-                .findAllByActive(Mockito.eq(true), Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.times(1)).findAllByKeyset(Mockito.any(), Mockito.eq(SortingType.DATE_ASC),
+                Mockito.any(ContinuationToken.class), Mockito.eq(2));
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllNotValidException() {
-        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
+    void findAllByCursorNotValidException() {
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.findAllByCursor("not_valid_cursor", 5));
+        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
+        CustomErrorCode actual = e.getCustomErrorCode();
+
+        Mockito.verify(daoMock, Mockito.never()).findAllByKeyset(Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.anyInt());
+        Assertions.assertEquals(expected, actual);
+    }
 
+    @Test
+    void findAllByCursorOfAnotherSortingException() {
+        String cursor = ContinuationToken.encode(SortingType.NAME_DESC, LocalDateTime.parse("2022-02-01T12:00:00"),
+                "name", 2L);
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAll(-1, -5));
+                () -> service.findAllByCursor(cursor, 5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
+        Mockito.verify(daoMock, Mockito.never()).findAllByKeyset(Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.anyInt());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void findAllByParametersAndCursorRelevanceException() {
+        Map<SearchParameterName, String> parameters = new HashMap<>();
+        parameters.put(SearchParameterName.NAME, "name");
+        parameters.put(SearchParameterName.SORT_BY, SortingType.RELEVANCE.getType());
+        Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(true);
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.findAllByParametersAndCursor(parameters, "", 5));
+        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
+        CustomErrorCode actual = e.getCustomErrorCode();
+
+        Mockito.verify(daoMock, Mockito.never()).findAllByKeyset(Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.anyInt());
         Assertions.assertEquals(expected, actual);
     }
 
@@ -138,6 +199,7 @@ class CertificateServiceImplTest {
                 .findByIdAndActive(Mockito.anyLong(), Mockito.eq(true));
         Mockito.verify(daoMock, Mockito.times(1)).delete(Mockito.any());
         Mockito.verify(daoMock, Mockito.times(0)).save(Mockito.any(GiftCertificate.class));
+        Mockito.verify(versionDaoMock, Mockito.times(1)).incrementVersion(CatalogVersion.CATALOG);
     }
 
     @Test
@@ -317,6 +379,7 @@ class CertificateServiceImplTest {
         Mockito.verify(daoMock, Mockito.times(1))
                 .findByIdAndActive(Mockito.anyLong(), Mockito.eq(true));
         Mockito.verify(daoMock, Mockito.times(1)).save(Mockito.any(GiftCertificate.class));
+        Mockito.verify(cacheServiceMock, Mockito.times(1)).evictCertificate(Mockito.eq(1L));
         Assertions.assertEquals(expected, actual);
     }
 
@@ -370,39 +433,61 @@ class CertificateServiceImplTest {
     }
 
     @Test
-    void findAllByParameters() throws CustomException {
-        GiftCertificate certificate1 = new GiftCertificate();
-        certificate1.setId(1L);
-        GiftCertificate certificate2 = new GiftCertificate();
-        certificate2.setId(2L);
-        Page<GiftCertificate> certificates = new PageImpl<>(List.of(certificate1, certificate2));
+    void findAllByParametersPageFullTextOrderedByRelevance() throws CustomException {
+        CertificateService fullTextService = new CertificateServiceImpl(daoMock, validatorMock, tagDaoMock,
+                new TotalCountCache(false, 30), tagIndexMock, cacheServiceMock, versionDaoMock, true);
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
         Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(true);
-        Mockito.when(daoMock.findAll(Mockito.any(), Mockito.any(Pageable.class)))
-                .thenReturn(certificates);
+        Mockito.when(daoMock.findAllAsDto(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(new CertificateDto()));
+
+        Map<SearchParameterName, String> param = new HashMap<>();
+        param.put(SearchParameterName.NAME, "spa weekend");
+        param.put(SearchParameterName.ACTIVE, "true");
+        param.put(SearchParameterName.SORT_BY, "relevance");
+        fullTextService.findAllByParametersPage(param, 1, 10);
+
+        ArgumentCaptor<Pageable> paging = ArgumentCaptor.forClass(Pageable.class);
+        Mockito.verify(daoMock, Mockito.times(1)).findAllAsDto(Mockito.any(), paging.capture());
+        Assertions.assertTrue(paging.getValue().getSort().isUnsorted());
+    }
+
+    @Test
+    void findAllByParametersPage() throws CustomException {
+        List<CertificateDto> certificates = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            CertificateDto certificate = new CertificateDto();
+            certificate.setId(i);
+            certificates.add(certificate);
+        }
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(true);
+        Mockito.when(daoMock.findAllAsDto(Mockito.any(), Mockito.any(Pageable.class))).thenReturn(certificates);
+        Mockito.when(daoMock.count(Mockito.any())).thenReturn(101L);
 
         Map<SearchParameterName, String> param = new HashMap<>();
         param.put(SearchParameterName.TAG, "tag_1");
         param.put(SearchParameterName.ACTIVE, "true");
         param.put(SearchParameterName.SORT_BY, "date.asc");
-        List<CertificateDto> expected = DtoEntityConvector.convertCertificates(certificates.toList());
-        List<CertificateDto> actual = service.findAllByParameters(param, 1, 10);
+        PageDto<CertificateDto> expected = new PageDto<>(certificates, 11);
+        PageDto<CertificateDto> actual = service.findAllByParametersPage(param, 1, 10);
 
         Mockito.verify(validatorMock, Mockito.times(1))
                 .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
         Mockito.verify(validatorMock, Mockito.times(1))
                 .validateSearchParameters(Mockito.anyMap());
         Mockito.verify(daoMock, Mockito.times(1))
-                .findAll(Mockito.any(), Mockito.any(Pageable.class));
+                .findAllAsDto(Mockito.any(), Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.times(1)).count(Mockito.any());
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllByParametersNotValidException1() {
+    void findAllByParametersPageNotValidException1() {
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
 
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByParameters(new HashMap<>(), -1, -5));
+                () -> service.findAllByParametersPage(new HashMap<>(), -1, -5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
@@ -412,12 +497,12 @@ class CertificateServiceImplTest {
     }
 
     @Test
-    void findAllByParametersNotValidException2() {
+    void findAllByParametersPageNotValidException2() {
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
         Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(false);
 
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByParameters(new HashMap<>(), 1, 5));
+                () -> service.findAllByParametersPage(new HashMap<>(), 1, 5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
@@ -429,162 +514,171 @@ class CertificateServiceImplTest {
     }
 
     @Test
-    void findAllByTags() throws CustomException {
-        GiftCertificate certificate1 = new GiftCertificate();
-        certificate1.setId(1L);
-        GiftCertificate certificate2 = new GiftCertificate();
-        certificate2.setId(2L);
-        List<GiftCertificate> certificates = List.of(certificate1, certificate2);
+    void findAllByTagsPage() throws CustomException {
+        List<GiftCertificate> certificates = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            GiftCertificate certificate = new GiftCertificate();
+            certificate.setId(i);
+            certificates.add(certificate);
+        }
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
         Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(true);
         Mockito.when(daoMock.findAllByTagsNamesAndActive(Mockito.any(), Mockito.eq(true),
                 Mockito.any(Pageable.class))).thenReturn(certificates);
+        Mockito.when(daoMock.countByTagsNamesAndActive(Mockito.any(), Mockito.eq(true))).thenReturn(101);
 
-        List<CertificateDto> expected = DtoEntityConvector.convertCertificates(certificates);
-        List<CertificateDto> actual = service.findAllByTags(new String[]{"tag_1", "tag_2"}, 1, 5);
+        PageDto<CertificateDto> expected = new PageDto<>(DtoEntityConvector.convertCertificates(certificates), 11);
+        PageDto<CertificateDto> actual = service.findAllByTagsPage(new String[]{"tag_1", "tag_2"}, 1, 10);
 
         Mockito.verify(validatorMock, Mockito.times(1))
                 .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
         Mockito.verify(validatorMock, Mockito.times(2)).validateTagDto(Mockito.any());
         Mockito.verify(daoMock, Mockito.times(1)).findAllByTagsNamesAndActive(Mockito.any(),
                 Mockito.eq(true), Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.times(1))
+                .countByTagsNamesAndActive(Mockito.any(), Mockito.eq(true));
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findByTagsNotValidException1() {
-        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
-
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByTags(new String[]{"tag"}, -1, -5));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
-
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
+    void findAllByTagsFromIndex() throws CustomException {
+        GiftCertificate certificate1 = new GiftCertificate();
+        certificate1.setId(7L);
+        certificate1.setActive(true);
+        GiftCertificate certificate2 = new GiftCertificate();
+        certificate2.setId(3L);
+        certificate2.setActive(true);
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(true);
+        Mockito.when(tagIndexMock.findAllByTagsNames(Mockito.any()))
+                .thenReturn(Optional.of(RoaringBitmap.bitmapOf(3, 7, 9)));
+        Mockito.when(daoMock.findAllById(Mockito.eq(List.of(3L, 7L))))
+                .thenReturn(List.of(certificate1, certificate2));
+
+        PageDto<CertificateDto> expected = new PageDto<>(
+                DtoEntityConvector.convertCertificates(List.of(certificate2, certificate1)), 2);
+        PageDto<CertificateDto> actual = service.findAllByTagsPage(new String[]{"tag_1", "tag_2"}, 1, 2);
+
+        Mockito.verify(daoMock, Mockito.never()).findAllByTagsNamesAndActive(Mockito.any(), Mockito.anyBoolean(),
+                Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.never()).countByTagsNamesAndActive(Mockito.any(), Mockito.anyBoolean());
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findByTagsNotValidException2() {
+    void findAllByTagsFromIndexSkipsInactive() throws CustomException {
+        GiftCertificate certificate1 = new GiftCertificate();
+        certificate1.setId(3L);
+        certificate1.setActive(true);
+        GiftCertificate certificate2 = new GiftCertificate();
+        certificate2.setId(7L);
+        GiftCertificate certificate3 = new GiftCertificate();
+        certificate3.setId(9L);
+        certificate3.setActive(true);
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
-        Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(false);
+        Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(true);
+        Mockito.when(tagIndexMock.findAllByTagsNames(Mockito.any()))
+                .thenReturn(Optional.of(RoaringBitmap.bitmapOf(3, 7, 9, 12)));
+        Mockito.when(daoMock.findAllById(Mockito.eq(List.of(3L, 7L))))
+                .thenReturn(List.of(certificate2, certificate1));
+        Mockito.when(daoMock.findAllById(Mockito.eq(List.of(9L))))
+                .thenReturn(List.of(certificate3));
 
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByTags(new String[]{"wrong tag 1"}, 1, 5));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
+        PageDto<CertificateDto> expected = new PageDto<>(
+                DtoEntityConvector.convertCertificates(List.of(certificate1, certificate3)), 2);
+        PageDto<CertificateDto> actual = service.findAllByTagsPage(new String[]{"tag_1", "tag_2"}, 1, 2);
 
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(validatorMock, Mockito.times(1)).validateTagDto(Mockito.any());
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllLastPage() throws CustomException {
-        Mockito.when(daoMock.countByActive(Mockito.eq(true))).thenReturn(101L);
-
-        int expected = 11;
-        int actual = service.findAllLastPage(10);
-
-        Mockito.verify(daoMock, Mockito.times(1)).countByActive(Mockito.eq(true));
-        Assertions.assertEquals(expected, actual);
-    }
+    void findByTagsNotValidException1() {
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
 
-    @Test
-    void findAllLastPageNotValidException() {
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllLastPage(-10));
+                () -> service.findAllByTagsPage(new String[]{"tag"}, -1, -5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
-        Assertions.assertEquals(expected, actual);
-    }
-
-    @Test
-    void findAllByParametersLastPage() throws CustomException {
-        Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(true);
-        Mockito.when(daoMock.count(Mockito.any())).thenReturn(101L);
-
-        Map<SearchParameterName, String> param = new HashMap<>();
-        param.put(SearchParameterName.TAG, "tag_1");
-        param.put(SearchParameterName.ACTIVE, "true");
-        param.put(SearchParameterName.SORT_BY, "date.asc");
-        int expected = 11;
-        int actual = service.findAllByParametersLastPage(param, 10);
-
         Mockito.verify(validatorMock, Mockito.times(1))
-                .validateSearchParameters(Mockito.anyMap());
-        Mockito.verify(daoMock, Mockito.times(1)).count(Mockito.any());
+                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllByParametersLastPageNotValidException1() {
-        Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(false);
+    void findByTagsNotValidException2() {
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(false);
 
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByParametersLastPage(new HashMap<>(), 5));
+                () -> service.findAllByTagsPage(new String[]{"wrong tag 1"}, 1, 5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
         Mockito.verify(validatorMock, Mockito.times(1))
-                .validateSearchParameters(Mockito.anyMap());
+                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
+        Mockito.verify(validatorMock, Mockito.times(1)).validateTagDto(Mockito.any());
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllByParametersLastPageNotValidException2() {
-        Mockito.when(validatorMock.validateSearchParameters(Mockito.anyMap())).thenReturn(true);
+    void findAllPage() throws CustomException {
+        List<CertificateDto> certificates = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            CertificateDto certificate = new CertificateDto();
+            certificate.setId(i);
+            certificates.add(certificate);
+        }
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(daoMock.findAllAsDto(Mockito.any(), Mockito.any(Pageable.class))).thenReturn(certificates);
+        Mockito.when(daoMock.countByActive(Mockito.eq(true))).thenReturn(101L);
 
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByParametersLastPage(new HashMap<>(), -5));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
+        PageDto<CertificateDto> expected = new PageDto<>(certificates, 11);
+        PageDto<CertificateDto> actual = service.findAllPage(1, 10);
 
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validateSearchParameters(Mockito.anyMap());
+        Mockito.verify(daoMock, Mockito.times(1)).findAllAsDto(Mockito.any(), Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.times(1)).countByActive(Mockito.eq(true));
+        Mockito.verify(daoMock, Mockito.never()).findAllByActive(Mockito.anyBoolean(), Mockito.any(Pageable.class));
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllByTagsLastPage() throws CustomException {
-        Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(true);
-        Mockito.when(daoMock.countByTagsNamesAndActive(Mockito.any(), Mockito.eq(true))).thenReturn(101);
+    void findAllPageEstimatedTotal() throws CustomException {
+        CertificateService estimatedService = new CertificateServiceImpl(daoMock, validatorMock, tagDaoMock,
+                new TotalCountCache(true, 30), tagIndexMock, cacheServiceMock, versionDaoMock, false);
+        List<CertificateDto> certificates = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            CertificateDto certificate = new CertificateDto();
+            certificate.setId(i);
+            certificates.add(certificate);
+        }
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(daoMock.findAllAsDto(Mockito.any(), Mockito.any(Pageable.class))).thenReturn(certificates);
+        Mockito.when(daoMock.countByActive(Mockito.eq(true))).thenReturn(101L);
 
+        estimatedService.findAllPage(1, 10);
         int expected = 11;
-        int actual = service.findAllByTagsLastPage(new String[]{"tag_1", "tag_2"}, 10);
+        int actual = estimatedService.findAllPage(2, 10).getLastPage();
 
-        Mockito.verify(validatorMock, Mockito.times(2)).validateTagDto(Mockito.any());
-        Mockito.verify(daoMock, Mockito.times(1))
-                .countByTagsNamesAndActive(Mockito.any(), Mockito.eq(true));
-        Assertions.assertEquals(expected, actual);
-    }
-
-    @Test
-    void findAllByTagsLastPageNotValidException1() {
-        Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(false);
-
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByTagsLastPage(new String[]{"wrong tag 1"},  10));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
-
-        Mockito.verify(validatorMock, Mockito.times(1)).validateTagDto(Mockito.any());
+        Mockito.verify(daoMock, Mockito.times(2)).findAllAsDto(Mockito.any(), Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.times(1)).countByActive(Mockito.eq(true));
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllByTagsLastPageNotValidException2() {
+    void findAllByTagsPageNotFullPage() throws CustomException {
+        GiftCertificate certificate1 = new GiftCertificate();
+        certificate1.setId(1L);
+        List<GiftCertificate> certificates = List.of(certificate1);
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
         Mockito.when(validatorMock.validateTagDto(Mockito.any())).thenReturn(true);
+        Mockito.when(daoMock.findAllByTagsNamesAndActive(Mockito.any(), Mockito.eq(true),
+                Mockito.any(Pageable.class))).thenReturn(certificates);
 
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByTagsLastPage(new String[]{"tag"},  -10));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
+        int expected = 3;
+        int actual = service.findAllByTagsPage(new String[]{"tag_1", "tag_2"}, 3, 5).getLastPage();
 
-        Mockito.verify(validatorMock, Mockito.times(1)).validateTagDto(Mockito.any());
+        Mockito.verify(daoMock, Mockito.never()).countByTagsNamesAndActive(Mockito.any(), Mockito.anyBoolean());
         Assertions.assertEquals(expected, actual);
     }
 }
\ No newline at end of file
@@ -6,22 +6,29 @@ import com.epam.esm.dao.UserDao;
 import com.epam.esm.dao.entity.GiftCertificate;
 import com.epam.esm.dao.entity.Order;
 import com.epam.esm.dao.entity.User;
+import com.epam.esm.event.OrderOutbox;
 import com.epam.esm.exception.CustomErrorCode;
 import com.epam.esm.exception.CustomException;
 import com.epam.esm.service.OrderService;
 import com.epam.esm.service.dto.CertificateDto;
 import com.epam.esm.service.dto.OrderDto;
+import com.epam.esm.service.dto.OrderResultDto;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.validator.CustomValidator;
 import com.epam.esm.util.DtoEntityConvector;
+import com.epam.esm.util.TotalCountCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 class OrderServiceImplTest {
 
@@ -29,6 +36,7 @@ class OrderServiceImplTest {
     private CustomValidator validatorMock;
     private GiftCertificateDao certificateDaoMock;
     private UserDao userDaoMock;
+    private OrderOutbox outboxMock;
     private OrderService service;
 
     public OrderServiceImplTest() {
@@ -36,36 +44,18 @@ class OrderServiceImplTest {
         this.validatorMock = Mockito.mock(CustomValidator.class);
         this.certificateDaoMock = Mockito.mock(GiftCertificateDao.class);
         this.userDaoMock = Mockito.mock(UserDao.class);
-        this.service = new OrderServiceImpl(daoMock, validatorMock, certificateDaoMock, userDaoMock);
+        this.outboxMock = Mockito.mock(OrderOutbox.class);
+        this.service = new OrderServiceImpl(daoMock, validatorMock, certificateDaoMock, userDaoMock,
+                new TotalCountCache(false, 30), outboxMock,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), 2);
     }
 
     @Test
-    void findAllByUser() throws CustomException {
-        Order order1 = new Order();
-        order1.setId(1L);
-        Order order2 = new Order();
-        order2.setId(1L);
-        List<Order> orders = List.of(order1, order2);
-        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
-        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
-        Mockito.when(daoMock.findAllByUserId(Mockito.anyLong(), Mockito.any(Pageable.class))).thenReturn(orders);
-        List<OrderDto> expected = DtoEntityConvector.convertOrders(orders);
-        List<OrderDto> actual = service.findAllByUser(1L, 1, 5);
-
-        Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(daoMock, Mockito.times(1))
-                .findAllByUserId(Mockito.anyLong(), Mockito.any(Pageable.class));
-        Assertions.assertEquals(expected, actual);
-    }
-
-    @Test
-    void findAllByUserNotValidException1() {
+    void findAllByUserPageNotValidException1() {
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(false);
 
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByUser(-1L, 1, 5));
+                () -> service.findAllByUserPage(-1L, 1, 5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
@@ -74,12 +64,12 @@ class OrderServiceImplTest {
     }
 
     @Test
-    void findAllByUserNotValidException2() {
+    void findAllByUserPageNotValidException2() {
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
 
         CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByUser(1L, -1, -5));
+                () -> service.findAllByUserPage(1L, -1, -5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
@@ -90,43 +80,37 @@ class OrderServiceImplTest {
     }
 
     @Test
-    void findAllByUserLastPage() throws CustomException {
+    void findAllByUserPage() throws CustomException {
+        List<Order> orders = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            Order order = new Order();
+            order.setId(i);
+            orders.add(order);
+        }
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(daoMock.findAllByUserId(Mockito.anyLong(), Mockito.any(Pageable.class))).thenReturn(orders);
         Mockito.when(daoMock.countByUserId(Mockito.anyLong())).thenReturn(101);
 
-        int expected = 11;
-        int actual = service.findAllByUserLastPage(1L, 10);
+        PageDto<OrderDto> expected = new PageDto<>(DtoEntityConvector.convertOrders(orders), 11);
+        PageDto<OrderDto> actual = service.findAllByUserPage(1L, 1, 10);
 
-        Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
         Mockito.verify(daoMock, Mockito.times(1))
-                .countByUserId(Mockito.anyLong());
-        Assertions.assertEquals(expected, actual);
-    }
-
-    @Test
-    void findAllByUserLastPageNotValidException1() {
-        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(false);
-
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByUserLastPage(-1L, 5));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
-
-        Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
+                .findAllByUserId(Mockito.anyLong(), Mockito.any(Pageable.class));
+        Mockito.verify(daoMock, Mockito.times(1)).countByUserId(Mockito.anyLong());
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllByUserLastPageNotValidException2() {
+    void findAllByUserVersion() throws CustomException {
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(daoMock.countByUserId(Mockito.anyLong())).thenReturn(101);
 
-        CustomException e = Assertions.assertThrows(CustomException.class,
-                () -> service.findAllByUserLastPage(1L, -5));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
+        String actual = service.findAllByUserVersion(1L);
 
-        Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
-        Assertions.assertEquals(expected, actual);
+        Mockito.verify(daoMock, Mockito.times(1)).countByUserId(Mockito.anyLong());
+        Mockito.verify(daoMock, Mockito.never()).findAllByUserId(Mockito.anyLong(), Mockito.any());
+        Assertions.assertEquals("101", actual);
     }
 
     @Test
@@ -197,8 +181,8 @@ class OrderServiceImplTest {
         Mockito.when(validatorMock.validateCertificateList(Mockito.anyList())).thenReturn(true);
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
         Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(certificateDaoMock.findByIdAndActive(1L, true)).thenReturn(Optional.of(certificate1));
-        Mockito.when(certificateDaoMock.findByIdAndActive(2L, true)).thenReturn(Optional.of(certificate2));
+        Mockito.when(certificateDaoMock.findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true)))
+                .thenReturn(List.of(certificate1, certificate2));
         Mockito.when(daoMock.save(Mockito.any(Order.class))).thenReturn(order);
 
         OrderDto actual = service.create(35L, dtos);
@@ -207,9 +191,11 @@ class OrderServiceImplTest {
         Mockito.verify(validatorMock, Mockito.times(1)).validateCertificateList(Mockito.anyList());
         Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
         Mockito.verify(userDaoMock, Mockito.times(1)).findById(Mockito.anyLong());
-        Mockito.verify(certificateDaoMock, Mockito.times(1)).findByIdAndActive(1L, true);
-        Mockito.verify(certificateDaoMock, Mockito.times(1)).findByIdAndActive(2L, true);
+        Mockito.verify(certificateDaoMock, Mockito.times(1))
+                .findAllByIdInAndActive(Mockito.eq(Set.of(1L, 2L)), Mockito.eq(true));
+        Mockito.verify(certificateDaoMock, Mockito.never()).findByIdAndActive(Mockito.anyLong(), Mockito.anyBoolean());
         Mockito.verify(daoMock, Mockito.times(1)).save(Mockito.any());
+        Mockito.verify(outboxMock, Mockito.times(1)).append(List.of(order));
         Assertions.assertEquals(expected, actual);
     }
 
@@ -269,8 +255,8 @@ class OrderServiceImplTest {
         Mockito.when(validatorMock.validateCertificateList(Mockito.anyList())).thenReturn(true);
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
         Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(certificateDaoMock.findByIdAndActive(Mockito.anyLong(), Mockito.eq(true)))
-                .thenReturn(Optional.empty());
+        Mockito.when(certificateDaoMock.findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true)))
+                .thenReturn(List.of());
 
         CustomException e = Assertions.assertThrows(CustomException.class,
                 () -> service.create(35L, List.of(dto)));
@@ -281,7 +267,7 @@ class OrderServiceImplTest {
         Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
         Mockito.verify(userDaoMock, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(certificateDaoMock, Mockito.times(1))
-                .findByIdAndActive(Mockito.anyLong(), Mockito.eq(true));
+                .findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true));
         Assertions.assertEquals(expected, actual);
     }
 
@@ -298,8 +284,8 @@ class OrderServiceImplTest {
         Mockito.when(validatorMock.validateCertificateList(Mockito.anyList())).thenReturn(true);
         Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
         Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(certificateDaoMock.findByIdAndActive(Mockito.anyLong(), Mockito.eq(true)))
-                .thenReturn(Optional.of(certificate));
+        Mockito.when(certificateDaoMock.findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true)))
+                .thenReturn(List.of(certificate));
 
         CustomException e = Assertions.assertThrows(CustomException.class,
                 () -> service.create(35L, List.of(dto)));
@@ -310,7 +296,125 @@ class OrderServiceImplTest {
         Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
         Mockito.verify(userDaoMock, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(certificateDaoMock, Mockito.times(1))
-                .findByIdAndActive(Mockito.anyLong(), Mockito.eq(true));
+                .findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true));
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void createDifferentConditionExceptionReportsAllCertificates() {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        dto1.setPrice(new BigDecimal("100.00"));
+        CertificateDto dto2 = new CertificateDto();
+        dto2.setId(2L);
+        dto2.setPrice(new BigDecimal("300.00"));
+        User user = new User();
+        user.setId(35L);
+        GiftCertificate certificate1 = new GiftCertificate();
+        certificate1.setId(1L);
+        certificate1.setPrice(new BigDecimal("200.00"));
+        GiftCertificate certificate2 = new GiftCertificate();
+        certificate2.setId(2L);
+        certificate2.setPrice(new BigDecimal("400.00"));
+        Mockito.when(validatorMock.validateCertificateList(Mockito.anyList())).thenReturn(true);
+        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(certificateDaoMock.findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true)))
+                .thenReturn(List.of(certificate1, certificate2));
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.create(35L, List.of(dto1, dto2)));
+        String expected = "certificate id=1; old price=100.00; new price=200.00, "
+                + "certificate id=2; old price=300.00; new price=400.00";
+        String actual = e.getMessage();
+
+        Assertions.assertEquals(CustomErrorCode.DIFFERENT_CONDITION, e.getCustomErrorCode());
         Assertions.assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAll() throws CustomException {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        dto1.setPrice(new BigDecimal("200.00"));
+        CertificateDto dto2 = new CertificateDto();
+        dto2.setId(2L);
+        dto2.setPrice(new BigDecimal("300.00"));
+        CertificateDto dto3 = new CertificateDto();
+        dto3.setId(3L);
+        dto3.setPrice(new BigDecimal("100.00"));
+        User user = new User();
+        user.setId(35L);
+        GiftCertificate certificate1 = new GiftCertificate();
+        certificate1.setId(1L);
+        certificate1.setPrice(new BigDecimal("200.00"));
+        GiftCertificate certificate2 = new GiftCertificate();
+        certificate2.setId(2L);
+        certificate2.setPrice(new BigDecimal("400.00"));
+        Mockito.when(validatorMock.validateCertificateList(Mockito.anyList())).thenReturn(true);
+        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(certificateDaoMock.findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true)))
+                .thenReturn(List.of(certificate1, certificate2));
+        long[] ids = {100L};
+        Mockito.doAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(o -> o.setId(ids[0]++));
+            return null;
+        }).when(daoMock).saveAllInBatch(Mockito.anyList());
+
+        List<OrderResultDto> actual = service.createAll(35L,
+                List.of(List.of(dto1), List.of(dto2), List.of(dto3), List.of(dto1, dto1), List.of(dto1)));
+
+        Mockito.verify(certificateDaoMock, Mockito.times(1))
+                .findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true));
+        Mockito.verify(daoMock, Mockito.times(2)).saveAllInBatch(Mockito.anyList());
+        Mockito.verify(outboxMock, Mockito.times(2)).append(Mockito.anyList());
+        Mockito.verify(daoMock, Mockito.never()).save(Mockito.any());
+        Assertions.assertEquals(5, actual.size());
+        Assertions.assertEquals(new OrderResultDto(0, 100L, new BigDecimal("200.00"), null, null), actual.get(0));
+        Assertions.assertEquals(CustomErrorCode.DIFFERENT_CONDITION.getCode(), actual.get(1).getErrorCode());
+        Assertions.assertEquals(CustomErrorCode.RESOURCE_NOT_FOUND.getCode(), actual.get(2).getErrorCode());
+        Assertions.assertEquals(new OrderResultDto(3, 101L, new BigDecimal("400.00"), null, null), actual.get(3));
+        Assertions.assertEquals(new OrderResultDto(4, 102L, new BigDecimal("200.00"), null, null), actual.get(4));
+    }
+
+    @Test
+    void createAllFailedChunk() throws CustomException {
+        CertificateDto dto1 = new CertificateDto();
+        dto1.setId(1L);
+        dto1.setPrice(new BigDecimal("200.00"));
+        User user = new User();
+        user.setId(35L);
+        GiftCertificate certificate1 = new GiftCertificate();
+        certificate1.setId(1L);
+        certificate1.setPrice(new BigDecimal("200.00"));
+        Mockito.when(validatorMock.validateCertificateList(Mockito.anyList())).thenReturn(true);
+        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(user));
+        Mockito.when(certificateDaoMock.findAllByIdInAndActive(Mockito.anyCollection(), Mockito.eq(true)))
+                .thenReturn(List.of(certificate1));
+        Mockito.doThrow(new IllegalStateException("batch failed"))
+                .doNothing()
+                .when(daoMock).saveAllInBatch(Mockito.anyList());
+
+        List<OrderResultDto> actual = service.createAll(35L, List.of(List.of(dto1), List.of(dto1), List.of(dto1)));
+
+        Assertions.assertEquals(CustomErrorCode.INTERNAL_SERVER_EXCEPTION.getCode(), actual.get(0).getErrorCode());
+        Assertions.assertEquals(CustomErrorCode.INTERNAL_SERVER_EXCEPTION.getCode(), actual.get(1).getErrorCode());
+        Assertions.assertEquals("order was not saved", actual.get(0).getErrorMessage());
+        Assertions.assertNull(actual.get(2).getErrorCode());
+    }
+
+    @Test
+    void createAllNotFoundException() {
+        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(userDaoMock.findById(Mockito.anyLong())).thenReturn(Optional.empty());
+
+        CustomException e = Assertions.assertThrows(CustomException.class,
+                () -> service.createAll(35L, List.of(List.of(new CertificateDto()))));
+
+        Mockito.verify(daoMock, Mockito.never()).saveAllInBatch(Mockito.anyList());
+        Assertions.assertEquals(CustomErrorCode.RESOURCE_NOT_FOUND, e.getCustomErrorCode());
+    }
+}
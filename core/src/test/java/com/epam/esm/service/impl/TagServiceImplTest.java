@@ -1,18 +1,26 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dao.CatalogVersionDao;
 import com.epam.esm.dao.CustomTagDao;
+import com.epam.esm.dao.entity.CatalogVersion;
 import com.epam.esm.dao.entity.CustomTag;
 import com.epam.esm.exception.CustomErrorCode;
 import com.epam.esm.exception.CustomException;
+import com.epam.esm.index.TagBitmapIndex;
+import com.epam.esm.index.TagUsageStatistics;
+import com.epam.esm.service.CacheService;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.dto.PageDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.service.validator.CustomValidator;
 import com.epam.esm.util.DtoEntityConvector;
+import com.epam.esm.util.TotalCountCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -22,12 +30,20 @@ class TagServiceImplTest {
 
     private CustomTagDao daoMock;
     private CustomValidator validatorMock;
+    private CacheService cacheServiceMock;
+    private TagUsageStatistics tagStatisticsMock;
+    private CatalogVersionDao versionDaoMock;
     private TagService service;
 
     public TagServiceImplTest() {
         this.daoMock = Mockito.mock(CustomTagDao.class);
         this.validatorMock = Mockito.mock(CustomValidator.class);
-        this.service = new TagServiceImpl(daoMock, validatorMock);
+        this.cacheServiceMock = Mockito.mock(CacheService.class);
+        this.tagStatisticsMock = Mockito.mock(TagUsageStatistics.class);
+        this.versionDaoMock = Mockito.mock(CatalogVersionDao.class);
+        this.service = new TagServiceImpl(daoMock, validatorMock, new TotalCountCache(false, 30),
+                Mockito.mock(TagBitmapIndex.class), cacheServiceMock, tagStatisticsMock,
+                versionDaoMock);
     }
 
     @Test
@@ -71,26 +87,10 @@ class TagServiceImplTest {
     }
 
     @Test
-    void findAll() throws CustomException {
-        List<CustomTag> tagList = List.of(new CustomTag(1L, "tag_1"), new CustomTag(2L, "tag_2"));
-        Page<CustomTag> tags = new PageImpl<>(tagList);
-        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
-        Mockito.when(daoMock.findAll((Pageable) Mockito.any())).thenReturn(tags);
-
-        List<TagDto> expected = DtoEntityConvector.convertTags(tags.toList());
-        List<TagDto> actual = service.findAll(1, 5);
-
-        Mockito.verify(validatorMock, Mockito.times(1))
-                .validatePageSize(Mockito.anyInt(), Mockito.anyInt());
-        Mockito.verify(daoMock, Mockito.times(1)).findAll((Pageable) Mockito.any());
-        Assertions.assertEquals(expected, actual);
-    }
-
-    @Test
-    void findAllNotValidException() {
+    void findAllPageNotValidException() {
         Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(false);
 
-        CustomException e = Assertions.assertThrows(CustomException.class, () -> service.findAll(-1, -5));
+        CustomException e = Assertions.assertThrows(CustomException.class, () -> service.findAllPage(-1, -5));
         CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
         CustomErrorCode actual = e.getCustomErrorCode();
 
@@ -111,6 +111,26 @@ class TagServiceImplTest {
         Mockito.verify(validatorMock, Mockito.times(1)).validateEntityId(Mockito.anyLong());
         Mockito.verify(daoMock, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(daoMock, Mockito.times(1)).delete(Mockito.any());
+        Mockito.verify(cacheServiceMock, Mockito.times(1)).evictTag(Mockito.eq(1L));
+        Mockito.verify(versionDaoMock, Mockito.times(1)).incrementVersion(CatalogVersion.CATALOG);
+    }
+
+    @Test
+    void deleteInvalidatesCertificateCounts() throws CustomException {
+        TotalCountCache countCache = new TotalCountCache(true, 30);
+        TagService estimatedService = new TagServiceImpl(daoMock, validatorMock, countCache,
+                Mockito.mock(TagBitmapIndex.class), cacheServiceMock, tagStatisticsMock, versionDaoMock);
+        Mockito.when(validatorMock.validateEntityId(Mockito.anyLong())).thenReturn(true);
+        Mockito.when(daoMock.findById(Mockito.anyLong())).thenReturn(Optional.of(new CustomTag(1L, "tag")));
+        Pageable paging = PageRequest.of(0, 10);
+        String key = "certificates:tags=[tag]";
+        countCache.count(key, paging, 10, () -> 30L);
+
+        estimatedService.delete(1L);
+
+        long expected = 0L;
+        long actual = countCache.count(key, paging, 10, () -> 0L);
+        Assertions.assertEquals(expected, actual);
     }
 
     @Test
@@ -188,6 +208,7 @@ class TagServiceImplTest {
     @Test
     void findTheMostWidelyTag() {
         CustomTag tag = new CustomTag(1L, "tag");
+        Mockito.when(tagStatisticsMock.findTheMostWidelyTag()).thenReturn(Optional.empty());
         Mockito.when(daoMock.findTheMostWidelyTag()).thenReturn(tag);
 
         TagDto expected = DtoEntityConvector.convert(tag);
@@ -198,22 +219,29 @@ class TagServiceImplTest {
     }
 
     @Test
-    void findAllLastPage() throws CustomException {
-        Mockito.when(daoMock.count()).thenReturn(101L);
+    void findTheMostWidelyTagFromStatistics() {
+        CustomTag tag = new CustomTag(1L, "tag");
+        Mockito.when(tagStatisticsMock.findTheMostWidelyTag()).thenReturn(Optional.of(tag));
 
-        int expected = 11;
-        int actual = service.findAllLastPage(10);
+        TagDto expected = DtoEntityConvector.convert(tag);
+        TagDto actual = service.findTheMostWidelyTag();
 
-        Mockito.verify(daoMock, Mockito.times(1)).count();
+        Mockito.verify(daoMock, Mockito.never()).findTheMostWidelyTag();
         Assertions.assertEquals(expected, actual);
     }
 
     @Test
-    void findAllLastPageNotValidException() {
-        CustomException e = Assertions.assertThrows(CustomException.class, () -> service.findAllLastPage(-1));
-        CustomErrorCode expected = CustomErrorCode.NOT_VALID_DATA;
-        CustomErrorCode actual = e.getCustomErrorCode();
+    void findAllPage() throws CustomException {
+        List<CustomTag> tagList = List.of(new CustomTag(1L, "tag_1"), new CustomTag(2L, "tag_2"));
+        Page<CustomTag> tags = new PageImpl<>(tagList, PageRequest.of(0, 2), 5);
+        Mockito.when(validatorMock.validatePageSize(Mockito.anyInt(), Mockito.anyInt())).thenReturn(true);
+        Mockito.when(daoMock.findAll((Pageable) Mockito.any())).thenReturn(tags);
+
+        PageDto<TagDto> expected = new PageDto<>(DtoEntityConvector.convertTags(tagList), 3);
+        PageDto<TagDto> actual = service.findAllPage(1, 2);
 
+        Mockito.verify(daoMock, Mockito.times(1)).findAll((Pageable) Mockito.any());
+        Mockito.verify(daoMock, Mockito.never()).count();
         Assertions.assertEquals(expected, actual);
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -21,12 +22,14 @@ class UserServiceImplTest {
 
     private UserDao userDaoMock;
     private CustomValidator validatorMock;
+    private PasswordEncoder passwordEncoderMock;
     private UserService service;
 
     public UserServiceImplTest() {
         this.userDaoMock = Mockito.mock(UserDao.class);
         this.validatorMock = Mockito.mock(CustomValidator.class);
-        this.service = new UserServiceImpl(userDaoMock, validatorMock);
+        this.passwordEncoderMock = Mockito.mock(PasswordEncoder.class);
+        this.service = new UserServiceImpl(userDaoMock, validatorMock, passwordEncoderMock);
     }
 
     @Test
@@ -83,6 +86,7 @@ class UserServiceImplTest {
         Mockito.when(validatorMock.validateUsername(Mockito.anyString())).thenReturn(true);
         Mockito.when(userDaoMock.findByLogin(Mockito.anyString())).thenReturn(Optional.empty());
         Mockito.when(validatorMock.validateRegistrationForm(Mockito.any())).thenReturn(true);
+        Mockito.when(passwordEncoderMock.encode(Mockito.anyString())).thenReturn(secretPassword);
         Mockito.when(userDaoMock.save(Mockito.any())).thenReturn(user);
 
         RegistrationFormDto form =
@@ -93,6 +97,7 @@ class UserServiceImplTest {
         Mockito.verify(validatorMock, Mockito.times(1)).validateUsername(Mockito.anyString());
         Mockito.verify(userDaoMock, Mockito.times(1)).findByLogin(Mockito.anyString());
         Mockito.verify(validatorMock, Mockito.times(1)).validateRegistrationForm(Mockito.any());
+        Mockito.verify(passwordEncoderMock, Mockito.times(1)).encode("ivan_password");
         Mockito.verify(userDaoMock, Mockito.times(1)).save(Mockito.any());
 
         Assertions.assertEquals(expected, actual);
@@ -0,0 +1,34 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.exception.CustomException;
+import com.epam.esm.service.VersionedReadService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class VersionedReadServiceImplTest {
+
+    private VersionedReadService service = new VersionedReadServiceImpl();
+
+    @Test
+    void findIfModifiedNotModified() throws CustomException {
+        AtomicBoolean contentRead = new AtomicBoolean();
+
+        Optional<String> actual = service.findIfModified(() -> "5", "5"::equals, () -> {
+            contentRead.set(true);
+            return "content";
+        });
+
+        Assertions.assertTrue(actual.isEmpty());
+        Assertions.assertFalse(contentRead.get());
+    }
+
+    @Test
+    void findIfModifiedModified() throws CustomException {
+        Optional<String> actual = service.findIfModified(() -> "6", "5"::equals, () -> "content");
+
+        Assertions.assertEquals(Optional.of("content"), actual);
+    }
+}
@@ -6,6 +6,7 @@ import com.epam.esm.service.dto.RegistrationFormDto;
 import com.epam.esm.service.dto.TagDto;
 import com.epam.esm.service.validator.CustomValidator;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -17,6 +18,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class CustomValidatorImplTest {
 
@@ -229,4 +236,37 @@ class CustomValidatorImplTest {
         boolean actual = validator.validateCertificateList(certificates);
         Assertions.assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateConcurrently() throws Exception {
+        int threads = 8;
+        int iterations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wrongResults = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            boolean valid = t % 2 == 0;
+            TagDto tag = new TagDto(valid ? "tag" : "tag tag");
+            String username = valid ? "user@mail.com" : "user@mail";
+            RegistrationFormDto form = new RegistrationFormDto(username, valid ? "Name" : "Name!", "pass");
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    if (validator.validateTagDto(tag) != valid
+                            || validator.validateUsername(username) != valid
+                            || validator.validateRegistrationForm(form) != valid) {
+                        wrongResults.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Assertions.assertEquals(0, wrongResults.get());
+    }
+}
@@ -0,0 +1,37 @@
+package com.epam.esm.service.validator.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.regex.Pattern;
+
+class TextScannerTest {
+
+    private static final Pattern WORD = Pattern.compile("\\w+");
+    private static final Pattern WORD_OR_SPACE = Pattern.compile("[\\w\\s]+");
+    private static final Pattern GRAPH_OR_SPACE = Pattern.compile("[\\p{Graph}\\s]+");
+    private static final Pattern PASSWORD = Pattern.compile("[\\p{Graph}&&[^\\<\\>]]{1,8}");
+    private static final Pattern USERNAME =
+            Pattern.compile("([\\d\\p{Lower}_\\-\\.]+)@[\\d\\p{Lower}_\\-]{2,}\\.\\p{Lower}{2,6}");
+
+    public static Object[] valuesDataProvider() {
+        return new Object[]{
+                "", " ", "tag", "tag_1", "Tag2", "tag tag", "tag\ttag\n", "tag!!!", "\u0442\u0435\u0433", "tag-1",
+                "Spa day & dinner, valid in 2022!", "description ", "<b>", "pa$$w0rd", "123456789",
+                "12345678", "a<b", "~", "user@mail.com", "first.last-1@mail_box.by", "user@mail", "@mail.com",
+                "user@m.com", "user@mail.c", "user@mail.comcom", "user@mail.co.uk", "User@mail.com",
+                "user@mail.Com", "user@@mail.com", "us@er@mail.com", "user@mail..com", ".@--.ab", "user @mail.com"
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("valuesDataProvider")
+    void matchesRegularExpressions(String value) {
+        Assertions.assertEquals(WORD.matcher(value).matches(), TextScanner.isWord(value));
+        Assertions.assertEquals(WORD_OR_SPACE.matcher(value).matches(), TextScanner.isWordOrSpace(value));
+        Assertions.assertEquals(GRAPH_OR_SPACE.matcher(value).matches(), TextScanner.isGraphOrSpace(value));
+        Assertions.assertEquals(PASSWORD.matcher(value).matches(), TextScanner.isPassword(value));
+        Assertions.assertEquals(USERNAME.matcher(value).matches(), TextScanner.isUsername(value));
+    }
+}
@@ -0,0 +1,100 @@
+package com.epam.esm.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry registry;
+    private PasswordEncoder delegateMock;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        delegateMock = Mockito.mock(PasswordEncoder.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void matchesCached() {
+        encoder = newEncoder(1, 10, Duration.ofMinutes(1));
+        Mockito.when(delegateMock.matches("password", "hash")).thenReturn(true);
+        Assertions.assertTrue(encoder.matches("password", "hash"));
+        Assertions.assertTrue(encoder.matches("password", "hash"));
+
+        Mockito.verify(delegateMock, Mockito.times(1)).matches("password", "hash");
+        Assertions.assertEquals(1, registry.find(BoundedPasswordEncoder.HASH_TIMER)
+                .tag("operation", "matches").timer().count());
+        Assertions.assertEquals(1, registry.find(BoundedPasswordEncoder.VERIFICATION_CACHE_HIT_COUNTER)
+                .counter().count());
+    }
+
+    @Test
+    void matchesWrongPasswordNotCached() {
+        encoder = newEncoder(1, 10, Duration.ofMinutes(1));
+        Mockito.when(delegateMock.matches("wrong", "hash")).thenReturn(false);
+        Assertions.assertFalse(encoder.matches("wrong", "hash"));
+        Assertions.assertFalse(encoder.matches("wrong", "hash"));
+
+        Mockito.verify(delegateMock, Mockito.times(2)).matches("wrong", "hash");
+    }
+
+    @Test
+    void matchesCacheDisabled() {
+        encoder = newEncoder(1, 10, Duration.ZERO);
+        Mockito.when(delegateMock.matches("password", "hash")).thenReturn(true);
+        Assertions.assertTrue(encoder.matches("password", "hash"));
+        Assertions.assertTrue(encoder.matches("password", "hash"));
+
+        Mockito.verify(delegateMock, Mockito.times(2)).matches("password", "hash");
+    }
+
+    @Test
+    void encodeRejectedWhenQueueIsFull() throws InterruptedException {
+        encoder = newEncoder(1, 1, Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(delegateMock.encode(Mockito.anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "hash";
+        });
+        Thread running = new Thread(() -> encoder.encode("first"));
+        Thread queued = new Thread(() -> encoder.encode("second"));
+        running.start();
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        queued.start();
+        while (registry.find(BoundedPasswordEncoder.QUEUE_GAUGE).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        Assertions.assertThrows(InternalAuthenticationServiceException.class, () -> encoder.encode("third"));
+        Assertions.assertEquals(1, registry.find(BoundedPasswordEncoder.REJECTED_COUNTER).counter().count());
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    private BoundedPasswordEncoder newEncoder(int threads, int queueCapacity, Duration cacheTtl) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+        return new BoundedPasswordEncoder(delegateMock, executor, Duration.ofSeconds(10), cacheTtl, 100, registry);
+    }
+}
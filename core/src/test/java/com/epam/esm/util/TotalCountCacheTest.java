@@ -0,0 +1,35 @@
+package com.epam.esm.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class TotalCountCacheTest {
+
+    private static final Pageable PAGING = PageRequest.of(0, 5);
+
+    @Test
+    void versionOfExact() {
+        TotalCountCache cache = new TotalCountCache(false, 30);
+
+        cache.count("key", PAGING, 5, () -> 100);
+
+        Assertions.assertEquals("7", cache.versionOf(7));
+    }
+
+    @Test
+    void versionOfEstimatedChangedWithCount() {
+        TotalCountCache cache = new TotalCountCache(true, 30);
+        cache.count("key", PAGING, 5, () -> 100);
+        String first = cache.versionOf(7);
+
+        cache.invalidate("key");
+        cache.count("key", PAGING, 5, () -> 200);
+        String changed = cache.versionOf(7);
+
+        Assertions.assertNotEquals(first, changed);
+        Assertions.assertEquals(changed, cache.versionOf(7));
+        Assertions.assertTrue(first.startsWith("7."));
+    }
+}